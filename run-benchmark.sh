@@ -2,9 +2,22 @@
 
 # JSON Performance Benchmark Execution Script
 # This script compiles the project, runs benchmarks, and generates HTML reports
+#
+# Usage: ./run-benchmark.sh [--with-export]
+#   --with-export  also run MappedExportBenchmark, which writes multi-GiB
+#                  export files on every iteration (off by default)
 
 set -e
 
+WITH_EXPORT=false
+for arg in "$@"; do
+    case "$arg" in
+        --with-export) WITH_EXPORT=true ;;
+        *) echo "Unknown option: $arg" >&2; exit 1 ;;
+    esac
+done
+EXTRA_RESULTS=(results/contention-results.json)
+
 echo "=========================================="
 echo "JSON Performance Benchmark Runner"
 echo "=========================================="
@@ -24,7 +37,7 @@ echo ""
 
 # Step 3: Run benchmarks
 echo "[3/4] Running JMH benchmarks..."
-echo "This may take 15-30 minutes depending on dataset sizes..."
+echo "The full suite takes about 8 hours; see README section 2 to run a subset..."
 echo ""
 
 # Create results directory if it doesn't exist
@@ -35,17 +48,44 @@ java -jar target/benchmarks.jar \
     -rf json \
     -rff results/benchmark-results.json \
     -prof gc \
+    -prof com.benchmark.perf.benchmark.PeakHeapProfiler \
+    -e ContentionBenchmark \
+    -e MappedExportBenchmark \
     -foe true
 
+# Thread sweep (1, 4, 16, 64 threads) for the scalability chart
+java -cp target/benchmarks.jar com.benchmark.perf.benchmark.ContentionBenchmark \
+    -rff results/contention-results.json \
+    -prof gc \
+    -foe true
+
+# Optional 1M/10M event file exports
+if [ "$WITH_EXPORT" = true ]; then
+    java -jar target/benchmarks.jar MappedExportBenchmark \
+        -rf json \
+        -rff results/export-results.json \
+        -prof com.benchmark.perf.benchmark.PeakHeapProfiler \
+        -foe true
+    EXTRA_RESULTS+=(results/export-results.json)
+fi
+
 echo ""
 echo "✓ Benchmarks complete"
 echo ""
 
+# Append this run to the history store for the trend charts
+java -cp target/benchmarks.jar com.benchmark.perf.report.BenchmarkHistory \
+    --history=results/history \
+    results/benchmark-results.json \
+    "${EXTRA_RESULTS[@]}"
+
 # Step 4: Generate HTML report
 echo "[4/4] Generating HTML report..."
 java -cp target/benchmarks.jar com.benchmark.perf.report.HtmlReportGenerator \
     results/benchmark-results.json \
-    results/report.html
+    results/report.html \
+    "${EXTRA_RESULTS[@]}" \
+    --history=results/history
 
 echo "✓ Report generated"
 echo ""
@@ -56,6 +96,11 @@ echo "=========================================="
 echo ""
 echo "Results saved to:"
 echo "  - JSON: results/benchmark-results.json"
+echo "  - JSON: results/contention-results.json"
+if [ "$WITH_EXPORT" = true ]; then
+    echo "  - JSON: results/export-results.json"
+fi
+echo "  - History: results/history/"
 echo "  - HTML: results/report.html"
 echo ""
 echo "Opening report in browser..."
@@ -0,0 +1,136 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.CborEventSerializer;
+import com.benchmark.perf.serializer.CompactBinaryEventSerializer;
+import com.benchmark.perf.serializer.JacksonStreamingEventDeserializer;
+import com.benchmark.perf.serializer.JacksonStreamingEventSerializer;
+import com.benchmark.perf.serializer.SmileEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventDeserializer;
+import com.benchmark.perf.serializer.Utf8ByteEventSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark weighing the CBOR, Smile and compact binary wire formats
+ * against JSON for service-to-service payloads: encode and decode throughput per payload size,
+ * plus the payload size itself.
+ *
+ * <p>
+ * Encoders write into a counting sink, and the byte count is reported through
+ * the {@code wireBytes} aux counter; the HTML report turns it into a Bytes on
+ * Wire column. Decoders read a payload prepared once in setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class BinaryFormatBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    private int eventCount;
+
+    private List<CalendarEvent> events;
+    private byte[] cborPayload;
+    private byte[] smilePayload;
+    private byte[] compactPayload;
+    private byte[] jsonPayload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        events = EventDataGenerator.generateEvents(eventCount);
+        cborPayload = CborEventSerializer.INSTANCE.serialize(events);
+        smilePayload = SmileEventSerializer.INSTANCE.serialize(events);
+        compactPayload = CompactBinaryEventSerializer.INSTANCE.serialize(events);
+        jsonPayload = Utf8ByteEventSerializer.INSTANCE.serialize(events).getBytes(StandardCharsets.UTF_8);
+        System.out.printf("Payload for %,d events: JSON %,d bytes, CBOR %,d bytes (%.1f%%), Smile %,d bytes (%.1f%%), "
+                + "Compact %,d bytes (%.1f%%)%n", eventCount, jsonPayload.length,
+                cborPayload.length, 100.0 * cborPayload.length / jsonPayload.length,
+                smilePayload.length, 100.0 * smilePayload.length / jsonPayload.length,
+                compactPayload.length, 100.0 * compactPayload.length / jsonPayload.length);
+    }
+
+    /**
+     * Bytes written per iteration. An OPERATIONS counter is normalized like
+     * the primary score, so the ratio of the two is bytes per operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class WireBytes extends OutputStream {
+
+        public long wireBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            wireBytes++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            wireBytes += length;
+        }
+    }
+
+    @Benchmark
+    public void benchmarkCborEncode(WireBytes sink) throws IOException {
+        CborEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    public void benchmarkSmileEncode(WireBytes sink) throws IOException {
+        SmileEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    public void benchmarkCompactEncode(WireBytes sink) throws IOException {
+        CompactBinaryEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    public void benchmarkJacksonStreamingEncode(WireBytes sink) throws IOException {
+        JacksonStreamingEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    public void benchmarkUtf8BytesEncode(WireBytes sink) throws IOException {
+        Utf8ByteEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkCborDecode() {
+        return CborEventSerializer.INSTANCE.deserialize(cborPayload);
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkSmileDecode() {
+        return SmileEventSerializer.INSTANCE.deserialize(smilePayload);
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkCompactDecode() {
+        return CompactBinaryEventSerializer.INSTANCE.deserialize(compactPayload);
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkJacksonStreamingDecode() {
+        return JacksonStreamingEventDeserializer.INSTANCE.deserialize(jsonPayload);
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkUtf8BytesDecode() {
+        return Utf8ByteEventDeserializer.INSTANCE.deserialize(jsonPayload);
+    }
+}
@@ -2,26 +2,43 @@ package com.benchmark.perf.benchmark;
 
 import com.benchmark.perf.generator.EventDataGenerator;
 import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.CalendarEventSerializer;
+import com.benchmark.perf.serializer.CompressedEventSerializer;
+import com.benchmark.perf.serializer.GeneratedEventSerializer;
 import com.benchmark.perf.serializer.GsonEventSerializer;
 import com.benchmark.perf.serializer.JacksonDatabindEventSerializer;
 import com.benchmark.perf.serializer.JacksonStreamingEventSerializer;
 import com.benchmark.perf.serializer.MoshiEventSerializer;
 import com.benchmark.perf.serializer.OrgJsonEventSerializer;
+import com.benchmark.perf.serializer.ParallelChunkedEventSerializer;
 import com.benchmark.perf.serializer.StringBuilderEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventSerializer;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * JMH Benchmark comparing org.json library vs StringBuilder for calendar event
  * serialization.
+ *
+ * <p>
+ * The String-returning serialize methods also run in {@link Mode#SampleTime},
+ * which records the latency of individual calls, so their JSON results carry
+ * {@code scorePercentiles} (p50 to max) next to the mean; the HTML report
+ * charts them to expose GC-induced tail latency. The stream and gzip variants
+ * stay on the two summary modes to keep the run length down.
  */
 @State(Scope.Thread)
 @BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
-@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g" })
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
 public class CalendarEventBenchmark {
 
     @Param({ "100", "1000", "10000", "50000" })
@@ -35,6 +52,12 @@ public class CalendarEventBenchmark {
 
     private List<CalendarEvent> events;
 
+    /**
+     * Byte sink for the serializeTo benchmarks; discards output so only the
+     * encode path is measured, not socket or buffer growth costs.
+     */
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
     @Setup(Level.Trial)
     public void setup() {
         System.out.println("Generating " + eventCount + " calendar events for benchmark...");
@@ -43,6 +66,7 @@ public class CalendarEventBenchmark {
     }
 
     @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
     @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     public String benchmarkOrgJson(Blackhole bh) {
@@ -52,6 +76,7 @@ public class CalendarEventBenchmark {
     }
 
     @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
     @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     public String benchmarkStringBuilder(Blackhole bh) {
@@ -61,6 +86,7 @@ public class CalendarEventBenchmark {
     }
 
     @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
     @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     public String benchmarkJacksonDatabind(Blackhole bh) {
@@ -70,6 +96,7 @@ public class CalendarEventBenchmark {
     }
 
     @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
     @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     public String benchmarkJacksonStreaming(Blackhole bh) {
@@ -79,6 +106,7 @@ public class CalendarEventBenchmark {
     }
 
     @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
     @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     public String benchmarkGson(Blackhole bh) {
@@ -88,6 +116,7 @@ public class CalendarEventBenchmark {
     }
 
     @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
     @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     public String benchmarkMoshi(Blackhole bh) {
@@ -96,6 +125,215 @@ public class CalendarEventBenchmark {
         return json;
     }
 
+    @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public String benchmarkParallelChunked(Blackhole bh) {
+        String json = ParallelChunkedEventSerializer.INSTANCE.serialize(events);
+        bh.consume(json);
+        return json;
+    }
+
+    @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public String benchmarkUtf8Bytes(Blackhole bh) {
+        String json = Utf8ByteEventSerializer.INSTANCE.serialize(events);
+        bh.consume(json);
+        return json;
+    }
+
+    /**
+     * Same encoding as {@link #benchmarkUtf8Bytes}, but the per-field code is
+     * generated at build time from {@code CalendarEvent}.
+     */
+    @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public String benchmarkGenerated(Blackhole bh) {
+        String json = GeneratedEventSerializer.INSTANCE.serialize(events);
+        bh.consume(json);
+        return json;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkOrgJsonToStream() throws IOException {
+        OrgJsonEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkStringBuilderToStream() throws IOException {
+        StringBuilderEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkJacksonDatabindToStream() throws IOException {
+        JacksonDatabindEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkJacksonStreamingToStream() throws IOException {
+        JacksonStreamingEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkGsonToStream() throws IOException {
+        GsonEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkMoshiToStream() throws IOException {
+        MoshiEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkUtf8BytesToStream() throws IOException {
+        Utf8ByteEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkGeneratedToStream() throws IOException {
+        GeneratedEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkStringBuilderGzip(CompressionState compression, CompressedBytes bytes) throws IOException {
+        compression.stringBuilder.serializeTo(events, bytes);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkJacksonStreamingGzip(CompressionState compression, CompressedBytes bytes) throws IOException {
+        compression.jacksonStreaming.serializeTo(events, bytes);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void benchmarkUtf8BytesGzip(CompressionState compression, CompressedBytes bytes) throws IOException {
+        compression.utf8Bytes.serializeTo(events, bytes);
+    }
+
+    /**
+     * The pattern the compressed mode replaces: finish the String, encode it,
+     * then gzip it into a fresh buffer with a fresh Deflater.
+     */
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public byte[] benchmarkUtf8BytesGzipString(CompressionState compression, CompressedBytes bytes)
+            throws IOException {
+        String json = Utf8ByteEventSerializer.INSTANCE.serialize(events);
+        byte[] raw = json.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new LeveledGzipOutputStream(compressed, compression.compressionLevel)) {
+            gzip.write(raw);
+        }
+        bytes.rawBytes += raw.length;
+        bytes.wireBytes += compressed.size();
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Compression level for the gzip benchmarks only; kept out of the main
+     * state so the plain serializers are not re-run per level.
+     */
+    @State(Scope.Thread)
+    public static class CompressionState {
+
+        @Param({ "1", "6", "9" })
+        private int compressionLevel;
+
+        private Gzipped stringBuilder;
+        private Gzipped jacksonStreaming;
+        private Gzipped utf8Bytes;
+
+        @Setup(Level.Trial)
+        public void setup(CalendarEventBenchmark benchmark) {
+            stringBuilder = gzip(StringBuilderEventSerializer.INSTANCE, benchmark.events);
+            jacksonStreaming = gzip(JacksonStreamingEventSerializer.INSTANCE, benchmark.events);
+            utf8Bytes = gzip(Utf8ByteEventSerializer.INSTANCE, benchmark.events);
+        }
+
+        private Gzipped gzip(CalendarEventSerializer serializer, List<CalendarEvent> events) {
+            return new Gzipped(new CompressedEventSerializer(serializer, CompressedEventSerializer.Format.GZIP,
+                    compressionLevel), serializer.serialize(events).getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    /**
+     * A compressed serializer plus the uncompressed size of its output for
+     * the benchmark's events, which is fixed per trial, so each call can
+     * credit the raw bytes it compressed without serializing twice.
+     */
+    private record Gzipped(CompressedEventSerializer serializer, int rawBytes) {
+
+        void serializeTo(List<CalendarEvent> events, CompressedBytes bytes) throws IOException {
+            serializer.serializeTo(events, bytes);
+            bytes.rawBytes += rawBytes;
+        }
+    }
+
+    /**
+     * Discarding sink for the gzip benchmarks that counts compressed bytes
+     * written ({@code wireBytes}) and uncompressed bytes fed in
+     * ({@code rawBytes}). Both are OPERATIONS counters, normalized the same
+     * way, so the HTML report's Compression Ratio column is simply
+     * {@code rawBytes / wireBytes} whatever the mode.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class CompressedBytes extends OutputStream {
+
+        public long wireBytes;
+        public long rawBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+            rawBytes = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            wireBytes++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            wireBytes += length;
+        }
+    }
+
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+
     public static void main(String[] args) throws Exception {
         org.openjdk.jmh.Main.main(args);
     }
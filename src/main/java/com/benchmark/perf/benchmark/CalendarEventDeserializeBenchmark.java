@@ -0,0 +1,85 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.GsonEventDeserializer;
+import com.benchmark.perf.serializer.JacksonDatabindEventDeserializer;
+import com.benchmark.perf.serializer.JacksonStreamingEventDeserializer;
+import com.benchmark.perf.serializer.MoshiEventDeserializer;
+import com.benchmark.perf.serializer.OrgJsonEventDeserializer;
+import com.benchmark.perf.serializer.StringBuilderEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventDeserializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for the read side: parses the same UTF-8 payload the write
+ * benchmarks produce back into events. Run with {@code -prof gc} and divide
+ * {@code gc.alloc.rate.norm} by {@code eventCount} (the report does this) for
+ * bytes allocated per parsed event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class CalendarEventDeserializeBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    private int eventCount;
+
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(eventCount);
+        payload = StringBuilderEventSerializer.INSTANCE.serialize(events).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkOrgJsonDeserialize(Blackhole bh) {
+        List<CalendarEvent> events = OrgJsonEventDeserializer.INSTANCE.deserialize(payload);
+        bh.consume(events);
+        return events;
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkUtf8BytesDeserialize(Blackhole bh) {
+        List<CalendarEvent> events = Utf8ByteEventDeserializer.INSTANCE.deserialize(payload);
+        bh.consume(events);
+        return events;
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkJacksonDatabindDeserialize(Blackhole bh) {
+        List<CalendarEvent> events = JacksonDatabindEventDeserializer.INSTANCE.deserialize(payload);
+        bh.consume(events);
+        return events;
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkJacksonStreamingDeserialize(Blackhole bh) {
+        List<CalendarEvent> events = JacksonStreamingEventDeserializer.INSTANCE.deserialize(payload);
+        bh.consume(events);
+        return events;
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkGsonDeserialize(Blackhole bh) {
+        List<CalendarEvent> events = GsonEventDeserializer.INSTANCE.deserialize(payload);
+        bh.consume(events);
+        return events;
+    }
+
+    @Benchmark
+    public List<CalendarEvent> benchmarkMoshiDeserialize(Blackhole bh) {
+        List<CalendarEvent> events = MoshiEventDeserializer.INSTANCE.deserialize(payload);
+        bh.consume(events);
+        return events;
+    }
+}
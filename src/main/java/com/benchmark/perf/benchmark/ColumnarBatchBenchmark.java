@@ -0,0 +1,97 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEventBatch;
+import com.benchmark.perf.serializer.ColumnarEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the columnar {@link CalendarEventBatch} with the
+ * {@code List<CalendarEvent>} object model. Both sides encode the same events
+ * with the same byte-level writer, so the difference is the data layout.
+ *
+ * <p>
+ * Setup also measures the retained heap of each layout: used heap after a
+ * full GC, before and after building an independently generated copy, so
+ * neither side shares Strings with the other. Each method reports its own
+ * layout's figure as the {@code retainedBytes} aux counter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ColumnarBatchBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    private int eventCount;
+
+    private List<CalendarEvent> events;
+    private CalendarEventBatch batch;
+    private long objectModelBytes;
+    private long columnarBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        long baseline = usedHeapAfterGc();
+        List<CalendarEvent> objectModel = EventDataGenerator.generateEvents(eventCount);
+        objectModelBytes = usedHeapAfterGc() - baseline;
+
+        baseline = usedHeapAfterGc();
+        CalendarEventBatch columnar = CalendarEventBatch.from(EventDataGenerator.generateEvents(eventCount));
+        columnarBytes = usedHeapAfterGc() - baseline;
+        // Keep both alive until measured.
+        if (objectModel.size() != columnar.size()) {
+            throw new IllegalStateException("Generated batches differ in size");
+        }
+
+        events = EventDataGenerator.generateEvents(eventCount);
+        batch = CalendarEventBatch.from(events);
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    @Benchmark
+    public String benchmarkUtf8BytesObjectModel(Blackhole bh, RetainedHeap retained) {
+        retained.retainedBytes = objectModelBytes;
+        String json = Utf8ByteEventSerializer.INSTANCE.serialize(events);
+        bh.consume(json);
+        return json;
+    }
+
+    @Benchmark
+    public String benchmarkColumnar(Blackhole bh, RetainedHeap retained) {
+        retained.retainedBytes = columnarBytes;
+        String json = ColumnarEventSerializer.INSTANCE.serialize(batch);
+        bh.consume(json);
+        return json;
+    }
+
+    /**
+     * Retained heap of the layout the running method encodes, measured once
+     * per trial in {@link #setup()}. JMH zeroes aux counters after setup, so
+     * each method stores its figure on every call. An EVENTS counter is
+     * reported as is, without normalizing by time or operations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+
+        public long retainedBytes;
+    }
+}
@@ -0,0 +1,129 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.FragmentCachingEventSerializer;
+import com.benchmark.perf.serializer.GsonEventSerializer;
+import com.benchmark.perf.serializer.JacksonDatabindEventSerializer;
+import com.benchmark.perf.serializer.JacksonStreamingEventSerializer;
+import com.benchmark.perf.serializer.MoshiEventSerializer;
+import com.benchmark.perf.serializer.OrgJsonEventSerializer;
+import com.benchmark.perf.serializer.StringBuilderEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for serializers under concurrent load: every benchmark thread
+ * serializes the same shared event list at once, as request threads in a
+ * server would, exercising the shared {@code ObjectWriter}, Gson and Moshi
+ * adapter caches, the fragment cache and the buffer pool.
+ *
+ * <p>
+ * JMH cannot sweep {@code @Threads} as a parameter, so {@link #main} runs the
+ * class once per entry of {@link #THREAD_COUNTS} and writes all runs to one
+ * JSON result file. Throughput scores are aggregate across threads; the HTML
+ * report divides by the {@code threads} field for per-thread throughput and
+ * charts speedup over the single-threaded run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ContentionBenchmark {
+
+    public static final int[] THREAD_COUNTS = { 1, 4, 16, 64 };
+
+    static final String DEFAULT_RESULT_FILE = "results/contention-results.json";
+
+    @Param({ "100", "1000", "10000" })
+    private int eventCount;
+
+    private List<CalendarEvent> events;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        events = EventDataGenerator.generateEvents(eventCount);
+    }
+
+    @Benchmark
+    public String benchmarkOrgJsonShared() {
+        return OrgJsonEventSerializer.INSTANCE.serialize(events);
+    }
+
+    @Benchmark
+    public String benchmarkStringBuilderShared() {
+        return StringBuilderEventSerializer.INSTANCE.serialize(events);
+    }
+
+    @Benchmark
+    public String benchmarkJacksonDatabindShared() {
+        return JacksonDatabindEventSerializer.INSTANCE.serialize(events);
+    }
+
+    @Benchmark
+    public String benchmarkJacksonStreamingShared() {
+        return JacksonStreamingEventSerializer.INSTANCE.serialize(events);
+    }
+
+    @Benchmark
+    public String benchmarkGsonShared() {
+        return GsonEventSerializer.INSTANCE.serialize(events);
+    }
+
+    @Benchmark
+    public String benchmarkMoshiShared() {
+        return MoshiEventSerializer.INSTANCE.serialize(events);
+    }
+
+    @Benchmark
+    public String benchmarkUtf8BytesShared() {
+        return Utf8ByteEventSerializer.INSTANCE.serialize(events);
+    }
+
+    @Benchmark
+    public String benchmarkFragmentCachedShared() {
+        return FragmentCachingEventSerializer.INSTANCE.serialize(events);
+    }
+
+    /**
+     * Runs the thread sweep. Accepts the usual JMH command-line options
+     * ({@code -p}, {@code -prof}, {@code -f}, a method regex, ...), except
+     * that {@code -t} is set by the sweep and {@code -rff} names the combined
+     * JSON file (default {@value #DEFAULT_RESULT_FILE}).
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        String resultFile = commandLine.getResult().orElse(DEFAULT_RESULT_FILE);
+
+        List<RunResult> results = new ArrayList<>();
+        for (int threads : THREAD_COUNTS) {
+            System.out.println("Contention sweep: " + threads + " thread(s)");
+            OptionsBuilder options = new OptionsBuilder();
+            options.parent(commandLine)
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultFile);
+            if (commandLine.getIncludes().isEmpty()) {
+                options.include(ContentionBenchmark.class.getSimpleName());
+            }
+            results.addAll(new Runner(options.build()).run());
+        }
+        // Each run rewrote the file with its own results; replace it with all of them.
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, resultFile).writeOut(results);
+        System.out.println("Contention results written to " + resultFile);
+    }
+}
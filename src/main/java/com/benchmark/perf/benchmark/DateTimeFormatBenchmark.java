@@ -0,0 +1,50 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.util.IsoDateTimeWriter;
+import com.benchmark.perf.util.Utf8ByteWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark for rendering event timestamps: the JDK ISO formatter
+ * against IsoDateTimeWriter into a String, a char buffer and a UTF-8 writer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx2g", "-Xms2g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class DateTimeFormatBenchmark {
+
+    private final LocalDateTime value = LocalDateTime.of(2025, 3, 14, 15, 9, 26);
+    private final char[] chars = new char[IsoDateTimeWriter.MAX_LENGTH];
+    private final Utf8ByteWriter bytes = new Utf8ByteWriter(64);
+
+    @Benchmark
+    public String benchmarkJdkFormatter() {
+        return value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    @Benchmark
+    public String benchmarkWriterToString() {
+        return IsoDateTimeWriter.format(value);
+    }
+
+    @Benchmark
+    public void benchmarkWriterToChars(Blackhole bh) {
+        bh.consume(IsoDateTimeWriter.write(value, chars, 0));
+        bh.consume(chars);
+    }
+
+    @Benchmark
+    public void benchmarkWriterToUtf8Bytes(Blackhole bh) {
+        bytes.reset();
+        bytes.writeDateTime(value);
+        bh.consume(bytes);
+    }
+}
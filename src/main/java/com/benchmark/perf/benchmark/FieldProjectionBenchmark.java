@@ -0,0 +1,71 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.FieldProjection;
+import com.benchmark.perf.serializer.JacksonDatabindEventSerializer;
+import com.benchmark.perf.serializer.JacksonStreamingEventSerializer;
+import com.benchmark.perf.serializer.StringBuilderEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sparse fieldsets: full-object output ({@code fields=all}) against the
+ * three-field {@code id,title,startTime} and six-field
+ * {@code id,title,startTime,endTime,location,status} projections typical of
+ * list views. Both projections leave out {@code description} and
+ * {@code attendees}, which make up most of each event's bytes. The plan is
+ * compiled once in setup, as a server would do per distinct {@code fields=}
+ * value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class FieldProjectionBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    private int eventCount;
+
+    @Param({ "all", "3", "6" })
+    private String fields;
+
+    private List<CalendarEvent> events;
+    private FieldProjection projection;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        events = EventDataGenerator.generateEvents(eventCount);
+        projection = switch (fields) {
+            case "all" -> FieldProjection.ALL;
+            case "3" -> FieldProjection.parse("id,title,startTime");
+            case "6" -> FieldProjection.parse("id,title,startTime,endTime,location,status");
+            default -> throw new IllegalArgumentException("Unknown fields param: " + fields);
+        };
+    }
+
+    @Benchmark
+    public String benchmarkUtf8BytesProjected() {
+        return Utf8ByteEventSerializer.INSTANCE.serialize(events, projection);
+    }
+
+    @Benchmark
+    public String benchmarkStringBuilderProjected() {
+        return StringBuilderEventSerializer.INSTANCE.serialize(events, projection);
+    }
+
+    @Benchmark
+    public String benchmarkJacksonStreamingProjected() {
+        return JacksonStreamingEventSerializer.INSTANCE.serialize(events, projection);
+    }
+
+    @Benchmark
+    public String benchmarkJacksonDatabindProjected() {
+        return JacksonDatabindEventSerializer.INSTANCE.serialize(events, projection);
+    }
+}
@@ -0,0 +1,66 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.FragmentCachingEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark simulating repeated feed polls: before every serialization a
+ * rotating {@code changePercent} of the events is modified, then the list is
+ * serialized with the fragment cache and with the uncached byte writer that
+ * produces identical output.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class FragmentCacheBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    private int eventCount;
+
+    @Param({ "0", "1", "10" })
+    private int changePercent;
+
+    private List<CalendarEvent> events;
+    private int changesPerPoll;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        events = EventDataGenerator.generateEvents(eventCount);
+        changesPerPoll = eventCount * changePercent / 100;
+    }
+
+    @Benchmark
+    public String benchmarkFragmentCached(Blackhole bh) {
+        applyChanges();
+        String json = FragmentCachingEventSerializer.INSTANCE.serialize(events);
+        bh.consume(json);
+        return json;
+    }
+
+    @Benchmark
+    public String benchmarkUtf8Bytes(Blackhole bh) {
+        applyChanges();
+        String json = Utf8ByteEventSerializer.INSTANCE.serialize(events);
+        bh.consume(json);
+        return json;
+    }
+
+    private void applyChanges() {
+        for (int i = 0; i < changesPerPoll; i++) {
+            CalendarEvent event = events.get(cursor);
+            event.setStatus(event.getStatus());
+            cursor = cursor + 1 == eventCount ? 0 : cursor + 1;
+        }
+    }
+}
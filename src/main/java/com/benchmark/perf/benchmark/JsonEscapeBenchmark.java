@@ -0,0 +1,67 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.util.JsonUtils;
+import com.benchmark.perf.util.Utf8ByteWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark for JSON string escaping: the String-returning API against
+ * the append-into-buffer variants, on clean values (emails, most descriptions)
+ * and escape-heavy text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx2g", "-Xms2g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class JsonEscapeBenchmark {
+
+    private static final String CLEAN_EMAIL = "user417@enterprise.org";
+    private static final String CLEAN_DESCRIPTION = "Join us for an important discussion about API Gateway Migration. "
+            + "The agenda includes reviewing deliverables, aligning on priorities, and making key decisions. "
+            + "Your input and participation are crucial.";
+    private static final String ESCAPE_HEAVY = "Line one\n\t\"quoted\" C:\\path\\to\\file\r\n"
+            + "bell\u0007 and form\f feed \"again\" \\\\ end\n";
+
+    @Param({ "email", "description", "escapeHeavy" })
+    private String input;
+
+    private String value;
+    private final StringBuilder builder = new StringBuilder(1024);
+    private final Utf8ByteWriter bytes = new Utf8ByteWriter(1024);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        value = switch (input) {
+            case "email" -> CLEAN_EMAIL;
+            case "description" -> CLEAN_DESCRIPTION;
+            case "escapeHeavy" -> ESCAPE_HEAVY;
+            default -> throw new IllegalArgumentException("Unknown input: " + input);
+        };
+    }
+
+    @Benchmark
+    public void benchmarkEscapeToString(Blackhole bh) {
+        builder.setLength(0);
+        builder.append(JsonUtils.escapeJson(value));
+        bh.consume(builder);
+    }
+
+    @Benchmark
+    public void benchmarkEscapeIntoBuilder(Blackhole bh) {
+        builder.setLength(0);
+        JsonUtils.escapeJson(value, builder);
+        bh.consume(builder);
+    }
+
+    @Benchmark
+    public void benchmarkEscapeIntoUtf8Writer(Blackhole bh) {
+        bytes.reset();
+        JsonUtils.escapeJson(value, bytes);
+        bh.consume(bytes);
+    }
+}
@@ -0,0 +1,75 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.serializer.StringBuilderEventSerializer;
+import com.benchmark.perf.util.JsonScanner;
+import org.json.JSONArray;
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark for the checks run on serializer output and on ingest:
+ * validating a payload and counting its events. The org.json baselines are
+ * what {@code JsonUtils} used to do (parse into a tree and discard it);
+ * {@link JsonScanner} answers the same questions in one pass without
+ * materializing anything, from a {@code String} or straight from UTF-8 bytes.
+ * Method names avoid serializer names so the report does not chart them as
+ * serializers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx2g", "-Xms2g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class JsonValidationBenchmark {
+
+    @Param({ "100", "10000", "50000" })
+    private int eventCount;
+
+    private String json;
+    private byte[] bytes;
+    private int[] starts;
+    private int[] ends;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        json = StringBuilderEventSerializer.INSTANCE.serialize(EventDataGenerator.generateEvents(eventCount));
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+        starts = new int[eventCount];
+        ends = new int[eventCount];
+    }
+
+    @Benchmark
+    public Object benchmarkValidateTokenerTree() {
+        return new JSONTokener(json).nextValue();
+    }
+
+    @Benchmark
+    public boolean benchmarkValidateScannerString() {
+        return JsonScanner.isValid(json);
+    }
+
+    @Benchmark
+    public boolean benchmarkValidateScannerBytes() {
+        return JsonScanner.isValid(bytes);
+    }
+
+    @Benchmark
+    public int benchmarkCountJsonArrayTree() {
+        return new JSONArray(json).length();
+    }
+
+    @Benchmark
+    public int benchmarkCountScannerBytes() {
+        return JsonScanner.countElements(bytes);
+    }
+
+    @Benchmark
+    public int benchmarkElementOffsetsScannerBytes() {
+        return JsonScanner.elementOffsets(bytes, starts, ends);
+    }
+}
@@ -0,0 +1,121 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.CalendarEventView;
+import com.benchmark.perf.serializer.EventTape;
+import com.benchmark.perf.serializer.JacksonDatabindEventDeserializer;
+import com.benchmark.perf.serializer.StringBuilderEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventDeserializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse-on-access versus full parsing for a reader that touches only some
+ * fields of every event. Only {@link #benchmarkTapeViewAccess} depends on how
+ * many fields are read, so it alone takes the {@link Access} state:
+ * {@code fields=1} reads the id, {@code fields=3} the id, start time and
+ * status (a gateway routing decision), {@code fields=12} everything. A full
+ * parse has decoded every field before the first getter runs, so the full
+ * parse benchmarks read all twelve and run once per event count. The tape
+ * benchmarks include building the index, so they measure the whole cost of
+ * answering from a fresh payload. Method names avoid serializer names so the
+ * report does not chart them as serializers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx2g", "-Xms2g", "-Dperf.bufferProvider=ThreadLocal", "--add-modules=jdk.incubator.vector" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class LazyEventViewBenchmark {
+
+    private static final int ALL_FIELDS = 12;
+
+    @Param({ "1000", "10000" })
+    private int eventCount;
+
+    private byte[] payload;
+
+    /**
+     * How many fields the view benchmark reads per event.
+     */
+    @State(Scope.Thread)
+    public static class Access {
+
+        @Param({ "1", "3", "12" })
+        int fields;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(eventCount);
+        payload = StringBuilderEventSerializer.INSTANCE.serialize(events).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void benchmarkFullDatabindParse(Blackhole bh) {
+        for (CalendarEvent event : JacksonDatabindEventDeserializer.INSTANCE.deserialize(payload)) {
+            touch(event, bh);
+        }
+    }
+
+    @Benchmark
+    public void benchmarkFullByteParse(Blackhole bh) {
+        for (CalendarEvent event : Utf8ByteEventDeserializer.INSTANCE.deserialize(payload)) {
+            touch(event, bh);
+        }
+    }
+
+    @Benchmark
+    public void benchmarkTapeViewAccess(Access access, Blackhole bh) {
+        EventTape tape = EventTape.index(payload);
+        CalendarEventView view = tape.view();
+        for (int i = 0; i < tape.size(); i++) {
+            touch(view.at(i), access.fields, bh);
+        }
+    }
+
+    @Benchmark
+    public int benchmarkTapeIndexOnly() {
+        return EventTape.index(payload).size();
+    }
+
+    private static void touch(CalendarEvent event, Blackhole bh) {
+        bh.consume(event.getId());
+        bh.consume(event.getStartTime());
+        bh.consume(event.getStatus());
+        bh.consume(event.getTitle());
+        bh.consume(event.getDescription());
+        bh.consume(event.getEndTime());
+        bh.consume(event.getLocation());
+        bh.consume(event.getAttendees());
+        bh.consume(event.getRecurrenceRule());
+        bh.consume(event.getReminders());
+        bh.consume(event.getTimezone());
+        bh.consume(event.getOrganizerEmail());
+    }
+
+    private static void touch(CalendarEventView view, int fields, Blackhole bh) {
+        bh.consume(view.getId());
+        if (fields >= 3) {
+            bh.consume(view.getStartTime());
+            bh.consume(view.getStatus());
+        }
+        if (fields >= ALL_FIELDS) {
+            bh.consume(view.getTitle());
+            bh.consume(view.getDescription());
+            bh.consume(view.getEndTime());
+            bh.consume(view.getLocation());
+            bh.consume(view.getAttendees());
+            bh.consume(view.getRecurrenceRule());
+            bh.consume(view.getReminders());
+            bh.consume(view.getTimezone());
+            bh.consume(view.getOrganizerEmail());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.JacksonStreamingEventSerializer;
+import com.benchmark.perf.serializer.MappedFileExportWriter;
+import com.benchmark.perf.serializer.MappedFileOutputStream;
+import com.benchmark.perf.serializer.StringBuilderEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for nightly-dump sized exports to a real file: streaming into
+ * memory-mapped windows versus building the JSON String, encoding it and
+ * calling {@code Files.write}. A plain FileChannel-backed stream is included
+ * to separate the gain from mapping from the gain from streaming.
+ *
+ * <p>
+ * Each invocation writes the whole file once, so single-shot wall time is
+ * reported. Run with {@code -prof com.benchmark.perf.benchmark.PeakHeapProfiler}
+ * for the heap high-water mark. A String cannot hold more than 2 GiB, so the
+ * String-then-write methods use their own state with only the event counts
+ * whose JSON fits in one; the streaming methods also cover 10M events.
+ *
+ * <p>
+ * The 10M case writes files of several GiB on every iteration, so
+ * {@code run-benchmark.sh} leaves this class out of its default run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class MappedExportBenchmark {
+
+    private static final int POOL_SIZE = 1_000;
+
+    /**
+     * Event source cycled from a small generated pool, so even 10M events
+     * take no heap beyond the pool.
+     */
+    @State(Scope.Thread)
+    public static class StreamedEvents {
+
+        @Param({ "1000000", "10000000" })
+        int eventCount;
+
+        List<CalendarEvent> pool;
+        Path file;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            pool = EventDataGenerator.generateEvents(POOL_SIZE);
+            file = Files.createTempFile("calendar-export", ".json");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(file);
+        }
+
+        Iterator<CalendarEvent> cycle() {
+            return new Iterator<>() {
+                private int emitted;
+
+                @Override
+                public boolean hasNext() {
+                    return emitted < eventCount;
+                }
+
+                @Override
+                public CalendarEvent next() {
+                    if (emitted >= eventCount) {
+                        throw new NoSuchElementException();
+                    }
+                    return pool.get(emitted++ % POOL_SIZE);
+                }
+            };
+        }
+    }
+
+    /**
+     * The same events held in a list for the String-then-write methods. Only
+     * counts whose JSON fits in a String are listed.
+     */
+    @State(Scope.Thread)
+    public static class MaterializedEvents {
+
+        @Param({ "1000000" })
+        int eventCount;
+
+        List<CalendarEvent> events;
+        Path file;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            List<CalendarEvent> pool = EventDataGenerator.generateEvents(POOL_SIZE);
+            events = new ArrayList<>(eventCount);
+            for (int i = 0; i < eventCount; i++) {
+                events.add(pool.get(i % POOL_SIZE));
+            }
+            file = Files.createTempFile("calendar-export", ".json");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private final MappedFileExportWriter utf8BytesWriter = new MappedFileExportWriter(
+            Utf8ByteEventSerializer.INSTANCE, MappedFileOutputStream.DEFAULT_WINDOW_BYTES);
+    private final MappedFileExportWriter jacksonStreamingWriter = new MappedFileExportWriter(
+            JacksonStreamingEventSerializer.INSTANCE, MappedFileOutputStream.DEFAULT_WINDOW_BYTES);
+
+    @Benchmark
+    public long benchmarkUtf8BytesMappedFile(StreamedEvents state) throws IOException {
+        return utf8BytesWriter.export(state.cycle(), state.file);
+    }
+
+    @Benchmark
+    public long benchmarkJacksonStreamingMappedFile(StreamedEvents state) throws IOException {
+        return jacksonStreamingWriter.export(state.cycle(), state.file);
+    }
+
+    @Benchmark
+    public long benchmarkUtf8BytesFileStream(StreamedEvents state) throws IOException {
+        try (OutputStream out = Files.newOutputStream(state.file)) {
+            Utf8ByteEventSerializer.INSTANCE.serializeTo(state.cycle(), out);
+        }
+        return Files.size(state.file);
+    }
+
+    @Benchmark
+    public long benchmarkStringBuilderStringToFile(MaterializedEvents state) throws IOException {
+        String json = StringBuilderEventSerializer.INSTANCE.serialize(state.events);
+        return Files.size(Files.write(state.file, json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public long benchmarkJacksonStreamingStringToFile(MaterializedEvents state) throws IOException {
+        String json = JacksonStreamingEventSerializer.INSTANCE.serialize(state.events);
+        return Files.size(Files.write(state.file, json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
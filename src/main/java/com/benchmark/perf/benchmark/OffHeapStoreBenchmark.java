@@ -0,0 +1,69 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.OffHeapEventStore;
+import com.benchmark.perf.serializer.OffHeapEventSerializer;
+import com.benchmark.perf.serializer.Utf8ByteEventSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for serving a large cached event set from the off-heap store
+ * versus a {@code List<CalendarEvent>} held on the heap. Both paths use the
+ * same byte-level encoding into a discarding sink; run with {@code -prof gc}
+ * to compare {@code gc.count}/{@code gc.time}, which grow with the live
+ * on-heap set the object model keeps and the store does not.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class OffHeapStoreBenchmark {
+
+    @Param({ "1000", "50000", "500000" })
+    private int eventCount;
+
+    private List<CalendarEvent> events;
+    private OffHeapEventStore store;
+
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        events = EventDataGenerator.generateEvents(eventCount);
+        store = OffHeapEventStore.of(events);
+        System.out.printf("Off-heap store for %d events: %,d bytes of direct memory%n", eventCount,
+                store.usedBytes());
+    }
+
+    /**
+     * Drops one layout before measuring the other so the heap only holds the
+     * data the benchmark actually serves.
+     */
+    @Setup(Level.Iteration)
+    public void retainOnlyMeasuredLayout(BenchmarkParams params) {
+        if (params.getBenchmark().endsWith("benchmarkOffHeap")) {
+            events = null;
+        } else {
+            store = null;
+        }
+    }
+
+    @Benchmark
+    public void benchmarkUtf8BytesObjectModel() throws IOException {
+        Utf8ByteEventSerializer.INSTANCE.serializeTo(events, sink);
+    }
+
+    @Benchmark
+    public void benchmarkOffHeap() throws IOException {
+        OffHeapEventSerializer.INSTANCE.serializeTo(store, sink);
+    }
+}
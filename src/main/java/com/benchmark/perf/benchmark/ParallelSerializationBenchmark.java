@@ -0,0 +1,64 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.ParallelChunkedEventSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark sweeping parallelism for
+ * {@link ParallelChunkedEventSerializer} to locate the payload size where
+ * splitting starts to pay off. {@code parallelism=1} always encodes inline
+ * and serves as the sequential baseline.
+ *
+ * <p>
+ * The default grid only holds combinations that split: with
+ * {@code minChunkSize=100} every {@code eventCount} yields at least as many
+ * segments as {@code parallelism} allows, up to ten for 1,000 events. Other
+ * chunk sizes can be swept with {@code -p minChunkSize=...}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ParallelSerializationBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    private int eventCount;
+
+    @Param({ "1", "2", "4", "8", "16" })
+    private int parallelism;
+
+    @Param({ "100" })
+    private int minChunkSize;
+
+    private List<CalendarEvent> events;
+    private ForkJoinPool pool;
+    private ParallelChunkedEventSerializer serializer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        events = EventDataGenerator.generateEvents(eventCount);
+        pool = new ForkJoinPool(parallelism);
+        serializer = new ParallelChunkedEventSerializer(pool, parallelism, minChunkSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public String benchmarkParallelChunked(Blackhole bh) {
+        String json = serializer.serialize(events);
+        bh.consume(json);
+        return json;
+    }
+}
@@ -0,0 +1,59 @@
+package com.benchmark.perf.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JMH profiler that reports the heap high-water mark of each iteration as
+ * {@code heap.peak} (MB). Enable with
+ * {@code -prof com.benchmark.perf.benchmark.PeakHeapProfiler}.
+ *
+ * <p>
+ * A GC is requested before each iteration so the peak is measured from a
+ * settled heap. The value sums per-pool peaks, which may have occurred at
+ * slightly different moments, so treat it as an upper bound.
+ */
+public class PeakHeapProfiler implements InternalProfiler {
+
+    public static final String METRIC = "heap.peak";
+
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+
+    @Override
+    public String getDescription() {
+        return "Heap high-water mark per iteration";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        System.gc();
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+        }
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+            IterationParams iterationParams, IterationResult result) {
+        long peakBytes = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakBytes += pool.getPeakUsage().getUsed();
+        }
+        return List.of(new ScalarResult(METRIC, peakBytes / BYTES_PER_MB, "MB", AggregationPolicy.MAX));
+    }
+}
@@ -0,0 +1,104 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.JacksonStreamingEventSerializer;
+import com.benchmark.perf.serializer.StringBuilderEventSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for multi-million event exports, comparing the constant-memory
+ * iterator path against materializing the whole JSON String first.
+ *
+ * <p>
+ * Events are cycled from a small generated pool so the source itself stays
+ * flat; the peak heap difference comes from the serializer alone. Run with
+ * {@code -prof com.benchmark.perf.benchmark.PeakHeapProfiler} to get the
+ * {@code heap.peak} metric alongside throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Fork(value = 1, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+public class StreamingExportBenchmark {
+
+    private static final int POOL_SIZE = 1_000;
+
+    @Param({ "1000000" })
+    private int eventCount;
+
+    private List<CalendarEvent> pool;
+    private List<CalendarEvent> materialized;
+
+    /**
+     * Stands in for a response or file sink; discards output so only the
+     * encode path and its working memory are measured.
+     */
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = EventDataGenerator.generateEvents(POOL_SIZE);
+        materialized = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            materialized.add(pool.get(i % POOL_SIZE));
+        }
+    }
+
+    @Benchmark
+    public void benchmarkStringBuilderFromIterator() throws IOException {
+        StringBuilderEventSerializer.INSTANCE.serializeTo(cycle(), sink);
+    }
+
+    @Benchmark
+    public void benchmarkJacksonStreamingFromIterator() throws IOException {
+        JacksonStreamingEventSerializer.INSTANCE.serializeTo(cycle(), sink);
+    }
+
+    @Benchmark
+    public void benchmarkStringBuilderMaterialized(Blackhole bh) throws IOException {
+        String json = StringBuilderEventSerializer.INSTANCE.serialize(materialized);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        sink.write(bytes);
+        bh.consume(bytes);
+    }
+
+    @Benchmark
+    public void benchmarkJacksonStreamingMaterialized(Blackhole bh) throws IOException {
+        String json = JacksonStreamingEventSerializer.INSTANCE.serialize(materialized);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        sink.write(bytes);
+        bh.consume(bytes);
+    }
+
+    private Iterator<CalendarEvent> cycle() {
+        return new Iterator<>() {
+            private int emitted;
+
+            @Override
+            public boolean hasNext() {
+                return emitted < eventCount;
+            }
+
+            @Override
+            public CalendarEvent next() {
+                if (emitted >= eventCount) {
+                    throw new NoSuchElementException();
+                }
+                return pool.get(emitted++ % POOL_SIZE);
+            }
+        };
+    }
+}
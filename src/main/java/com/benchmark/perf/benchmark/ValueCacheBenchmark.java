@@ -0,0 +1,54 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.Utf8ByteEventSerializer;
+import com.benchmark.perf.util.EncodedValueCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for the pre-encoded value dictionary used by the UTF-8 byte
+ * serializer. {@code maxEntries=0} disables the cache and is the baseline;
+ * cache statistics (hit ratio, evictions, footprint) are printed at the end
+ * of each trial for tuning.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g", "-Dperf.bufferProvider=ThreadLocal" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ValueCacheBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    private int eventCount;
+
+    @Param({ "0", "512", "8192" })
+    private int maxEntries;
+
+    private List<CalendarEvent> events;
+    private Utf8ByteEventSerializer serializer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        events = EventDataGenerator.generateEvents(eventCount);
+        serializer = new Utf8ByteEventSerializer(
+                new EncodedValueCache(maxEntries, Utf8ByteEventSerializer.DEFAULT_VALUE_CACHE_MAX_CHARS));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("Value cache (maxEntries=" + maxEntries + "): " + serializer.getValueCache().stats());
+    }
+
+    @Benchmark
+    public String benchmarkUtf8Bytes(Blackhole bh) {
+        String json = serializer.serialize(events);
+        bh.consume(json);
+        return json;
+    }
+}
@@ -0,0 +1,117 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.util.EscapeScanner;
+import com.benchmark.perf.util.JsonScanner;
+import com.benchmark.perf.util.Utf8ByteWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark for the {@link EscapeScanner} kernels: finding the next char
+ * that needs escaping, escaping into a {@link Utf8ByteWriter}, and
+ * validating the resulting JSON, with and without the Vector API.
+ *
+ * <p>
+ * Each operation processes a batch of {@value #STRINGS} strings whose lengths
+ * are drawn uniformly from {@code lengths} (emails, titles, descriptions)
+ * and where each char needs escaping with probability {@code escapeDensity}.
+ * {@code vectorScan} sets {@code -Dperf.vectorScan} for the fork before
+ * {@link EscapeScanner} is loaded, so every combination needs its own fork
+ * (the default); setup fails if the requested mode is not in effect.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx2g", "-Xms2g", "-Dperf.bufferProvider=ThreadLocal", "--add-modules=jdk.incubator.vector" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class VectorEscapeBenchmark {
+
+    static final int STRINGS = 1_000;
+
+    private static final String ESCAPED = "\"\\\n\t";
+
+    @Param({ "true", "false" })
+    private boolean vectorScan;
+
+    @Param({ "16-32", "100-500", "2000-4000" })
+    private String lengths;
+
+    @Param({ "0", "0.005", "0.05" })
+    private double escapeDensity;
+
+    private String[] strings;
+    private char[][] chars;
+    private byte[] json;
+    private Utf8ByteWriter writer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty(EscapeScanner.PROPERTY, String.valueOf(vectorScan));
+        if (EscapeScanner.VECTORIZED != vectorScan) {
+            throw new IllegalStateException("perf.vectorScan=" + vectorScan + " is not in effect; run with forks"
+                    + " and --add-modules=jdk.incubator.vector");
+        }
+        int dash = lengths.indexOf('-');
+        int minLength = Integer.parseInt(lengths.substring(0, dash));
+        int maxLength = Integer.parseInt(lengths.substring(dash + 1));
+
+        Random random = new Random(42);
+        strings = new String[STRINGS];
+        chars = new char[STRINGS][];
+        writer = new Utf8ByteWriter(STRINGS * maxLength * 2);
+        writer.writeByte('[');
+        for (int i = 0; i < STRINGS; i++) {
+            int length = minLength + random.nextInt(maxLength - minLength + 1);
+            StringBuilder text = new StringBuilder(length);
+            for (int c = 0; c < length; c++) {
+                text.append(random.nextDouble() < escapeDensity ? ESCAPED.charAt(random.nextInt(ESCAPED.length()))
+                        : (char) ('a' + random.nextInt(26)));
+            }
+            strings[i] = text.toString();
+            chars[i] = strings[i].toCharArray();
+            if (i > 0) {
+                writer.writeByte(',');
+            }
+            writer.writeByte('"');
+            writer.writeEscaped(strings[i]);
+            writer.writeByte('"');
+        }
+        writer.writeByte(']');
+        json = writer.toByteArray();
+        if (!JsonScanner.isValid(json)) {
+            throw new IllegalStateException("Benchmark payload is not valid JSON");
+        }
+    }
+
+    /**
+     * Counts the chars that need escaping by jumping from one to the next.
+     */
+    @Benchmark
+    public int benchmarkFindEscapes() {
+        int found = 0;
+        for (char[] text : chars) {
+            for (int i = EscapeScanner.indexOfEscapeOrNonAscii(text, 0, text.length); i < text.length; i = EscapeScanner
+                    .indexOfEscapeOrNonAscii(text, i + 1, text.length)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int benchmarkWriteEscaped() {
+        writer.reset();
+        for (String text : strings) {
+            writer.writeEscaped(text);
+        }
+        return writer.size();
+    }
+
+    @Benchmark
+    public boolean benchmarkValidateStrings() {
+        return JsonScanner.isValid(json);
+    }
+}
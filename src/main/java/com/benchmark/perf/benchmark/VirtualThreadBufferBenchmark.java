@@ -0,0 +1,90 @@
+package com.benchmark.perf.benchmark;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.BufferProvider;
+import com.benchmark.perf.serializer.BufferProviders;
+import com.benchmark.perf.serializer.CalendarEventSerializer;
+import com.benchmark.perf.serializer.SerializerRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for buffer reuse under virtual threads, modelling a server
+ * that handles each request on its own virtual thread. One operation is a
+ * wave of {@code virtualThreads} concurrent requests, each serializing
+ * {@code eventsPerRequest} events and then staying alive until the whole
+ * wave has finished, as a request thread would while it writes the response
+ * and waits on I/O.
+ *
+ * <p>
+ * With {@code ThreadLocal} every virtual thread allocates and holds its own
+ * buffers for as long as it lives; with {@code Pooled} buffers go back to a
+ * bounded shared pool as soon as the serializer is done. Run with
+ * {@code -prof gc -prof com.benchmark.perf.benchmark.PeakHeapProfiler} to
+ * compare allocation per wave and the heap high-water mark alongside
+ * throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xmx8g", "-Xms8g" })
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+public class VirtualThreadBufferBenchmark {
+
+    @Param({ "Pooled", "ThreadLocal" })
+    private String bufferProvider;
+
+    @Param({ "1000", "10000" })
+    private int virtualThreads;
+
+    @Param({ "10", "100" })
+    private int eventsPerRequest;
+
+    @Param({ "StringBuilder", "Utf8Bytes", "JacksonStreaming" })
+    private String serializerName;
+
+    private List<CalendarEvent> events;
+    private CalendarEventSerializer serializer;
+    private BufferProvider previousProvider;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        events = EventDataGenerator.generateEvents(eventsPerRequest);
+        serializer = SerializerRegistry.getByName(serializerName);
+        previousProvider = BufferProviders.get();
+        BufferProviders.set(BufferProviders.getByName(bufferProvider));
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreProvider() {
+        BufferProviders.set(previousProvider);
+    }
+
+    @Benchmark
+    public void benchmarkRequestWave(Blackhole blackhole) throws Exception {
+        CountDownLatch finished = new CountDownLatch(virtualThreads);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?>[] requests = new Future<?>[virtualThreads];
+            for (int i = 0; i < virtualThreads; i++) {
+                requests[i] = executor.submit(() -> {
+                    String json = serializer.serialize(events);
+                    finished.countDown();
+                    finished.await();
+                    return json.length();
+                });
+            }
+            for (Future<?> request : requests) {
+                blackhole.consume(request.get());
+            }
+        }
+    }
+}
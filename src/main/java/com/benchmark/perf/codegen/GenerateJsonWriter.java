@@ -0,0 +1,26 @@
+package com.benchmark.perf.codegen;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Asks {@link JsonWriterProcessor} to generate {@code <SimpleName>JsonWriter}
+ * in the annotated class's package at compile time: a reflection-free writer
+ * that encodes instances as UTF-8 JSON into a
+ * {@link com.benchmark.perf.util.Utf8ByteWriter}.
+ *
+ * <p>
+ * Every non-static, non-transient field becomes a property, in declaration
+ * order and under its field name, read through its public getter. Supported
+ * types are {@code String}, {@code int}, {@code boolean} and their boxes,
+ * {@code LocalDateTime}, enums, and {@code List}s of those; anything else is
+ * a compile error.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateJsonWriter {
+}
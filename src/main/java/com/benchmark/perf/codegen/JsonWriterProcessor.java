@@ -0,0 +1,302 @@
+package com.benchmark.perf.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates the writers requested with {@link GenerateJsonWriter}. The
+ * generated code has the shape of the hand-written
+ * {@code Utf8ByteEventSerializer}: keys pre-encoded once with their opening
+ * brace or separating comma, then one straight-line call per property, with
+ * no reflection or per-call type dispatch. {@code writeProperty} writes a
+ * single property by index for callers that pick their own subset of them.
+ *
+ * <p>
+ * The build compiles this package first, so the main compilation can run the
+ * processor alongside JMH's (see the compiler plugin in {@code pom.xml}).
+ */
+@SupportedAnnotationTypes("com.benchmark.perf.codegen.GenerateJsonWriter")
+public class JsonWriterProcessor extends AbstractProcessor {
+
+    private static final String WRITER = "com.benchmark.perf.util.Utf8ByteWriter";
+    private static final String VALUE_CACHE = "com.benchmark.perf.util.EncodedValueCache";
+
+    /**
+     * How a property or list element is written.
+     */
+    enum Kind {
+        STRING, INT, INTEGER, BOOLEAN, BOXED_BOOLEAN, DATE_TIME, ENUM, LIST
+    }
+
+    record Property(String name, String getter, Kind kind, Kind elementKind, String type) {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(GenerateJsonWriter.class)) {
+            if (element.getKind() != ElementKind.CLASS
+                    || element.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+                error(element, "@GenerateJsonWriter applies to top-level classes only");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            List<Property> properties = properties(type);
+            if (properties != null) {
+                generate(type, properties);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the properties in declaration order, or {@code null} after
+     *         reporting an error
+     */
+    private List<Property> properties(TypeElement type) {
+        List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+        List<Property> properties = new ArrayList<>();
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            ExecutableElement getter = getter(methods, field);
+            if (getter == null) {
+                error(field, "No public no-argument getter for property '" + name + "'");
+                valid = false;
+                continue;
+            }
+            TypeMirror fieldType = field.asType();
+            Kind kind = kind(fieldType);
+            Kind elementKind = null;
+            if (kind == Kind.LIST) {
+                List<? extends TypeMirror> arguments = ((DeclaredType) fieldType).getTypeArguments();
+                elementKind = arguments.size() == 1 ? kind(arguments.get(0)) : null;
+                if (elementKind == Kind.LIST) {
+                    elementKind = null;
+                }
+            }
+            if (kind == null || kind == Kind.LIST && elementKind == null) {
+                error(field, "Unsupported type " + fieldType + " for property '" + name + "'");
+                valid = false;
+                continue;
+            }
+            properties.add(new Property(name, getter.getSimpleName().toString(), kind, elementKind,
+                    fieldType.toString()));
+        }
+        return valid ? properties : null;
+    }
+
+    private static ExecutableElement getter(List<ExecutableElement> methods, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : methods) {
+            String methodName = method.getSimpleName().toString();
+            boolean named = methodName.equals("get" + suffix)
+                    || methodName.equals("is" + suffix) && field.asType().getKind() == TypeKind.BOOLEAN;
+            if (named && method.getParameters().isEmpty() && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return how to write {@code type}, or {@code null} if it is unsupported
+     */
+    private static Kind kind(TypeMirror type) {
+        if (type.getKind() == TypeKind.INT) {
+            return Kind.INT;
+        }
+        if (type.getKind() == TypeKind.BOOLEAN) {
+            return Kind.BOOLEAN;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        if (element.getKind() == ElementKind.ENUM) {
+            return Kind.ENUM;
+        }
+        return switch (element.getQualifiedName().toString()) {
+            case "java.lang.String" -> Kind.STRING;
+            case "java.lang.Integer" -> Kind.INTEGER;
+            case "java.lang.Boolean" -> Kind.BOXED_BOOLEAN;
+            case "java.time.LocalDateTime" -> Kind.DATE_TIME;
+            case "java.util.List" -> Kind.LIST;
+            default -> null;
+        };
+    }
+
+    private void generate(TypeElement type, List<Property> properties) {
+        String packageName = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+        String model = type.getSimpleName().toString();
+        String writerName = model + "JsonWriter";
+        try (PrintWriter out = new PrintWriter(
+                processingEnv.getFiler().createSourceFile(packageName + "." + writerName, type).openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("import " + VALUE_CACHE + ";");
+            out.println("import " + WRITER + ";");
+            out.println();
+            out.println("import java.nio.charset.StandardCharsets;");
+            out.println("import java.util.List;");
+            out.println();
+            out.println("/**");
+            out.println(" * Reflection-free UTF-8 JSON writer for {@link " + model + "}, generated from its");
+            out.println(" * fields by {@code " + JsonWriterProcessor.class.getSimpleName() + "}. Do not edit.");
+            out.println(" */");
+            out.println("@javax.annotation.processing.Generated(\"" + JsonWriterProcessor.class.getName() + "\")");
+            out.println("public final class " + writerName + " {");
+            out.println();
+            for (int i = 0; i < properties.size(); i++) {
+                String prefix = i == 0 ? "{" : ",";
+                out.println("    private static final byte[] KEY_" + i + " = \"" + prefix + "\\\""
+                        + properties.get(i).name() + "\\\":\".getBytes(StandardCharsets.UTF_8);");
+            }
+            out.println();
+            out.println("    /** Property names in the order {@link #write} emits them. */");
+            StringBuilder names = new StringBuilder();
+            for (Property property : properties) {
+                names.append(names.isEmpty() ? "" : ", ").append('"').append(property.name()).append('"');
+            }
+            out.println("    public static final List<String> PROPERTIES = List.of(" + names + ");");
+            out.println();
+            out.println("    private " + writerName + "() {");
+            out.println("    }");
+            out.println();
+            out.println("    public static void writeArray(List<" + model + "> values, Utf8ByteWriter out) {");
+            out.println("        out.writeByte('[');");
+            out.println("        for (int i = 0; i < values.size(); i++) {");
+            out.println("            if (i > 0) {");
+            out.println("                out.writeByte(',');");
+            out.println("            }");
+            out.println("            write(values.get(i), out);");
+            out.println("        }");
+            out.println("        out.writeByte(']');");
+            out.println("    }");
+            out.println();
+            out.println("    public static void write(" + model + " value, Utf8ByteWriter out) {");
+            out.println("        if (value == null) {");
+            out.println("            out.writeNull();");
+            out.println("            return;");
+            out.println("        }");
+            if (properties.isEmpty()) {
+                out.println("        out.writeByte('{');");
+            }
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                out.println("        out.writeBytes(KEY_" + i + ");");
+                writeProperty(out, property, "p" + i, "        ");
+            }
+            out.println("        out.writeByte('}');");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * Writes the value, without its key, of the property at {@code index} in");
+            out.println("     * {@link #PROPERTIES}.");
+            out.println("     */");
+            out.println("    public static void writeProperty(" + model + " value, int index, Utf8ByteWriter out) {");
+            out.println("        switch (index) {");
+            for (int i = 0; i < properties.size(); i++) {
+                out.println("            case " + i + " -> {");
+                writeProperty(out, properties.get(i), "p" + i, "                ");
+                out.println("            }");
+            }
+            out.println("            default -> throw new IndexOutOfBoundsException(\"No property \" + index);");
+            out.println("        }");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(type, "Could not write " + writerName + ": " + e.getMessage());
+        }
+    }
+
+    private static void writeProperty(PrintWriter out, Property property, String local, String indent) {
+        String value = "value." + property.getter() + "()";
+        if (property.kind() != Kind.LIST) {
+            writeValue(out, property.kind(), value, local, indent);
+            return;
+        }
+        out.println(indent + property.type() + " " + local + " = " + value + ";");
+        out.println(indent + "if (" + local + " == null) {");
+        out.println(indent + "    out.writeNull();");
+        out.println(indent + "} else {");
+        out.println(indent + "    out.writeByte('[');");
+        out.println(indent + "    for (int j = 0; j < " + local + ".size(); j++) {");
+        out.println(indent + "        if (j > 0) {");
+        out.println(indent + "            out.writeByte(',');");
+        out.println(indent + "        }");
+        writeValue(out, property.elementKind(), local + ".get(j)", local + "e", indent + "        ");
+        out.println(indent + "    }");
+        out.println(indent + "    out.writeByte(']');");
+        out.println(indent + "}");
+    }
+
+    /**
+     * Emits the statements writing {@code value}; kinds that need a null
+     * check first store it in {@code local}.
+     */
+    private static void writeValue(PrintWriter out, Kind kind, String value, String local, String indent) {
+        switch (kind) {
+            case STRING -> out.println(indent + "out.writeQuotedString(" + value + ");");
+            case INT -> out.println(indent + "out.writeInt(" + value + ");");
+            case BOOLEAN -> out.println(indent + "out.writeAscii(" + value + " ? \"true\" : \"false\");");
+            case ENUM -> out.println(indent + "EncodedValueCache.writeQuoted(" + value + ", out);");
+            case INTEGER, BOXED_BOOLEAN, DATE_TIME -> {
+                String type = switch (kind) {
+                    case INTEGER -> "Integer";
+                    case BOXED_BOOLEAN -> "Boolean";
+                    default -> "java.time.LocalDateTime";
+                };
+                out.println(indent + type + " " + local + " = " + value + ";");
+                out.println(indent + "if (" + local + " == null) {");
+                out.println(indent + "    out.writeNull();");
+                out.println(indent + "} else {");
+                switch (kind) {
+                    case INTEGER -> out.println(indent + "    out.writeInt(" + local + ");");
+                    case BOXED_BOOLEAN ->
+                        out.println(indent + "    out.writeAscii(" + local + " ? \"true\" : \"false\");");
+                    default -> {
+                        out.println(indent + "    out.writeByte('\"');");
+                        out.println(indent + "    out.writeDateTime(" + local + ");");
+                        out.println(indent + "    out.writeByte('\"');");
+                    }
+                }
+                out.println(indent + "}");
+            }
+            default -> throw new IllegalStateException("Nested lists are rejected before generation");
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
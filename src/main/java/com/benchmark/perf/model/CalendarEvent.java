@@ -1,13 +1,18 @@
 package com.benchmark.perf.model;
 
+import com.benchmark.perf.codegen.GenerateJsonWriter;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * Represents a calendar event with comprehensive fields for realistic
- * benchmarking.
+ * benchmarking. {@link GenerateJsonWriter} generates
+ * {@code CalendarEventJsonWriter} from these fields at build time.
  */
+@GenerateJsonWriter
 public class CalendarEvent {
     private String id;
     private String title;
@@ -22,6 +27,14 @@ public class CalendarEvent {
     private String organizerEmail;
     private EventStatus status;
 
+    private static final AtomicIntegerFieldUpdater<CalendarEvent> VERSION = AtomicIntegerFieldUpdater
+            .newUpdater(CalendarEvent.class, "version");
+
+    // Opt-in encoded-fragment memo; transient so reflective serializers skip it.
+    // Serializers read it from any thread, hence the volatile fields.
+    private transient volatile int version;
+    private transient volatile Fragment fragment;
+
     public CalendarEvent() {
     }
 
@@ -35,9 +48,9 @@ public class CalendarEvent {
         this.startTime = startTime;
         this.endTime = endTime;
         this.location = location;
-        this.attendees = attendees;
+        this.attendees = versioned(attendees);
         this.recurrenceRule = recurrenceRule;
-        this.reminders = reminders;
+        this.reminders = versioned(reminders);
         this.timezone = timezone;
         this.organizerEmail = organizerEmail;
         this.status = status;
@@ -50,6 +63,7 @@ public class CalendarEvent {
 
     public void setId(String id) {
         this.id = id;
+        touch();
     }
 
     public String getTitle() {
@@ -58,6 +72,7 @@ public class CalendarEvent {
 
     public void setTitle(String title) {
         this.title = title;
+        touch();
     }
 
     public String getDescription() {
@@ -66,6 +81,7 @@ public class CalendarEvent {
 
     public void setDescription(String description) {
         this.description = description;
+        touch();
     }
 
     public LocalDateTime getStartTime() {
@@ -74,6 +90,7 @@ public class CalendarEvent {
 
     public void setStartTime(LocalDateTime startTime) {
         this.startTime = startTime;
+        touch();
     }
 
     public LocalDateTime getEndTime() {
@@ -82,6 +99,7 @@ public class CalendarEvent {
 
     public void setEndTime(LocalDateTime endTime) {
         this.endTime = endTime;
+        touch();
     }
 
     public String getLocation() {
@@ -90,14 +108,20 @@ public class CalendarEvent {
 
     public void setLocation(String location) {
         this.location = location;
+        touch();
     }
 
+    /**
+     * Returns a live view; mutations through it invalidate the cached
+     * fragment. Mutating the list originally passed in bypasses tracking.
+     */
     public List<String> getAttendees() {
         return attendees;
     }
 
     public void setAttendees(List<String> attendees) {
-        this.attendees = attendees;
+        this.attendees = versioned(attendees);
+        touch();
     }
 
     public RecurrenceRule getRecurrenceRule() {
@@ -106,14 +130,20 @@ public class CalendarEvent {
 
     public void setRecurrenceRule(RecurrenceRule recurrenceRule) {
         this.recurrenceRule = recurrenceRule;
+        touch();
     }
 
+    /**
+     * Returns a live view; mutations through it invalidate the cached
+     * fragment. Mutating the list originally passed in bypasses tracking.
+     */
     public List<Integer> getReminders() {
         return reminders;
     }
 
     public void setReminders(List<Integer> reminders) {
-        this.reminders = reminders;
+        this.reminders = versioned(reminders);
+        touch();
     }
 
     public String getTimezone() {
@@ -122,6 +152,7 @@ public class CalendarEvent {
 
     public void setTimezone(String timezone) {
         this.timezone = timezone;
+        touch();
     }
 
     public String getOrganizerEmail() {
@@ -130,6 +161,7 @@ public class CalendarEvent {
 
     public void setOrganizerEmail(String organizerEmail) {
         this.organizerEmail = organizerEmail;
+        touch();
     }
 
     public EventStatus getStatus() {
@@ -138,6 +170,55 @@ public class CalendarEvent {
 
     public void setStatus(EventStatus status) {
         this.status = status;
+        touch();
+    }
+
+    /**
+     * Version stamp bumped by every setter and list mutation.
+     */
+    public int version() {
+        return version;
+    }
+
+    /**
+     * @return the memoized encoded JSON object, or {@code null} if none was
+     *         stored or the event changed since it was encoded
+     */
+    public byte[] cachedFragment() {
+        Fragment memo = fragment;
+        return memo != null && memo.version == version ? memo.bytes : null;
+    }
+
+    /**
+     * Memoizes an encoded JSON object computed at {@code atVersion}; if the
+     * event was modified meanwhile the fragment is already stale and is never
+     * returned. Nothing is stored while a list field was assigned without its
+     * setter (reflective deserializers), since its changes would go unseen.
+     */
+    public void cacheFragment(byte[] fragment, int atVersion) {
+        if (isTracked(attendees) && isTracked(reminders)) {
+            this.fragment = new Fragment(fragment, atVersion);
+        }
+    }
+
+    void touch() {
+        VERSION.incrementAndGet(this);
+        fragment = null;
+    }
+
+    private <E> List<E> versioned(List<E> list) {
+        return list == null ? null : new VersionedList<>(this, list);
+    }
+
+    private static boolean isTracked(List<?> list) {
+        return list == null || list instanceof VersionedList;
+    }
+
+    /**
+     * Encoded bytes with the version they were encoded at, published
+     * together through one volatile write.
+     */
+    private record Fragment(byte[] bytes, int version) {
     }
 
     @Override
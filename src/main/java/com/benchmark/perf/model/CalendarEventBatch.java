@@ -0,0 +1,415 @@
+package com.benchmark.perf.model;
+
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.model.CalendarEvent.RecurrenceRule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable structure-of-arrays form of a list of {@link CalendarEvent}s.
+ * Each field is one primitive column, so a batch is a few dozen arrays no
+ * matter how many events it holds:
+ *
+ * <ul>
+ * <li>ids as two {@code long} columns (UUID halves); ids that are not
+ * canonical lowercase UUIDs are kept verbatim on the side</li>
+ * <li>start/end as {@code long} epoch seconds of the local date-time (read as
+ * UTC), with a nano column only when some timestamp has a fraction</li>
+ * <li>location, timezone and emails as {@code int} codes into per-batch
+ * dictionaries; status and recurrence as {@code byte} ordinals</li>
+ * <li>attendees and reminders flattened into one column each, sliced per
+ * event by an offsets array of {@code size() + 1} entries</li>
+ * </ul>
+ *
+ * Null scalars round-trip; null attendee/reminder lists come back empty and
+ * null reminder elements are rejected, as no serializer can write them.
+ */
+public final class CalendarEventBatch {
+
+    /** Dictionary code / ordinal / timestamp marking a null value. */
+    public static final int NULL_CODE = -1;
+    public static final long NULL_TIME = Long.MIN_VALUE;
+
+    private static final RecurrenceRule[] RECURRENCE_RULES = RecurrenceRule.values();
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    private final int size;
+
+    private final long[] idMostSignificantBits;
+    private final long[] idLeastSignificantBits;
+    private final BitSet irregularIds;
+    private final String[] rawIds;
+
+    private final String[] titles;
+    private final String[] descriptions;
+
+    private final long[] startEpochSeconds;
+    private final long[] endEpochSeconds;
+    private final int[] startNanos;
+    private final int[] endNanos;
+
+    private final int[] locationCodes;
+    private final String[] locationDictionary;
+    private final int[] timezoneCodes;
+    private final String[] timezoneDictionary;
+
+    private final int[] organizerCodes;
+    private final int[] attendeeCodes;
+    private final int[] attendeeOffsets;
+    private final String[] emailDictionary;
+
+    private final int[] reminderValues;
+    private final int[] reminderOffsets;
+
+    private final byte[] recurrenceRules;
+    private final byte[] statuses;
+
+    private CalendarEventBatch(List<CalendarEvent> events) {
+        size = events.size();
+        int totalAttendees = 0;
+        int totalReminders = 0;
+        boolean hasNanos = false;
+        for (CalendarEvent event : events) {
+            totalAttendees += sizeOf(event.getAttendees());
+            totalReminders += sizeOf(event.getReminders());
+            hasNanos |= nanoOf(event.getStartTime()) != 0 || nanoOf(event.getEndTime()) != 0;
+        }
+
+        idMostSignificantBits = new long[size];
+        idLeastSignificantBits = new long[size];
+        irregularIds = new BitSet();
+        String[] raw = null;
+        titles = new String[size];
+        descriptions = new String[size];
+        startEpochSeconds = new long[size];
+        endEpochSeconds = new long[size];
+        startNanos = hasNanos ? new int[size] : null;
+        endNanos = hasNanos ? new int[size] : null;
+        locationCodes = new int[size];
+        timezoneCodes = new int[size];
+        organizerCodes = new int[size];
+        attendeeCodes = new int[totalAttendees];
+        attendeeOffsets = new int[size + 1];
+        reminderValues = new int[totalReminders];
+        reminderOffsets = new int[size + 1];
+        recurrenceRules = new byte[size];
+        statuses = new byte[size];
+
+        Dictionary locations = new Dictionary();
+        Dictionary timezones = new Dictionary();
+        Dictionary emails = new Dictionary();
+        int attendeeCursor = 0;
+        int reminderCursor = 0;
+
+        for (int i = 0; i < size; i++) {
+            CalendarEvent event = events.get(i);
+
+            String id = event.getId();
+            UUID uuid = parseCanonicalUuid(id);
+            if (uuid != null) {
+                idMostSignificantBits[i] = uuid.getMostSignificantBits();
+                idLeastSignificantBits[i] = uuid.getLeastSignificantBits();
+            } else {
+                if (raw == null) {
+                    raw = new String[size];
+                }
+                irregularIds.set(i);
+                raw[i] = id;
+            }
+
+            titles[i] = event.getTitle();
+            descriptions[i] = event.getDescription();
+            startEpochSeconds[i] = epochSecondOf(event.getStartTime());
+            endEpochSeconds[i] = epochSecondOf(event.getEndTime());
+            if (hasNanos) {
+                startNanos[i] = nanoOf(event.getStartTime());
+                endNanos[i] = nanoOf(event.getEndTime());
+            }
+            locationCodes[i] = locations.encode(event.getLocation());
+            timezoneCodes[i] = timezones.encode(event.getTimezone());
+            organizerCodes[i] = emails.encode(event.getOrganizerEmail());
+
+            List<String> attendees = event.getAttendees();
+            attendeeOffsets[i] = attendeeCursor;
+            for (int j = 0, n = sizeOf(attendees); j < n; j++) {
+                attendeeCodes[attendeeCursor++] = emails.encode(attendees.get(j));
+            }
+
+            List<Integer> reminders = event.getReminders();
+            reminderOffsets[i] = reminderCursor;
+            for (int j = 0, n = sizeOf(reminders); j < n; j++) {
+                Integer reminder = reminders.get(j);
+                if (reminder == null) {
+                    throw new IllegalArgumentException("Null reminder in event " + id);
+                }
+                reminderValues[reminderCursor++] = reminder;
+            }
+
+            recurrenceRules[i] = ordinalOf(event.getRecurrenceRule());
+            statuses[i] = ordinalOf(event.getStatus());
+        }
+        attendeeOffsets[size] = attendeeCursor;
+        reminderOffsets[size] = reminderCursor;
+
+        rawIds = raw;
+        locationDictionary = locations.toArray();
+        timezoneDictionary = timezones.toArray();
+        emailDictionary = emails.toArray();
+    }
+
+    public static CalendarEventBatch from(List<CalendarEvent> events) {
+        return new CalendarEventBatch(events);
+    }
+
+    /**
+     * Materializes every event; see {@link #toEvent(int)}.
+     */
+    public List<CalendarEvent> toEvents() {
+        List<CalendarEvent> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(toEvent(i));
+        }
+        return events;
+    }
+
+    /**
+     * Materializes one event with fresh, mutable attendee and reminder lists.
+     */
+    public CalendarEvent toEvent(int index) {
+        List<String> attendees = new ArrayList<>(attendeeEnd(index) - attendeeStart(index));
+        for (int j = attendeeStart(index); j < attendeeEnd(index); j++) {
+            attendees.add(getAttendee(j));
+        }
+        List<Integer> reminders = new ArrayList<>(reminderEnd(index) - reminderStart(index));
+        for (int j = reminderStart(index); j < reminderEnd(index); j++) {
+            reminders.add(getReminder(j));
+        }
+        return new CalendarEvent(getId(index), titles[index], descriptions[index], getStartTime(index),
+                getEndTime(index), getLocation(index), attendees, getRecurrenceRule(index), reminders,
+                getTimezone(index), getOrganizerEmail(index), getStatus(index));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if the id is stored as UUID halves, {@code false}
+     *         if it is null or kept verbatim
+     */
+    public boolean hasUuidId(int index) {
+        return !irregularIds.get(index);
+    }
+
+    public long idMostSignificantBits(int index) {
+        return idMostSignificantBits[index];
+    }
+
+    public long idLeastSignificantBits(int index) {
+        return idLeastSignificantBits[index];
+    }
+
+    public String getId(int index) {
+        return hasUuidId(index)
+                ? new UUID(idMostSignificantBits[index], idLeastSignificantBits[index]).toString()
+                : rawIds[index];
+    }
+
+    public String getTitle(int index) {
+        return titles[index];
+    }
+
+    public String getDescription(int index) {
+        return descriptions[index];
+    }
+
+    /**
+     * @return epoch seconds of the start read as UTC, or {@link #NULL_TIME}
+     */
+    public long startEpochSecond(int index) {
+        return startEpochSeconds[index];
+    }
+
+    public int startNano(int index) {
+        return startNanos == null ? 0 : startNanos[index];
+    }
+
+    public long endEpochSecond(int index) {
+        return endEpochSeconds[index];
+    }
+
+    public int endNano(int index) {
+        return endNanos == null ? 0 : endNanos[index];
+    }
+
+    public LocalDateTime getStartTime(int index) {
+        return toLocalDateTime(startEpochSeconds[index], startNano(index));
+    }
+
+    public LocalDateTime getEndTime(int index) {
+        return toLocalDateTime(endEpochSeconds[index], endNano(index));
+    }
+
+    public int locationCode(int index) {
+        return locationCodes[index];
+    }
+
+    public String getLocation(int index) {
+        return decode(locationDictionary, locationCodes[index]);
+    }
+
+    public int timezoneCode(int index) {
+        return timezoneCodes[index];
+    }
+
+    public String getTimezone(int index) {
+        return decode(timezoneDictionary, timezoneCodes[index]);
+    }
+
+    public int organizerEmailCode(int index) {
+        return organizerCodes[index];
+    }
+
+    public String getOrganizerEmail(int index) {
+        return decode(emailDictionary, organizerCodes[index]);
+    }
+
+    /**
+     * First position of the event's attendees in the flat attendee column.
+     */
+    public int attendeeStart(int index) {
+        return attendeeOffsets[index];
+    }
+
+    /**
+     * Position just past the event's last attendee.
+     */
+    public int attendeeEnd(int index) {
+        return attendeeOffsets[index + 1];
+    }
+
+    /**
+     * @param position index into the flat attendee column
+     */
+    public int attendeeCode(int position) {
+        return attendeeCodes[position];
+    }
+
+    public String getAttendee(int position) {
+        return decode(emailDictionary, attendeeCodes[position]);
+    }
+
+    public int reminderStart(int index) {
+        return reminderOffsets[index];
+    }
+
+    public int reminderEnd(int index) {
+        return reminderOffsets[index + 1];
+    }
+
+    /**
+     * @param position index into the flat reminder column
+     */
+    public int getReminder(int position) {
+        return reminderValues[position];
+    }
+
+    public RecurrenceRule getRecurrenceRule(int index) {
+        byte ordinal = recurrenceRules[index];
+        return ordinal == NULL_CODE ? null : RECURRENCE_RULES[ordinal];
+    }
+
+    public EventStatus getStatus(int index) {
+        byte ordinal = statuses[index];
+        return ordinal == NULL_CODE ? null : STATUSES[ordinal];
+    }
+
+    /**
+     * Location values by code; shared, do not modify.
+     */
+    public String[] locationDictionary() {
+        return locationDictionary;
+    }
+
+    /**
+     * Timezone values by code; shared, do not modify.
+     */
+    public String[] timezoneDictionary() {
+        return timezoneDictionary;
+    }
+
+    /**
+     * Organizer and attendee emails by code; shared, do not modify.
+     */
+    public String[] emailDictionary() {
+        return emailDictionary;
+    }
+
+    private static UUID parseCanonicalUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long epochSecondOf(LocalDateTime value) {
+        return value == null ? NULL_TIME : value.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static int nanoOf(LocalDateTime value) {
+        return value == null ? 0 : value.getNano();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond, int nano) {
+        return epochSecond == NULL_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private static byte ordinalOf(Enum<?> value) {
+        return value == null ? NULL_CODE : (byte) value.ordinal();
+    }
+
+    private static String decode(String[] dictionary, int code) {
+        return code == NULL_CODE ? null : dictionary[code];
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+
+    /**
+     * Assigns codes in first-seen order while the batch is built.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        String[] toArray() {
+            return values.toArray(new String[0]);
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.benchmark.perf.model;
+
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.model.CalendarEvent.RecurrenceRule;
+import com.benchmark.perf.util.JsonUtils;
+import com.benchmark.perf.util.Utf8ByteWriter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only event store kept outside the Java heap, so a large event cache
+ * adds nothing to old-gen occupancy or GC marking work. Two direct buffers
+ * hold the data:
+ *
+ * <ul>
+ * <li>a record region with one fixed {@value #RECORD_SIZE}-byte record per
+ * event: string references, epoch-second timestamps, list references and
+ * enum ordinals</li>
+ * <li>an arena with the raw UTF-8 bytes of every string, attendee reference
+ * lists and reminder values</li>
+ * </ul>
+ *
+ * A string reference is an arena offset plus a length whose low bit records
+ * whether the text contains characters JSON must escape, so clean strings
+ * can be copied to an output sink verbatim. Short strings are deduplicated
+ * while appending. Read through a {@link Cursor} flyweight; nothing is
+ * materialized on the heap unless a String or {@link CalendarEvent} is asked
+ * for.
+ *
+ * <p>
+ * Appends must come from one thread. Deduplication keeps a heap map of the
+ * short strings seen so far, so call {@link #seal()} once appending is done
+ * to release it ({@link #of(List)} does this); a sealed store holds no heap
+ * data beyond its two buffer handles and may be read from any number of
+ * threads, each with its own cursor. Buffers are released when the store
+ * becomes unreachable, so size {@code -XX:MaxDirectMemorySize} for the cached
+ * data set.
+ */
+public final class OffHeapEventStore {
+
+    /** Bytes per fixed-layout record. */
+    public static final int RECORD_SIZE = 96;
+
+    private static final int ID = 0;
+    private static final int TITLE = 8;
+    private static final int DESCRIPTION = 16;
+    private static final int START_SECOND = 24;
+    private static final int START_NANO = 32;
+    private static final int END_NANO = 36;
+    private static final int END_SECOND = 40;
+    private static final int LOCATION = 48;
+    private static final int TIMEZONE = 56;
+    private static final int ORGANIZER_EMAIL = 64;
+    private static final int ATTENDEES = 72;
+    private static final int REMINDERS = 80;
+    private static final int RECURRENCE_RULE = 88;
+    private static final int STATUS = 89;
+
+    /** Epoch second stored for a null timestamp. */
+    public static final long NULL_TIME = Long.MIN_VALUE;
+
+    private static final int NULL_OFFSET = -1;
+    private static final byte NULL_ORDINAL = -1;
+
+    private static final RecurrenceRule[] RECURRENCE_RULES = RecurrenceRule.values();
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    /** Strings up to this many UTF-8 bytes are deduplicated in the arena. */
+    private static final int DEDUP_MAX_BYTES = 64;
+    private static final int DEDUP_MAX_ENTRIES = 65_536;
+
+    /**
+     * Strings addressable through a cursor, with their record offsets.
+     */
+    public enum StringField {
+        ID(OffHeapEventStore.ID),
+        TITLE(OffHeapEventStore.TITLE),
+        DESCRIPTION(OffHeapEventStore.DESCRIPTION),
+        LOCATION(OffHeapEventStore.LOCATION),
+        TIMEZONE(OffHeapEventStore.TIMEZONE),
+        ORGANIZER_EMAIL(OffHeapEventStore.ORGANIZER_EMAIL);
+
+        private final int offset;
+
+        StringField(int offset) {
+            this.offset = offset;
+        }
+    }
+
+    private ByteBuffer records;
+    private ByteBuffer arena;
+    private int size;
+    private int arenaSize;
+    /** Short-string offsets while appending; {@code null} once sealed. */
+    private Map<String, Long> dedup = new HashMap<>();
+
+    /**
+     * @param expectedEvents  initial record capacity
+     * @param arenaBytes      initial arena capacity
+     */
+    public OffHeapEventStore(int expectedEvents, int arenaBytes) {
+        if (expectedEvents < 0 || arenaBytes < 0) {
+            throw new IllegalArgumentException("Capacities must be >= 0");
+        }
+        records = allocate(Math.max(1, expectedEvents) * RECORD_SIZE);
+        arena = allocate(Math.max(64, arenaBytes));
+    }
+
+    /**
+     * Copies {@code events} into a new sealed store, sized with a rough
+     * estimate of 1 KiB of arena per event.
+     */
+    public static OffHeapEventStore of(List<CalendarEvent> events) {
+        OffHeapEventStore store = new OffHeapEventStore(events.size(),
+                (int) Math.min(Integer.MAX_VALUE - 8, events.size() * 1024L));
+        for (CalendarEvent event : events) {
+            store.append(event);
+        }
+        store.seal();
+        return store;
+    }
+
+    /**
+     * Appends {@code event}. The event is validated before anything is
+     * written, so a rejected event leaves the store unchanged.
+     *
+     * @return the index of the appended event
+     * @throws IllegalArgumentException if the event has a null reminder
+     * @throws IllegalStateException    if the store is sealed or a buffer would
+     *                                  exceed 2 GiB
+     */
+    public int append(CalendarEvent event) {
+        if (dedup == null) {
+            throw new IllegalStateException("Store is sealed");
+        }
+        if ((long) (size + 1) * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap record region is full at " + size + " events");
+        }
+        List<Integer> reminders = event.getReminders();
+        int reminderCount = reminders == null ? 0 : reminders.size();
+        for (int j = 0; j < reminderCount; j++) {
+            if (reminders.get(j) == null) {
+                throw new IllegalArgumentException("Null reminder in event " + event.getId());
+            }
+        }
+        records = ensureCapacity(records, (size + 1) * RECORD_SIZE);
+        int base = size * RECORD_SIZE;
+
+        putString(base + ID, event.getId());
+        putString(base + TITLE, event.getTitle());
+        putString(base + DESCRIPTION, event.getDescription());
+        putTime(base + START_SECOND, base + START_NANO, event.getStartTime());
+        putTime(base + END_SECOND, base + END_NANO, event.getEndTime());
+        putString(base + LOCATION, event.getLocation());
+        putString(base + TIMEZONE, event.getTimezone());
+        putString(base + ORGANIZER_EMAIL, event.getOrganizerEmail());
+
+        List<String> attendees = event.getAttendees();
+        int attendeeCount = attendees == null ? 0 : attendees.size();
+        long[] attendeeRefs = new long[attendeeCount];
+        for (int j = 0; j < attendeeCount; j++) {
+            attendeeRefs[j] = stringRef(attendees.get(j));
+        }
+        int attendeesAt = reserve(attendeeCount * Long.BYTES);
+        for (int j = 0; j < attendeeCount; j++) {
+            arena.putLong(attendeesAt + j * Long.BYTES, attendeeRefs[j]);
+        }
+        records.putInt(base + ATTENDEES, attendeesAt);
+        records.putInt(base + ATTENDEES + 4, attendeeCount);
+
+        int remindersAt = reserve(reminderCount * Integer.BYTES);
+        for (int j = 0; j < reminderCount; j++) {
+            arena.putInt(remindersAt + j * Integer.BYTES, reminders.get(j));
+        }
+        records.putInt(base + REMINDERS, remindersAt);
+        records.putInt(base + REMINDERS + 4, reminderCount);
+
+        records.put(base + RECURRENCE_RULE, ordinalOf(event.getRecurrenceRule()));
+        records.put(base + STATUS, ordinalOf(event.getStatus()));
+        return size++;
+    }
+
+    /**
+     * Ends appending and drops the deduplication map, so the store no longer
+     * keeps any event strings reachable on the heap. Idempotent.
+     */
+    public void seal() {
+        dedup = null;
+    }
+
+    public boolean isSealed() {
+        return dedup == null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Direct memory in use by records and arena, excluding spare capacity.
+     */
+    public long usedBytes() {
+        return (long) size * RECORD_SIZE + arenaSize;
+    }
+
+    /**
+     * @return a new flyweight; position it with {@link Cursor#at(int)}
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public List<CalendarEvent> toEvents() {
+        List<CalendarEvent> events = new ArrayList<>(size);
+        Cursor cursor = cursor();
+        for (int i = 0; i < size; i++) {
+            events.add(cursor.at(i).toEvent());
+        }
+        return events;
+    }
+
+    private void putString(int recordOffset, String value) {
+        records.putLong(recordOffset, stringRef(value));
+    }
+
+    /**
+     * @return arena offset in the high int, {@code length << 1 | needsEscape}
+     *         in the low int; offset {@code -1} for null
+     */
+    private long stringRef(String value) {
+        if (value == null) {
+            return (long) NULL_OFFSET << 32;
+        }
+        Long cached = dedup.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        int offset = reserve(utf8.length);
+        arena.put(offset, utf8);
+        boolean needsEscape = JsonUtils.indexOfFirstEscape(value, 0) < value.length();
+        long ref = (long) offset << 32 | ((long) utf8.length << 1 | (needsEscape ? 1 : 0));
+        if (utf8.length <= DEDUP_MAX_BYTES && dedup.size() < DEDUP_MAX_ENTRIES) {
+            dedup.put(value, ref);
+        }
+        return ref;
+    }
+
+    private void putTime(int secondOffset, int nanoOffset, LocalDateTime value) {
+        records.putLong(secondOffset, value == null ? NULL_TIME : value.toEpochSecond(ZoneOffset.UTC));
+        records.putInt(nanoOffset, value == null ? 0 : value.getNano());
+    }
+
+    private int reserve(int bytes) {
+        if ((long) arenaSize + bytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap arena is full at " + arenaSize + " bytes");
+        }
+        arena = ensureCapacity(arena, arenaSize + bytes);
+        int offset = arenaSize;
+        arenaSize += bytes;
+        return offset;
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int required) {
+        if (required <= buffer.capacity()) {
+            return buffer;
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, 2L * buffer.capacity()));
+        ByteBuffer grown = allocate(capacity);
+        grown.put(0, buffer, 0, buffer.capacity());
+        return grown;
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    private static byte ordinalOf(Enum<?> value) {
+        return value == null ? NULL_ORDINAL : (byte) value.ordinal();
+    }
+
+    private static int refOffset(long ref) {
+        return (int) (ref >> 32);
+    }
+
+    private static int refLength(long ref) {
+        return (int) ref >>> 1;
+    }
+
+    private static boolean refNeedsEscape(long ref) {
+        return (ref & 1) != 0;
+    }
+
+    /**
+     * Reusable view of one record. Accessors read straight from direct memory;
+     * only the String and LocalDateTime getters allocate.
+     */
+    public final class Cursor {
+        private int base;
+
+        private Cursor() {
+        }
+
+        /**
+         * Moves the cursor to event {@code index}.
+         */
+        public Cursor at(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Event " + index + " of " + size);
+            }
+            base = index * RECORD_SIZE;
+            return this;
+        }
+
+        public String getString(StringField field) {
+            return decode(records.getLong(base + field.offset));
+        }
+
+        /**
+         * Writes the field as a quoted JSON string (or {@code null}), copying
+         * its UTF-8 bytes from off-heap memory.
+         */
+        public void writeQuoted(StringField field, Utf8ByteWriter out) {
+            writeQuoted(records.getLong(base + field.offset), out);
+        }
+
+        /**
+         * @return epoch seconds of the start read as UTC, or
+         *         {@link #NULL_TIME}
+         */
+        public long startEpochSecond() {
+            return records.getLong(base + START_SECOND);
+        }
+
+        public int startNano() {
+            return records.getInt(base + START_NANO);
+        }
+
+        public long endEpochSecond() {
+            return records.getLong(base + END_SECOND);
+        }
+
+        public int endNano() {
+            return records.getInt(base + END_NANO);
+        }
+
+        public LocalDateTime getStartTime() {
+            return toLocalDateTime(startEpochSecond(), startNano());
+        }
+
+        public LocalDateTime getEndTime() {
+            return toLocalDateTime(endEpochSecond(), endNano());
+        }
+
+        public int attendeeCount() {
+            return records.getInt(base + ATTENDEES + 4);
+        }
+
+        public String getAttendee(int position) {
+            return decode(attendeeRef(position));
+        }
+
+        public void writeQuotedAttendee(int position, Utf8ByteWriter out) {
+            writeQuoted(attendeeRef(position), out);
+        }
+
+        public int reminderCount() {
+            return records.getInt(base + REMINDERS + 4);
+        }
+
+        public int getReminder(int position) {
+            return arena.getInt(records.getInt(base + REMINDERS) + position * Integer.BYTES);
+        }
+
+        public RecurrenceRule getRecurrenceRule() {
+            byte ordinal = records.get(base + RECURRENCE_RULE);
+            return ordinal == NULL_ORDINAL ? null : RECURRENCE_RULES[ordinal];
+        }
+
+        public EventStatus getStatus() {
+            byte ordinal = records.get(base + STATUS);
+            return ordinal == NULL_ORDINAL ? null : STATUSES[ordinal];
+        }
+
+        /**
+         * Materializes the current record as a heap object.
+         */
+        public CalendarEvent toEvent() {
+            List<String> attendees = new ArrayList<>(attendeeCount());
+            for (int j = 0; j < attendeeCount(); j++) {
+                attendees.add(getAttendee(j));
+            }
+            List<Integer> reminders = new ArrayList<>(reminderCount());
+            for (int j = 0; j < reminderCount(); j++) {
+                reminders.add(getReminder(j));
+            }
+            return new CalendarEvent(getString(StringField.ID), getString(StringField.TITLE),
+                    getString(StringField.DESCRIPTION), getStartTime(), getEndTime(),
+                    getString(StringField.LOCATION), attendees, getRecurrenceRule(), reminders,
+                    getString(StringField.TIMEZONE), getString(StringField.ORGANIZER_EMAIL), getStatus());
+        }
+
+        private long attendeeRef(int position) {
+            return arena.getLong(records.getInt(base + ATTENDEES) + position * Long.BYTES);
+        }
+
+        private String decode(long ref) {
+            int offset = refOffset(ref);
+            if (offset == NULL_OFFSET) {
+                return null;
+            }
+            byte[] utf8 = new byte[refLength(ref)];
+            arena.get(offset, utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        private void writeQuoted(long ref, Utf8ByteWriter out) {
+            int offset = refOffset(ref);
+            if (offset == NULL_OFFSET) {
+                out.writeNull();
+                return;
+            }
+            out.writeByte('"');
+            if (refNeedsEscape(ref)) {
+                out.writeEscaped(arena, offset, refLength(ref));
+            } else {
+                out.writeBytes(arena, offset, refLength(ref));
+            }
+            out.writeByte('"');
+        }
+
+        private LocalDateTime toLocalDateTime(long epochSecond, int nano) {
+            return epochSecond == NULL_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+    }
+}
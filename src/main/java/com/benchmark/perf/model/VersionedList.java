@@ -0,0 +1,52 @@
+package com.benchmark.perf.model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List view handed out by CalendarEvent getters. Every structural or element
+ * change bumps the owning event's version so memoized encodings are dropped.
+ * Iterator, sub-list and bulk operations all route through
+ * {@link #set}, {@link #add(int, Object)} and {@link #remove(int)}.
+ */
+final class VersionedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final CalendarEvent owner;
+    private final List<E> delegate;
+
+    VersionedList(CalendarEvent owner, List<E> delegate) {
+        this.owner = owner;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public E get(int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = delegate.set(index, element);
+        owner.touch();
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        delegate.add(index, element);
+        owner.touch();
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = delegate.remove(index);
+        owner.touch();
+        return removed;
+    }
+}
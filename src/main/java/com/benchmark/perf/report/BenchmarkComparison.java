@@ -0,0 +1,427 @@
+package com.benchmark.perf.report;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.TDistribution;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Compares a candidate JMH JSON result file against a baseline and tells
+ * regressions from noise.
+ *
+ * <p>
+ * Entries are matched on benchmark, mode, thread count and params. The
+ * samples for each side are the per-iteration scores from {@code rawData}
+ * (iteration means from {@code rawDataHistogram} for SampleTime), and the two
+ * are compared with Welch's t-test. The delta is reported with a confidence
+ * interval at {@code 1 - alpha}. Without raw data the standard error is
+ * recovered from JMH's 99.9% {@code scoreError} and a normal approximation is
+ * used.
+ *
+ * <p>
+ * A result is a regression when the difference is significant
+ * ({@code p < alpha}) and the candidate is worse by more than the threshold
+ * percentage; "worse" means lower for throughput and higher for every time
+ * mode. The process exits with status 1 if any result regresses, so the tool
+ * can gate a build.
+ *
+ * <pre>
+ * BenchmarkComparison baseline.json candidate.json [comparison.html] [--threshold=5] [--alpha=0.05]
+ * </pre>
+ */
+public class BenchmarkComparison {
+
+    public static final double DEFAULT_THRESHOLD_PERCENT = 5.0;
+    public static final double DEFAULT_ALPHA = 0.05;
+
+    private static final String DEFAULT_OUTPUT = "results/comparison.html";
+
+    /**
+     * Two-sided z for JMH's 99.9% score error.
+     */
+    private static final double JMH_ERROR_Z = new NormalDistribution().inverseCumulativeProbability(0.9995);
+
+    private static final DecimalFormat DF = new DecimalFormat("#,##0.000");
+    private static final DecimalFormat DF_PERCENT = new DecimalFormat("+0.0;-0.0");
+    private static final DecimalFormat DF_P = new DecimalFormat("0.0000");
+
+    enum Verdict {
+        REGRESSION, IMPROVEMENT, UNCHANGED
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> positional = new ArrayList<>();
+        double threshold = DEFAULT_THRESHOLD_PERCENT;
+        double alpha = DEFAULT_ALPHA;
+        for (String arg : args) {
+            if (arg.startsWith("--threshold=")) {
+                threshold = Double.parseDouble(arg.substring("--threshold=".length()));
+            } else if (arg.startsWith("--alpha=")) {
+                alpha = Double.parseDouble(arg.substring("--alpha=".length()));
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (positional.size() < 2 || positional.size() > 3 || threshold < 0 || alpha <= 0 || alpha >= 1) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json> [comparison.html]"
+                    + " [--threshold=PERCENT] [--alpha=ALPHA]");
+            System.exit(2);
+        }
+        Path output = Path.of(positional.size() == 3 ? positional.get(2) : DEFAULT_OUTPUT);
+
+        JSONArray baseline = new JSONArray(Files.readString(Path.of(positional.get(0))));
+        JSONArray candidate = new JSONArray(Files.readString(Path.of(positional.get(1))));
+        Result result = compare(baseline, candidate, threshold, alpha);
+
+        Files.writeString(output, toHtml(result, positional.get(0), positional.get(1)), StandardCharsets.UTF_8);
+        long regressions = result.count(Verdict.REGRESSION);
+        System.out.printf("Compared %d benchmarks: %d regression(s), %d improvement(s), %d unchanged%n",
+                result.comparisons.size(), regressions, result.count(Verdict.IMPROVEMENT),
+                result.count(Verdict.UNCHANGED));
+        for (Comparison comparison : result.comparisons) {
+            if (comparison.verdict == Verdict.REGRESSION) {
+                System.out.printf("  REGRESSION %s: %s%% (p=%s)%n", comparison.key,
+                        DF_PERCENT.format(comparison.deltaPercent), DF_P.format(comparison.pValue));
+            }
+        }
+        System.out.println("Comparison report generated: " + output);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    static Result compare(JSONArray baseline, JSONArray candidate, double thresholdPercent, double alpha) {
+        Map<String, JSONObject> baselineByKey = index(baseline);
+        Map<String, JSONObject> candidateByKey = index(candidate);
+
+        Result result = new Result(thresholdPercent, alpha);
+        for (Map.Entry<String, JSONObject> entry : baselineByKey.entrySet()) {
+            JSONObject other = candidateByKey.get(entry.getKey());
+            if (other == null) {
+                result.onlyInBaseline.add(entry.getKey());
+            } else {
+                result.comparisons.add(compare(entry.getKey(), entry.getValue(), other, thresholdPercent, alpha));
+            }
+        }
+        for (String key : candidateByKey.keySet()) {
+            if (!baselineByKey.containsKey(key)) {
+                result.onlyInCandidate.add(key);
+            }
+        }
+        return result;
+    }
+
+    static Comparison compare(String key, JSONObject baseline, JSONObject candidate, double thresholdPercent,
+            double alpha) {
+        String mode = baseline.getString("mode");
+        Sample before = Sample.of(baseline.getJSONObject("primaryMetric"));
+        Sample after = Sample.of(candidate.getJSONObject("primaryMetric"));
+
+        double delta = after.mean - before.mean;
+        double standardError = Math.sqrt(before.meanVariance() + after.meanVariance());
+        double pValue;
+        double halfWidth;
+        if (standardError == 0) {
+            pValue = delta == 0 ? 1 : 0;
+            halfWidth = 0;
+        } else {
+            double t = Math.abs(delta) / standardError;
+            if (before.exact && after.exact) {
+                TDistribution distribution = new TDistribution(welchDegreesOfFreedom(before, after));
+                pValue = 2 * distribution.cumulativeProbability(-t);
+                halfWidth = distribution.inverseCumulativeProbability(1 - alpha / 2) * standardError;
+            } else {
+                NormalDistribution distribution = new NormalDistribution();
+                pValue = 2 * distribution.cumulativeProbability(-t);
+                halfWidth = distribution.inverseCumulativeProbability(1 - alpha / 2) * standardError;
+            }
+        }
+
+        double scale = before.mean != 0 ? 100 / Math.abs(before.mean) : 0;
+        double deltaPercent = delta * scale;
+        boolean higherIsBetter = mode.equals("thrpt");
+        double worsePercent = higherIsBetter ? -deltaPercent : deltaPercent;
+        Verdict verdict = Verdict.UNCHANGED;
+        if (pValue < alpha && worsePercent > thresholdPercent) {
+            verdict = Verdict.REGRESSION;
+        } else if (pValue < alpha && -worsePercent > thresholdPercent) {
+            verdict = Verdict.IMPROVEMENT;
+        }
+        return new Comparison(key, mode, baseline.getJSONObject("primaryMetric").getString("scoreUnit"), before,
+                after, deltaPercent, (delta - halfWidth) * scale, (delta + halfWidth) * scale, pValue, verdict);
+    }
+
+    /**
+     * Welch–Satterthwaite approximation for unequal variances.
+     */
+    private static double welchDegreesOfFreedom(Sample a, Sample b) {
+        double va = a.meanVariance();
+        double vb = b.meanVariance();
+        double denominator = va * va / (a.n - 1) + vb * vb / (b.n - 1);
+        return denominator == 0 ? Math.max(1, a.n + b.n - 2) : (va + vb) * (va + vb) / denominator;
+    }
+
+    /**
+     * Matching key: benchmark, mode, thread count and sorted params.
+     */
+    static String key(JSONObject result) {
+        StringBuilder key = new StringBuilder(result.getString("benchmark"))
+                .append(" [").append(result.getString("mode"));
+        int threads = result.optInt("threads", 1);
+        if (threads != 1) {
+            key.append(", threads=").append(threads);
+        }
+        JSONObject params = result.optJSONObject("params");
+        if (params != null) {
+            for (String name : new TreeSet<>(params.keySet())) {
+                key.append(", ").append(name).append('=').append(params.get(name));
+            }
+        }
+        return key.append(']').toString();
+    }
+
+    private static Map<String, JSONObject> index(JSONArray results) {
+        Map<String, JSONObject> byKey = new TreeMap<>();
+        for (int i = 0; i < results.length(); i++) {
+            JSONObject result = results.getJSONObject(i);
+            if (byKey.put(key(result), result) != null) {
+                throw new IllegalArgumentException("Duplicate benchmark result: " + key(result));
+            }
+        }
+        return byKey;
+    }
+
+    private static String toHtml(Result result, String baselineFile, String candidateFile) {
+        StringBuilder html = new StringBuilder(HtmlReportGenerator.getPageStart("Benchmark Comparison"));
+        html.append("  <div class='header-info'>\n");
+        html.append("    <p><strong>Baseline:</strong> ").append(baselineFile).append("</p>\n");
+        html.append("    <p><strong>Candidate:</strong> ").append(candidateFile).append("</p>\n");
+        html.append("    <p><strong>Regression threshold:</strong> ").append(result.thresholdPercent)
+                .append("% | <strong>Significance:</strong> p &lt; ").append(result.alpha)
+                .append(" (Welch's t-test) | <strong>Generated:</strong> ")
+                .append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                .append("</p>\n");
+        html.append("  </div>\n");
+
+        html.append("<div class='summary-section'>\n");
+        html.append("<div class='summary-card'>\n");
+        html.append("<h3>Summary</h3>\n");
+        html.append("<ul>\n");
+        html.append("<li><strong>").append(result.count(Verdict.REGRESSION)).append("</strong> regression(s)</li>\n");
+        html.append("<li><strong>").append(result.count(Verdict.IMPROVEMENT))
+                .append("</strong> improvement(s)</li>\n");
+        html.append("<li><strong>").append(result.count(Verdict.UNCHANGED))
+                .append("</strong> unchanged or within noise</li>\n");
+        html.append("</ul>\n");
+        html.append("</div>\n");
+        html.append("<div class='summary-card'>\n");
+        html.append("<h3>Unmatched</h3>\n");
+        html.append("<ul>\n");
+        html.append("<li>Only in baseline: ").append(result.onlyInBaseline.size()).append("</li>\n");
+        html.append("<li>Only in candidate: ").append(result.onlyInCandidate.size()).append("</li>\n");
+        html.append("</ul>\n");
+        html.append("</div>\n");
+        html.append("</div>\n");
+
+        html.append("<div class='table-section'>\n");
+        html.append("<h2>Results</h2>\n");
+        html.append("<table>\n");
+        html.append("<thead>\n");
+        html.append("<tr>\n");
+        html.append("<th>Benchmark</th>\n");
+        html.append("<th>Baseline</th>\n");
+        html.append("<th>Candidate</th>\n");
+        html.append("<th>Unit</th>\n");
+        html.append("<th>Delta</th>\n");
+        html.append("<th>").append(DF_PERCENT.format(100 * (1 - result.alpha)).substring(1))
+                .append("% CI</th>\n");
+        html.append("<th>p-value</th>\n");
+        html.append("<th>Verdict</th>\n");
+        html.append("</tr>\n");
+        html.append("</thead>\n");
+        html.append("<tbody>\n");
+        List<Comparison> ordered = new ArrayList<>(result.comparisons);
+        ordered.sort(Comparator.comparing((Comparison c) -> c.verdict).thenComparing(c -> c.key));
+        for (Comparison c : ordered) {
+            String rowClass = switch (c.verdict) {
+                case REGRESSION -> " class='regression'";
+                case IMPROVEMENT -> " class='improvement'";
+                case UNCHANGED -> "";
+            };
+            html.append("<tr").append(rowClass).append(">\n");
+            html.append("<td>").append(c.key).append("</td>\n");
+            html.append("<td>").append(DF.format(c.baseline.mean)).append(" &plusmn; ")
+                    .append(DF.format(c.baseline.jmhError)).append("</td>\n");
+            html.append("<td>").append(DF.format(c.candidate.mean)).append(" &plusmn; ")
+                    .append(DF.format(c.candidate.jmhError)).append("</td>\n");
+            html.append("<td>").append(c.scoreUnit).append("</td>\n");
+            html.append("<td>").append(DF_PERCENT.format(c.deltaPercent)).append("%</td>\n");
+            html.append("<td>[").append(DF_PERCENT.format(c.lowPercent)).append("%, ")
+                    .append(DF_PERCENT.format(c.highPercent)).append("%]</td>\n");
+            html.append("<td>").append(DF_P.format(c.pValue)).append("</td>\n");
+            html.append("<td>").append(c.verdict.name().toLowerCase(Locale.ROOT)).append("</td>\n");
+            html.append("</tr>\n");
+        }
+        html.append("</tbody>\n");
+        html.append("</table>\n");
+        html.append("</div>\n");
+
+        appendUnmatched(html, "Only in Baseline", result.onlyInBaseline);
+        appendUnmatched(html, "Only in Candidate", result.onlyInCandidate);
+        html.append(HtmlReportGenerator.getHtmlFooter());
+        return html.toString();
+    }
+
+    private static void appendUnmatched(StringBuilder html, String title, List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        html.append("<div class='table-section'>\n");
+        html.append("<h2>").append(title).append("</h2>\n");
+        html.append("<ul>\n");
+        for (String key : keys) {
+            html.append("<li>").append(key).append("</li>\n");
+        }
+        html.append("</ul>\n");
+        html.append("</div>\n");
+    }
+
+    /**
+     * Iteration-level scores of one result.
+     */
+    static final class Sample {
+        final int n;
+        final double mean;
+        final double variance;
+        final double jmhError;
+        /**
+         * {@code false} when only the score and its error were available.
+         */
+        final boolean exact;
+
+        private Sample(int n, double mean, double variance, double jmhError, boolean exact) {
+            this.n = n;
+            this.mean = mean;
+            this.variance = variance;
+            this.jmhError = jmhError;
+            this.exact = exact;
+        }
+
+        static Sample of(JSONObject primaryMetric) {
+            double score = primaryMetric.getDouble("score");
+            double error = primaryMetric.optDouble("scoreError", Double.NaN);
+            if (Double.isNaN(error)) {
+                error = 0;
+            }
+            List<Double> iterations = iterationScores(primaryMetric);
+            if (iterations.size() < 2) {
+                // Standard error of the mean from the 99.9% half-width.
+                double standardError = error / JMH_ERROR_Z;
+                return new Sample(1, score, standardError * standardError, error, false);
+            }
+            double sum = 0;
+            for (double value : iterations) {
+                sum += value;
+            }
+            double mean = sum / iterations.size();
+            double squares = 0;
+            for (double value : iterations) {
+                squares += (value - mean) * (value - mean);
+            }
+            return new Sample(iterations.size(), mean, squares / (iterations.size() - 1), error, true);
+        }
+
+        /**
+         * Variance of the mean: the squared standard error.
+         */
+        double meanVariance() {
+            return variance / n;
+        }
+
+        private static List<Double> iterationScores(JSONObject primaryMetric) {
+            List<Double> scores = new ArrayList<>();
+            JSONArray rawData = primaryMetric.optJSONArray("rawData");
+            if (rawData != null) {
+                for (int fork = 0; fork < rawData.length(); fork++) {
+                    JSONArray iterations = rawData.getJSONArray(fork);
+                    for (int i = 0; i < iterations.length(); i++) {
+                        scores.add(iterations.getDouble(i));
+                    }
+                }
+                return scores;
+            }
+            // SampleTime: [fork][iteration] -> list of [value, count] buckets.
+            JSONArray histogram = primaryMetric.optJSONArray("rawDataHistogram");
+            if (histogram != null) {
+                for (int fork = 0; fork < histogram.length(); fork++) {
+                    JSONArray iterations = histogram.getJSONArray(fork);
+                    for (int i = 0; i < iterations.length(); i++) {
+                        JSONArray buckets = iterations.getJSONArray(i);
+                        double total = 0;
+                        long count = 0;
+                        for (int b = 0; b < buckets.length(); b++) {
+                            JSONArray bucket = buckets.getJSONArray(b);
+                            total += bucket.getDouble(0) * bucket.getLong(1);
+                            count += bucket.getLong(1);
+                        }
+                        if (count > 0) {
+                            scores.add(total / count);
+                        }
+                    }
+                }
+            }
+            return scores;
+        }
+    }
+
+    static final class Comparison {
+        final String key;
+        final String mode;
+        final String scoreUnit;
+        final Sample baseline;
+        final Sample candidate;
+        final double deltaPercent;
+        final double lowPercent;
+        final double highPercent;
+        final double pValue;
+        final Verdict verdict;
+
+        Comparison(String key, String mode, String scoreUnit, Sample baseline, Sample candidate,
+                double deltaPercent, double lowPercent, double highPercent, double pValue, Verdict verdict) {
+            this.key = key;
+            this.mode = mode;
+            this.scoreUnit = scoreUnit;
+            this.baseline = baseline;
+            this.candidate = candidate;
+            this.deltaPercent = deltaPercent;
+            this.lowPercent = lowPercent;
+            this.highPercent = highPercent;
+            this.pValue = pValue;
+            this.verdict = verdict;
+        }
+    }
+
+    static final class Result {
+        final double thresholdPercent;
+        final double alpha;
+        final List<Comparison> comparisons = new ArrayList<>();
+        final List<String> onlyInBaseline = new ArrayList<>();
+        final List<String> onlyInCandidate = new ArrayList<>();
+
+        Result(double thresholdPercent, double alpha) {
+            this.thresholdPercent = thresholdPercent;
+            this.alpha = alpha;
+        }
+
+        long count(Verdict verdict) {
+            return comparisons.stream().filter(c -> c.verdict == verdict).count();
+        }
+    }
+}
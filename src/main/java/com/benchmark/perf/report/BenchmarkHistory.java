@@ -0,0 +1,333 @@
+package com.benchmark.perf.report;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only, file-based store of JMH runs, so results survive the next
+ * {@code run-benchmark.sh} and can be charted over time.
+ *
+ * <p>
+ * The store is a directory with two files:
+ * <ul>
+ * <li>{@value #RESULTS_FILE}: one line per run holding that run's results as
+ * a JSON array, trimmed to score, error, unit, normalized allocation and
+ * the {@code wireBytes}/{@code rawBytes} size counters (the same shape as
+ * JMH output, minus raw data).</li>
+ * <li>{@value #RUNS_FILE}: one line per run with its metadata (time, git
+ * commit, JDK, JVM flags, CPU) and the byte offset and length of its line in
+ * the results file.</li>
+ * </ul>
+ * A run's results are written before its index line, so a crash mid-ingest
+ * leaves at most an unreferenced tail in the results file. Readers load the
+ * small index and then read only the result blocks they need, which keeps
+ * rendering a trend over a sample of runs independent of how many runs are
+ * stored.
+ *
+ * <pre>
+ * BenchmarkHistory [--history=results/history] [--commit=SHA] results.json [more-results.json ...]
+ * </pre>
+ * All files passed in one call are stored as a single run.
+ */
+public final class BenchmarkHistory {
+
+    public static final String DEFAULT_DIRECTORY = "results/history";
+
+    static final String RUNS_FILE = "runs.jsonl";
+    static final String RESULTS_FILE = "results.jsonl";
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+    private static final List<String> KEPT_METRICS = List.of(ALLOC_METRIC, "wireBytes", "rawBytes");
+
+    private final Path directory;
+
+    public BenchmarkHistory(Path directory) {
+        this.directory = directory;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(DEFAULT_DIRECTORY);
+        String commit = null;
+        JSONArray results = new JSONArray();
+        List<String> sources = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--history=")) {
+                directory = Path.of(arg.substring("--history=".length()));
+            } else if (arg.startsWith("--commit=")) {
+                commit = arg.substring("--commit=".length());
+            } else {
+                results.putAll(new JSONArray(Files.readString(Path.of(arg))));
+                sources.add(Path.of(arg).getFileName().toString());
+            }
+        }
+        if (sources.isEmpty()) {
+            System.err.println("Usage: BenchmarkHistory [--history=DIR] [--commit=SHA] results.json [more.json ...]");
+            System.exit(2);
+        }
+
+        Run run = new BenchmarkHistory(directory).append(results, new JSONObject()
+                .put("timestamp", Instant.now().toString())
+                .put("commit", commit != null ? commit : detectCommit())
+                .put("cpu", detectCpu())
+                .put("sources", String.join(", ", sources)));
+        System.out.println("Stored run " + run.id + " (" + run.resultCount + " results, commit "
+                + run.shortCommit() + ") in " + directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Stores {@code results} as one run. {@code metadata} supplies the
+     * timestamp, commit and CPU; the JDK, VM and JVM flags are taken from the
+     * results themselves, since they describe the forked JVM that was
+     * measured rather than the one running this tool.
+     */
+    Run append(JSONArray results, JSONObject metadata) throws IOException {
+        Files.createDirectories(directory);
+        JSONObject index = new JSONObject(metadata.toMap());
+        JSONObject first = results.optJSONObject(0);
+        if (first != null) {
+            index.put("jdk", first.optString("jdkVersion", System.getProperty("java.version")));
+            index.put("vm", first.optString("vmName") + " " + first.optString("vmVersion"));
+            JSONArray jvmArgs = first.optJSONArray("jvmArgs");
+            index.put("jvmArgs", jvmArgs != null ? joinArgs(jvmArgs) : "");
+        }
+        JSONArray trimmed = new JSONArray();
+        for (int i = 0; i < results.length(); i++) {
+            trimmed.put(trim(results.getJSONObject(i)));
+        }
+        byte[] block = (trimmed + "\n").getBytes(StandardCharsets.UTF_8);
+
+        try (FileChannel runs = FileChannel.open(directory.resolve(RUNS_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+                FileLock lock = runs.lock();
+                FileChannel data = FileChannel.open(directory.resolve(RESULTS_FILE), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE)) {
+            long offset = data.size();
+            writeFully(data, ByteBuffer.wrap(block), offset);
+            data.force(false);
+
+            index.put("id", countLines(runs) + 1)
+                    .put("offset", offset)
+                    .put("length", block.length)
+                    .put("results", trimmed.length());
+            writeFully(runs, ByteBuffer.wrap((index + "\n").getBytes(StandardCharsets.UTF_8)), runs.size());
+            runs.force(false);
+        }
+        return new Run(index);
+    }
+
+    /**
+     * All stored runs in ingest order, without their results.
+     */
+    List<Run> runs() throws IOException {
+        Path file = directory.resolve(RUNS_FILE);
+        List<Run> runs = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return runs;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    runs.add(new Run(new JSONObject(line)));
+                }
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Reads the results of each run in {@code runs}, in the same order.
+     */
+    List<JSONArray> results(List<Run> runs) throws IOException {
+        List<JSONArray> results = new ArrayList<>(runs.size());
+        try (FileChannel data = FileChannel.open(directory.resolve(RESULTS_FILE), StandardOpenOption.READ)) {
+            for (Run run : runs) {
+                ByteBuffer block = ByteBuffer.allocate(run.length);
+                while (block.hasRemaining()) {
+                    if (data.read(block, run.offset + block.position()) < 0) {
+                        throw new IllegalStateException("Truncated history block for run " + run.id);
+                    }
+                }
+                results.add(new JSONArray(new String(block.array(), StandardCharsets.UTF_8)));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * At most {@code max} runs spread evenly over {@code runs}, always
+     * keeping the first and the latest.
+     */
+    static List<Run> sample(List<Run> runs, int max) {
+        if (runs.size() <= max) {
+            return runs;
+        }
+        List<Run> sampled = new ArrayList<>(max);
+        double step = (double) (runs.size() - 1) / (max - 1);
+        for (int i = 0; i < max; i++) {
+            sampled.add(runs.get((int) Math.round(i * step)));
+        }
+        return sampled;
+    }
+
+    private static JSONObject trim(JSONObject result) {
+        JSONObject primary = result.getJSONObject("primaryMetric");
+        JSONObject trimmed = new JSONObject()
+                .put("benchmark", result.getString("benchmark"))
+                .put("mode", result.getString("mode"))
+                .put("threads", result.optInt("threads", 1))
+                .put("params", result.optJSONObject("params") != null ? result.getJSONObject("params")
+                        : new JSONObject())
+                .put("primaryMetric", new JSONObject()
+                        .put("score", primary.getDouble("score"))
+                        .put("scoreError", finiteOrZero(primary.optDouble("scoreError", 0)))
+                        .put("scoreUnit", primary.getString("scoreUnit")));
+        JSONObject secondary = result.optJSONObject("secondaryMetrics");
+        JSONObject kept = new JSONObject();
+        for (String name : KEPT_METRICS) {
+            if (secondary != null && secondary.has(name)) {
+                JSONObject metric = secondary.getJSONObject(name);
+                kept.put(name, new JSONObject()
+                        .put("score", metric.getDouble("score"))
+                        .put("scoreUnit", metric.getString("scoreUnit")));
+            }
+        }
+        if (!kept.isEmpty()) {
+            trimmed.put("secondaryMetrics", kept);
+        }
+        return trimmed;
+    }
+
+    /**
+     * JMH writes {@code NaN} for the error of single-iteration results, which
+     * is not valid JSON.
+     */
+    private static double finiteOrZero(double value) {
+        return Double.isFinite(value) ? value : 0;
+    }
+
+    private static String joinArgs(JSONArray args) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < args.length(); i++) {
+            joined.append(i == 0 ? "" : " ").append(args.getString(i));
+        }
+        return joined.toString();
+    }
+
+    private static long countLines(FileChannel channel) throws IOException {
+        long lines = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        long position = 0;
+        int read;
+        while ((read = channel.read(buffer, position)) > 0) {
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    lines++;
+                }
+            }
+            position += read;
+            buffer.clear();
+        }
+        return lines;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static String detectCommit() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "HEAD").redirectErrorStream(true).start();
+            String output;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(git.getInputStream(), StandardCharsets.UTF_8))) {
+                output = reader.readLine();
+            }
+            if (git.waitFor(5, TimeUnit.SECONDS) && git.exitValue() == 0 && output != null) {
+                return output.trim();
+            }
+        } catch (IOException e) {
+            // git not installed; fall through
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+
+    private static String detectCpu() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        Path cpuInfo = Path.of("/proc/cpuinfo");
+        if (Files.isReadable(cpuInfo)) {
+            try (BufferedReader reader = Files.newBufferedReader(cpuInfo, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith("model name")) {
+                        return line.substring(line.indexOf(':') + 1).trim() + " x " + cpus;
+                    }
+                }
+            } catch (IOException e) {
+                // fall back to the architecture below
+            }
+        }
+        return System.getProperty("os.arch") + " x " + cpus;
+    }
+
+    /**
+     * Index entry of one stored run.
+     */
+    static final class Run {
+        final int id;
+        final String timestamp;
+        final String commit;
+        final String jdk;
+        final String jvmArgs;
+        final String cpu;
+        final int resultCount;
+        final long offset;
+        final int length;
+
+        Run(JSONObject index) {
+            this.id = index.getInt("id");
+            this.timestamp = index.optString("timestamp");
+            this.commit = index.optString("commit", "unknown");
+            this.jdk = index.optString("jdk");
+            this.jvmArgs = index.optString("jvmArgs");
+            this.cpu = index.optString("cpu");
+            this.resultCount = index.optInt("results");
+            this.offset = index.getLong("offset");
+            this.length = index.getInt("length");
+        }
+
+        String shortCommit() {
+            return commit.length() > 8 ? commit.substring(0, 8) : commit;
+        }
+
+        /**
+         * {@code yyyy-MM-dd} part of the ISO timestamp.
+         */
+        String date() {
+            return timestamp.length() >= 10 ? timestamp.substring(0, 10) : timestamp;
+        }
+    }
+}
@@ -18,6 +18,7 @@ public class HtmlReportGenerator {
 
     private static final DecimalFormat DF = new DecimalFormat("#,##0.00");
     private static final DecimalFormat DF_INT = new DecimalFormat("#,##0");
+    private static final DecimalFormat DF_LATENCY = new DecimalFormat("#,##0.000");
     private static final String[] BASE_COLORS = {
             "54, 162, 235",
             "255, 99, 132",
@@ -27,30 +28,103 @@ public class HtmlReportGenerator {
             "255, 159, 64"
     };
 
+    /**
+     * Aux counter holding payload bytes, see BinaryFormatBenchmark.
+     */
+    private static final String WIRE_BYTES_METRIC = "wireBytes";
+    private static final String RAW_BYTES_METRIC = "rawBytes";
+
+    /**
+     * Aux counter holding a data layout's retained heap in bytes, see
+     * ColumnarBatchBenchmark.
+     */
+    private static final String RETAINED_BYTES_METRIC = "retainedBytes";
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    /**
+     * {@code scorePercentiles} keys of SampleTime results shown in the
+     * latency section, and their column labels.
+     */
+    private static final String[] PERCENTILE_KEYS = { "50.0", "90.0", "99.0", "99.9", "100.0" };
+    private static final String[] PERCENTILE_LABELS = { "p50", "p90", "p99", "p99.9", "max" };
+
+    /**
+     * Benchmark method suffixes that mark an alternate code path of the same
+     * serializer, so they get their own series instead of overwriting it.
+     */
+    private static final Map<String, String> METHOD_VARIANTS = new LinkedHashMap<>();
+
+    private static final Set<String> SHARED_PARAMS = Set.of("eventCount", "warmupIterations",
+            "measurementIterations");
+
+    static {
+        METHOD_VARIANTS.put("ToStream", "stream");
+        METHOD_VARIANTS.put("FromIterator", "iterator");
+        METHOD_VARIANTS.put("Materialized", "materialized");
+        METHOD_VARIANTS.put("Deserialize", "deserialize");
+        METHOD_VARIANTS.put("ObjectModel", "object model");
+        METHOD_VARIANTS.put("MappedFile", "mapped file");
+        METHOD_VARIANTS.put("FileStream", "file stream");
+        METHOD_VARIANTS.put("StringToFile", "string to file");
+        METHOD_VARIANTS.put("GzipString", "gzip of String");
+        METHOD_VARIANTS.put("Gzip", "gzip");
+        METHOD_VARIANTS.put("Encode", "encode");
+        METHOD_VARIANTS.put("Decode", "decode");
+        METHOD_VARIANTS.put("Shared", "shared list");
+        METHOD_VARIANTS.put("Projected", "projected");
+    }
+
+    /**
+     * Upper bound on the runs plotted in the trend section; longer histories
+     * are sampled evenly.
+     */
+    static final int MAX_TREND_RUNS = 200;
+
+    /**
+     * Usage: {@code HtmlReportGenerator [results.json] [report.html] [more-results.json ...] [--history=DIR]}.
+     * Extra result files, such as the ContentionBenchmark sweep, are merged
+     * into the first. With {@code --history} the report gains a trend
+     * section drawn from that {@link BenchmarkHistory} store.
+     */
     public static void main(String[] args) throws IOException {
         String inputFile = "results/benchmark-results.json";
         String outputFile = "results/report.html";
+        BenchmarkHistory history = null;
 
-        if (args.length >= 1) {
-            inputFile = args[0];
+        List<String> positional = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--history=")) {
+                history = new BenchmarkHistory(Paths.get(arg.substring("--history=".length())));
+            } else {
+                positional.add(arg);
+            }
         }
-        if (args.length >= 2) {
-            outputFile = args[1];
+        if (positional.size() >= 1) {
+            inputFile = positional.get(0);
+        }
+        if (positional.size() >= 2) {
+            outputFile = positional.get(1);
         }
 
-        System.out.println("Reading benchmark results from: " + inputFile);
-        String jsonContent = new String(Files.readAllBytes(Paths.get(inputFile)));
+        JSONArray results = new JSONArray();
+        List<String> inputFiles = new ArrayList<>();
+        inputFiles.add(inputFile);
+        for (int i = 2; i < positional.size(); i++) {
+            inputFiles.add(positional.get(i));
+        }
+        for (String file : inputFiles) {
+            System.out.println("Reading benchmark results from: " + file);
+            results.putAll(new JSONArray(new String(Files.readAllBytes(Paths.get(file)))));
+        }
 
         System.out.println("Generating HTML report...");
-        String html = generateHtmlReport(jsonContent);
+        String html = generateHtmlReport(results, history != null ? generateTrendSection(history) : "");
 
         Files.write(Paths.get(outputFile), html.getBytes());
         System.out.println("HTML report generated: " + outputFile);
     }
 
-    private static String generateHtmlReport(String jsonContent) {
-        JSONArray results = new JSONArray(jsonContent);
-
+    private static String generateHtmlReport(JSONArray results, String trendSection) {
         Map<String, Map<String, BenchmarkResult>> dataBySize = parseResults(results);
 
         StringBuilder html = new StringBuilder();
@@ -58,6 +132,9 @@ public class HtmlReportGenerator {
         html.append(generateExecutiveSummary(dataBySize));
         html.append(generateThroughputChart(dataBySize));
         html.append(generateAverageTimeChart(dataBySize));
+        html.append(generateLatencySection(dataBySize));
+        html.append(generateScalabilitySection(results));
+        html.append(trendSection);
         html.append(generateMemoryTable(dataBySize));
         html.append(generateDetailedResultsTable(dataBySize));
         html.append(getHtmlFooter());
@@ -85,6 +162,7 @@ public class HtmlReportGenerator {
             if (serializerType == null) {
                 continue;
             }
+            serializerType += describeExtraParams(params, result.optInt("threads", 1));
 
             // Get primary metric
             JSONObject primaryMetric = result.getJSONObject("primaryMetric");
@@ -93,12 +171,21 @@ public class HtmlReportGenerator {
 
             // Get mode
             String mode = result.getString("mode");
-            String modeDisplay = mode.equals("thrpt") ? "Throughput" : (mode.equals("avgt") ? "AverageTime" : mode);
+            String modeDisplay = switch (mode) {
+                case "thrpt" -> "Throughput";
+                case "avgt" -> "AverageTime";
+                case "sample" -> "SampleTime";
+                default -> mode;
+            };
 
             // Get GC stats if available
             JSONObject secondaryMetrics = result.optJSONObject("secondaryMetrics");
             double allocRate = 0;
             int gcCount = 0;
+            double peakHeapMb = 0;
+            double wireBytes = 0;
+            double compressionRatio = 0;
+            double retainedHeapMb = 0;
 
             if (secondaryMetrics != null) {
                 if (secondaryMetrics.has("gc.alloc.rate.norm")) {
@@ -107,9 +194,34 @@ public class HtmlReportGenerator {
                 if (secondaryMetrics.has("gc.count")) {
                     gcCount = (int) secondaryMetrics.getJSONObject("gc.count").getDouble("score");
                 }
+                if (secondaryMetrics.has("heap.peak")) {
+                    peakHeapMb = secondaryMetrics.getJSONObject("heap.peak").getDouble("score");
+                }
+                if (secondaryMetrics.has(RETAINED_BYTES_METRIC)) {
+                    retainedHeapMb = secondaryMetrics.getJSONObject(RETAINED_BYTES_METRIC).getDouble("score")
+                            / BYTES_PER_MB;
+                }
+                if (secondaryMetrics.has(WIRE_BYTES_METRIC)) {
+                    double counter = secondaryMetrics.getJSONObject(WIRE_BYTES_METRIC).getDouble("score");
+                    wireBytes = wireBytesPerOp(mode, score, counter);
+                    if (secondaryMetrics.has(RAW_BYTES_METRIC) && counter > 0) {
+                        compressionRatio = secondaryMetrics.getJSONObject(RAW_BYTES_METRIC).getDouble("score")
+                                / counter;
+                    }
+                }
             }
 
-            BenchmarkResult br = new BenchmarkResult(serializerType, mode, score, scoreUnit, allocRate, gcCount);
+            BenchmarkResult br = new BenchmarkResult(serializerType, mode, score, scoreUnit, allocRate, gcCount,
+                    peakHeapMb, wireBytes);
+            br.compressionRatio = compressionRatio;
+            br.retainedHeapMb = retainedHeapMb;
+            JSONObject percentiles = primaryMetric.optJSONObject("scorePercentiles");
+            if (mode.equals("sample") && percentiles != null) {
+                br.percentiles = new double[PERCENTILE_KEYS.length];
+                for (int p = 0; p < PERCENTILE_KEYS.length; p++) {
+                    br.percentiles[p] = percentiles.optDouble(PERCENTILE_KEYS[p], 0);
+                }
+            }
 
             dataBySize.putIfAbsent(eventCount, new HashMap<>());
             dataBySize.get(eventCount).put(serializerType + "_" + modeDisplay, br);
@@ -118,6 +230,25 @@ public class HtmlReportGenerator {
         return dataBySize;
     }
 
+    /**
+     * The wire-size counter is an OPERATIONS aux counter, so JMH normalizes it
+     * like the primary score: bytes per time unit in throughput mode, time per
+     * byte in average-time mode. Dividing by the primary score recovers bytes
+     * per operation.
+     */
+    private static double wireBytesPerOp(String mode, double score, double counter) {
+        if (score == 0 || counter == 0) {
+            return 0;
+        }
+        if (mode.equals("thrpt")) {
+            return counter / score;
+        }
+        if (mode.equals("avgt")) {
+            return score / counter;
+        }
+        return 0;
+    }
+
     private static String generateExecutiveSummary(Map<String, Map<String, BenchmarkResult>> dataBySize) {
         StringBuilder html = new StringBuilder();
         html.append("<div class='summary-section'>\n");
@@ -168,7 +299,7 @@ public class HtmlReportGenerator {
         html.append("<h3>Key Findings</h3>\n");
         html.append("<ul>\n");
         html.append(
-                "<li>Manual <strong>StringBuilder</strong> path now reuses thread-local buffers to minimize temporary allocations</li>\n");
+                "<li>Manual <strong>StringBuilder</strong> path now reuses pooled buffers to minimize temporary allocations</li>\n");
         html.append(
                 "<li><strong>Jackson</strong> databind and streaming implementations offer ergonomic vs low-level trade-offs</li>\n");
         html.append(
@@ -307,6 +438,381 @@ public class HtmlReportGenerator {
         return html.toString();
     }
 
+    /**
+     * Tail latency from SampleTime results: one grouped bar chart per event
+     * count (log scale, so a GC pause in the max bar does not flatten p50)
+     * and a table with every percentile.
+     */
+    private static String generateLatencySection(Map<String, Map<String, BenchmarkResult>> dataBySize) {
+        List<String> serializers = sortedSerializers(dataBySize);
+        StringBuilder charts = new StringBuilder();
+        StringBuilder rows = new StringBuilder();
+        String scoreUnit = null;
+        int chart = 0;
+        for (Map.Entry<String, Map<String, BenchmarkResult>> entry : dataBySize.entrySet()) {
+            List<BenchmarkResult> sampled = new ArrayList<>();
+            for (String serializer : serializers) {
+                BenchmarkResult result = entry.getValue().get(serializer + "_SampleTime");
+                if (result != null && result.percentiles != null) {
+                    sampled.add(result);
+                }
+            }
+            if (sampled.isEmpty()) {
+                continue;
+            }
+            scoreUnit = sampled.get(0).scoreUnit;
+            String canvasId = "latencyChart" + chart++;
+
+            charts.append("<h3>").append(entry.getKey()).append(" events</h3>\n");
+            charts.append("<canvas id='").append(canvasId).append("'></canvas>\n");
+            charts.append("<script>\n");
+            charts.append("new Chart(document.getElementById('").append(canvasId).append("').getContext('2d'), {\n");
+            charts.append("  type: 'bar',\n");
+            charts.append("  data: {\n");
+            StringJoiner labels = new StringJoiner(", ");
+            for (String label : PERCENTILE_LABELS) {
+                labels.add("'" + label + "'");
+            }
+            charts.append("    labels: [").append(labels).append("],\n");
+            charts.append("    datasets: [\n");
+            for (int s = 0; s < sampled.size(); s++) {
+                BenchmarkResult result = sampled.get(s);
+                StringJoiner values = new StringJoiner(", ");
+                for (double value : result.percentiles) {
+                    values.add(Double.toString(value));
+                }
+                charts.append("      { label: '").append(result.serializer).append("', data: [").append(values)
+                        .append("], backgroundColor: '").append(rgba(serializers.indexOf(result.serializer), 0.7))
+                        .append("', borderColor: '").append(rgba(serializers.indexOf(result.serializer), 1))
+                        .append("', borderWidth: 1 }");
+                charts.append(s < sampled.size() - 1 ? ",\n" : "\n");
+
+                rows.append("<tr>\n");
+                rows.append("<td>").append(entry.getKey()).append("</td>\n");
+                rows.append("<td>").append(result.serializer).append("</td>\n");
+                for (double value : result.percentiles) {
+                    rows.append("<td>").append(DF_LATENCY.format(value)).append("</td>\n");
+                }
+                double p50 = result.percentiles[0];
+                double max = result.percentiles[result.percentiles.length - 1];
+                rows.append("<td>").append(p50 > 0 ? DF.format(max / p50) + "x" : "-").append("</td>\n");
+                rows.append("<td>").append(result.gcCount).append("</td>\n");
+                rows.append("</tr>\n");
+            }
+            charts.append("    ]\n");
+            charts.append("  },\n");
+            charts.append("  options: {\n");
+            charts.append("    responsive: true,\n");
+            charts.append("    scales: {\n");
+            charts.append("      y: { type: 'logarithmic', title: { display: true, text: '").append(scoreUnit)
+                    .append(" (log scale)' } }\n");
+            charts.append("    },\n");
+            charts.append("    plugins: {\n");
+            charts.append("      title: { display: true, text: 'Lower is Better' }\n");
+            charts.append("    }\n");
+            charts.append("  }\n");
+            charts.append("});\n");
+            charts.append("</script>\n");
+        }
+        if (scoreUnit == null) {
+            return "";
+        }
+
+        StringBuilder html = new StringBuilder();
+        html.append("<div class='chart-section'>\n");
+        html.append("<h2>Latency Distribution (").append(scoreUnit).append(", SampleTime)</h2>\n");
+        html.append(charts);
+        html.append("<table>\n");
+        html.append("<thead>\n");
+        html.append("<tr>\n");
+        html.append("<th>Event Count</th>\n");
+        html.append("<th>Serializer</th>\n");
+        for (String label : PERCENTILE_LABELS) {
+            html.append("<th>").append(label).append("</th>\n");
+        }
+        html.append("<th>max / p50</th>\n");
+        html.append("<th>GC Count</th>\n");
+        html.append("</tr>\n");
+        html.append("</thead>\n");
+        html.append("<tbody>\n");
+        html.append(rows);
+        html.append("</tbody>\n");
+        html.append("</table>\n");
+        html.append("</div>\n");
+
+        return html.toString();
+    }
+
+    /**
+     * Speedup against thread count for every throughput series measured at
+     * two or more thread counts (see ContentionBenchmark). JMH throughput
+     * under {@code @Threads} is the sum over all threads, so speedup is the
+     * aggregate score over the score at the lowest thread count, and
+     * per-thread throughput is the aggregate divided by the thread count.
+     */
+    private static String generateScalabilitySection(JSONArray results) {
+        Map<String, Map<String, TreeMap<Integer, Double>>> scoresBySize = new TreeMap<>(
+                Comparator.comparingInt(Integer::parseInt));
+        String scoreUnit = "ops/ms";
+        for (int i = 0; i < results.length(); i++) {
+            JSONObject result = results.getJSONObject(i);
+            if (!result.getString("mode").equals("thrpt")) {
+                continue;
+            }
+            String[] parts = result.getString("benchmark").split("\\.");
+            String serializerType = resolveSerializerType(parts[parts.length - 1]);
+            if (serializerType == null) {
+                continue;
+            }
+            JSONObject params = result.getJSONObject("params");
+            serializerType += describeExtraParams(params, 1);
+            JSONObject primaryMetric = result.getJSONObject("primaryMetric");
+            scoreUnit = primaryMetric.getString("scoreUnit");
+            scoresBySize.computeIfAbsent(params.getString("eventCount"), size -> new TreeMap<>())
+                    .computeIfAbsent(serializerType, serializer -> new TreeMap<>())
+                    .put(result.optInt("threads", 1), primaryMetric.getDouble("score"));
+        }
+        for (Map<String, TreeMap<Integer, Double>> series : scoresBySize.values()) {
+            series.values().removeIf(scores -> scores.size() < 2);
+        }
+        scoresBySize.values().removeIf(Map::isEmpty);
+        if (scoresBySize.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder html = new StringBuilder();
+        html.append("<div class='chart-section'>\n");
+        html.append("<h2>Scalability (speedup vs. thread count)</h2>\n");
+        int chart = 0;
+        for (Map.Entry<String, Map<String, TreeMap<Integer, Double>>> entry : scoresBySize.entrySet()) {
+            Map<String, TreeMap<Integer, Double>> series = entry.getValue();
+            TreeSet<Integer> threadCounts = new TreeSet<>();
+            series.values().forEach(scores -> threadCounts.addAll(scores.keySet()));
+            int baseThreads = threadCounts.first();
+            String canvasId = "scalabilityChart" + chart++;
+
+            html.append("<h3>").append(entry.getKey()).append(" events</h3>\n");
+            html.append("<canvas id='").append(canvasId).append("'></canvas>\n");
+            html.append("<script>\n");
+            html.append("new Chart(document.getElementById('").append(canvasId).append("').getContext('2d'), {\n");
+            html.append("  type: 'line',\n");
+            html.append("  data: {\n");
+            html.append("    labels: [");
+            StringJoiner labels = new StringJoiner(", ");
+            threadCounts.forEach(threads -> labels.add("'" + threads + "'"));
+            html.append(labels).append("],\n");
+            html.append("    datasets: [\n");
+            StringJoiner ideal = new StringJoiner(", ");
+            threadCounts.forEach(threads -> ideal.add(DF.format((double) threads / baseThreads)));
+            html.append("      { label: 'Linear', data: [").append(ideal)
+                    .append("], borderColor: 'rgba(127, 140, 141, 0.8)', borderDash: [6, 4], fill: false }");
+            int s = 0;
+            for (Map.Entry<String, TreeMap<Integer, Double>> scores : series.entrySet()) {
+                double base = scores.getValue().firstEntry().getValue();
+                StringJoiner speedups = new StringJoiner(", ");
+                for (int threads : threadCounts) {
+                    Double score = scores.getValue().get(threads);
+                    speedups.add(score != null && base > 0 ? DF.format(score / base) : "null");
+                }
+                html.append(",\n      { label: '").append(scores.getKey()).append("', data: [").append(speedups)
+                        .append("], borderColor: '").append(rgba(s, 1)).append("', backgroundColor: '")
+                        .append(rgba(s, 0.2)).append("', fill: false }");
+                s++;
+            }
+            html.append("\n    ]\n");
+            html.append("  },\n");
+            html.append("  options: {\n");
+            html.append("    responsive: true,\n");
+            html.append("    spanGaps: true,\n");
+            html.append("    scales: {\n");
+            html.append("      x: { title: { display: true, text: 'Threads' } },\n");
+            html.append("      y: { beginAtZero: true, title: { display: true, text: 'Speedup over ")
+                    .append(baseThreads).append(baseThreads == 1 ? " thread" : " threads").append("' } }\n");
+            html.append("    },\n");
+            html.append("    plugins: {\n");
+            html.append("      title: { display: true, text: 'Closer to Linear is Better' }\n");
+            html.append("    }\n");
+            html.append("  }\n");
+            html.append("});\n");
+            html.append("</script>\n");
+
+            html.append("<table>\n");
+            html.append("<thead>\n");
+            html.append("<tr>\n");
+            html.append("<th>Serializer</th>\n");
+            html.append("<th>Threads</th>\n");
+            html.append("<th>Aggregate (").append(scoreUnit).append(")</th>\n");
+            html.append("<th>Per Thread (").append(scoreUnit).append(")</th>\n");
+            html.append("<th>Speedup</th>\n");
+            html.append("<th>Efficiency</th>\n");
+            html.append("</tr>\n");
+            html.append("</thead>\n");
+            html.append("<tbody>\n");
+            for (Map.Entry<String, TreeMap<Integer, Double>> scores : series.entrySet()) {
+                Map.Entry<Integer, Double> base = scores.getValue().firstEntry();
+                for (Map.Entry<Integer, Double> point : scores.getValue().entrySet()) {
+                    double speedup = base.getValue() > 0 ? point.getValue() / base.getValue() : 0;
+                    double efficiency = speedup * base.getKey() / point.getKey();
+                    html.append("<tr>\n");
+                    html.append("<td>").append(scores.getKey()).append("</td>\n");
+                    html.append("<td>").append(point.getKey()).append("</td>\n");
+                    html.append("<td>").append(DF.format(point.getValue())).append("</td>\n");
+                    html.append("<td>").append(DF.format(point.getValue() / point.getKey())).append("</td>\n");
+                    html.append("<td>").append(DF.format(speedup)).append("x</td>\n");
+                    html.append("<td>").append(DF_INT.format(efficiency * 100)).append("%</td>\n");
+                    html.append("</tr>\n");
+                }
+            }
+            html.append("</tbody>\n");
+            html.append("</table>\n");
+        }
+        html.append("</div>\n");
+
+        return html.toString();
+    }
+
+    /**
+     * Throughput and allocation per serializer over the stored runs, one pair
+     * of charts per event count, followed by the metadata of the latest runs.
+     */
+    static String generateTrendSection(BenchmarkHistory history) throws IOException {
+        List<BenchmarkHistory.Run> allRuns = history.runs();
+        if (allRuns.size() < 2) {
+            return "";
+        }
+        List<BenchmarkHistory.Run> runs = BenchmarkHistory.sample(allRuns, MAX_TREND_RUNS);
+        List<JSONArray> runResults = history.results(runs);
+
+        // eventCount -> series -> value per plotted run
+        Map<String, Map<String, Double[]>> throughputBySize = new TreeMap<>(
+                Comparator.comparingInt(Integer::parseInt));
+        Map<String, Map<String, Double[]>> allocBySize = new TreeMap<>(Comparator.comparingInt(Integer::parseInt));
+        String scoreUnit = "ops/ms";
+        for (int r = 0; r < runs.size(); r++) {
+            JSONArray results = runResults.get(r);
+            for (int i = 0; i < results.length(); i++) {
+                JSONObject result = results.getJSONObject(i);
+                JSONObject params = result.getJSONObject("params");
+                if (!result.getString("mode").equals("thrpt") || !params.has("eventCount")) {
+                    continue;
+                }
+                String[] parts = result.getString("benchmark").split("\\.");
+                String serializerType = resolveSerializerType(parts[parts.length - 1]);
+                if (serializerType == null) {
+                    continue;
+                }
+                serializerType += describeExtraParams(params, result.optInt("threads", 1));
+                String eventCount = params.getString("eventCount");
+                JSONObject primaryMetric = result.getJSONObject("primaryMetric");
+                scoreUnit = primaryMetric.getString("scoreUnit");
+                throughputBySize.computeIfAbsent(eventCount, size -> new TreeMap<>())
+                        .computeIfAbsent(serializerType, serializer -> new Double[runs.size()])[r] = primaryMetric
+                                .getDouble("score");
+                JSONObject secondaryMetrics = result.optJSONObject("secondaryMetrics");
+                if (secondaryMetrics != null && secondaryMetrics.has("gc.alloc.rate.norm")) {
+                    allocBySize.computeIfAbsent(eventCount, size -> new TreeMap<>())
+                            .computeIfAbsent(serializerType, serializer -> new Double[runs.size()])[r] = secondaryMetrics
+                                    .getJSONObject("gc.alloc.rate.norm").getDouble("score");
+                }
+            }
+        }
+        if (throughputBySize.isEmpty()) {
+            return "";
+        }
+
+        StringJoiner labels = new StringJoiner(", ");
+        for (BenchmarkHistory.Run run : runs) {
+            labels.add("'" + run.date() + " " + run.shortCommit() + "'");
+        }
+
+        StringBuilder html = new StringBuilder();
+        html.append("<div class='chart-section'>\n");
+        html.append("<h2>Trends Across Runs</h2>\n");
+        html.append("<p>").append(runs.size() == allRuns.size() ? "All " + allRuns.size()
+                : runs.size() + " of " + allRuns.size()).append(" runs stored in ").append(history.getDirectory())
+                .append(".</p>\n");
+        int chart = 0;
+        for (Map.Entry<String, Map<String, Double[]>> entry : throughputBySize.entrySet()) {
+            html.append("<h3>").append(entry.getKey()).append(" events</h3>\n");
+            html.append(trendChart("trendChart" + chart++, labels, entry.getValue(),
+                    "Throughput (" + scoreUnit + ")", "Higher is Better"));
+            Map<String, Double[]> alloc = allocBySize.get(entry.getKey());
+            if (alloc != null) {
+                html.append(trendChart("trendChart" + chart++, labels, alloc, "Allocation (B/op)",
+                        "Lower is Better"));
+            }
+        }
+
+        html.append("<h3>Latest Runs</h3>\n");
+        html.append("<table>\n");
+        html.append("<thead>\n");
+        html.append("<tr>\n");
+        html.append("<th>Run</th>\n");
+        html.append("<th>Time</th>\n");
+        html.append("<th>Commit</th>\n");
+        html.append("<th>JDK</th>\n");
+        html.append("<th>JVM Flags</th>\n");
+        html.append("<th>CPU</th>\n");
+        html.append("<th>Results</th>\n");
+        html.append("</tr>\n");
+        html.append("</thead>\n");
+        html.append("<tbody>\n");
+        for (BenchmarkHistory.Run run : allRuns.subList(Math.max(0, allRuns.size() - 10), allRuns.size()).reversed()) {
+            html.append("<tr>\n");
+            html.append("<td>").append(run.id).append("</td>\n");
+            html.append("<td>").append(run.timestamp).append("</td>\n");
+            html.append("<td>").append(run.shortCommit()).append("</td>\n");
+            html.append("<td>").append(run.jdk).append("</td>\n");
+            html.append("<td>").append(run.jvmArgs).append("</td>\n");
+            html.append("<td>").append(run.cpu).append("</td>\n");
+            html.append("<td>").append(run.resultCount).append("</td>\n");
+            html.append("</tr>\n");
+        }
+        html.append("</tbody>\n");
+        html.append("</table>\n");
+        html.append("</div>\n");
+
+        return html.toString();
+    }
+
+    private static String trendChart(String canvasId, StringJoiner labels, Map<String, Double[]> series,
+            String axisTitle, String title) {
+        StringBuilder html = new StringBuilder();
+        html.append("<canvas id='").append(canvasId).append("'></canvas>\n");
+        html.append("<script>\n");
+        html.append("new Chart(document.getElementById('").append(canvasId).append("').getContext('2d'), {\n");
+        html.append("  type: 'line',\n");
+        html.append("  data: {\n");
+        html.append("    labels: [").append(labels).append("],\n");
+        html.append("    datasets: [\n");
+        int s = 0;
+        for (Map.Entry<String, Double[]> values : series.entrySet()) {
+            StringJoiner data = new StringJoiner(", ");
+            for (Double value : values.getValue()) {
+                data.add(value != null ? String.valueOf(value) : "null");
+            }
+            html.append(s == 0 ? "" : ",\n").append("      { label: '").append(values.getKey()).append("', data: [")
+                    .append(data).append("], borderColor: '").append(rgba(s, 1)).append("', backgroundColor: '")
+                    .append(rgba(s, 0.2)).append("', fill: false, pointRadius: 2 }");
+            s++;
+        }
+        html.append("\n    ]\n");
+        html.append("  },\n");
+        html.append("  options: {\n");
+        html.append("    responsive: true,\n");
+        html.append("    spanGaps: true,\n");
+        html.append("    scales: {\n");
+        html.append("      y: { beginAtZero: true, title: { display: true, text: '").append(axisTitle).append("' } }\n");
+        html.append("    },\n");
+        html.append("    plugins: {\n");
+        html.append("      title: { display: true, text: '").append(title).append("' }\n");
+        html.append("    }\n");
+        html.append("  }\n");
+        html.append("});\n");
+        html.append("</script>\n");
+        return html.toString();
+    }
+
     private static String generateMemoryTable(Map<String, Map<String, BenchmarkResult>> dataBySize) {
         StringBuilder html = new StringBuilder();
         html.append("<div class='table-section'>\n");
@@ -317,7 +823,10 @@ public class HtmlReportGenerator {
         html.append("<th>Event Count</th>\n");
         html.append("<th>Serializer</th>\n");
         html.append("<th>Allocation Rate (bytes/op)</th>\n");
+        html.append("<th>Allocation per Event (bytes)</th>\n");
         html.append("<th>GC Count</th>\n");
+        html.append("<th>Peak Heap (MB)</th>\n");
+        html.append("<th>Retained Heap (MB)</th>\n");
         html.append("</tr>\n");
         html.append("</thead>\n");
         html.append("<tbody>\n");
@@ -335,7 +844,13 @@ public class HtmlReportGenerator {
                 html.append("<td>").append(eventCount).append("</td>\n");
                 html.append("<td>").append(serializer).append("</td>\n");
                 html.append("<td>").append(DF_INT.format(result.allocRate)).append("</td>\n");
+                html.append("<td>").append(DF_INT.format(result.allocRate / Math.max(1, Integer.parseInt(eventCount))))
+                        .append("</td>\n");
                 html.append("<td>").append(result.gcCount).append("</td>\n");
+                html.append("<td>").append(result.peakHeapMb > 0 ? DF.format(result.peakHeapMb) : "-")
+                        .append("</td>\n");
+                html.append("<td>").append(result.retainedHeapMb > 0 ? DF.format(result.retainedHeapMb) : "-")
+                        .append("</td>\n");
                 html.append("</tr>\n");
             }
         }
@@ -359,6 +874,8 @@ public class HtmlReportGenerator {
         html.append("<th>Mode</th>\n");
         html.append("<th>Score</th>\n");
         html.append("<th>Unit</th>\n");
+        html.append("<th>Bytes on Wire</th>\n");
+        html.append("<th>Compression Ratio</th>\n");
         html.append("</tr>\n");
         html.append("</thead>\n");
         html.append("<tbody>\n");
@@ -374,6 +891,9 @@ public class HtmlReportGenerator {
                 html.append("<td>").append(br.mode).append("</td>\n");
                 html.append("<td>").append(DF.format(br.score)).append("</td>\n");
                 html.append("<td>").append(br.scoreUnit).append("</td>\n");
+                html.append("<td>").append(br.wireBytes > 0 ? DF_INT.format(br.wireBytes) : "-").append("</td>\n");
+                html.append("<td>").append(br.compressionRatio > 0 ? DF.format(br.compressionRatio) + ":1" : "-")
+                        .append("</td>\n");
                 html.append("</tr>\n");
             }
         }
@@ -405,7 +925,39 @@ public class HtmlReportGenerator {
         return "rgba(" + base + ", " + alpha + ")";
     }
 
+    /**
+     * Benchmark-specific params (e.g. parallelism) and a thread count above
+     * one become part of the series label so each configuration is charted
+     * separately.
+     */
+    private static String describeExtraParams(JSONObject params, int threads) {
+        StringBuilder label = new StringBuilder();
+        for (String key : new TreeSet<>(params.keySet())) {
+            if (SHARED_PARAMS.contains(key)) {
+                continue;
+            }
+            label.append(label.length() == 0 ? " [" : ", ").append(key).append('=').append(params.get(key));
+        }
+        if (threads > 1) {
+            label.append(label.length() == 0 ? " [" : ", ").append("threads=").append(threads);
+        }
+        return label.length() == 0 ? "" : label.append(']').toString();
+    }
+
     private static String resolveSerializerType(String methodName) {
+        String base = resolveBaseSerializerType(methodName);
+        if (base == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> variant : METHOD_VARIANTS.entrySet()) {
+            if (methodName.endsWith(variant.getKey())) {
+                return base + " (" + variant.getValue() + ")";
+            }
+        }
+        return base;
+    }
+
+    private static String resolveBaseSerializerType(String methodName) {
         if (methodName.contains("OrgJson")) {
             return "org.json";
         }
@@ -424,18 +976,56 @@ public class HtmlReportGenerator {
         if (methodName.contains("Moshi")) {
             return "Moshi";
         }
+        if (methodName.contains("ParallelChunked")) {
+            return "ParallelChunked";
+        }
+        if (methodName.contains("Utf8Bytes")) {
+            return "Utf8Bytes";
+        }
+        if (methodName.contains("FragmentCached")) {
+            return "FragmentCached";
+        }
+        if (methodName.contains("Columnar")) {
+            return "Columnar";
+        }
+        if (methodName.contains("Cbor")) {
+            return "Cbor";
+        }
+        if (methodName.contains("Smile")) {
+            return "Smile";
+        }
+        if (methodName.contains("Compact")) {
+            return "Compact";
+        }
+        if (methodName.contains("Generated")) {
+            return "Generated";
+        }
         return null;
     }
 
     private static String getHtmlHeader() {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
 
+        return getPageStart("JSON Performance Benchmark Report") +
+                "  <div class='header-info'>\n" +
+                "    <p><strong>Test Scenario:</strong> Calendar Event Serialization (org.json, StringBuilder, Jackson, Gson, Moshi)</p>\n"
+                +
+                "    <p><strong>Generated:</strong> " + timestamp + "</p>\n" +
+                "    <p><strong>JDK:</strong> Java 21 LTS | <strong>Heap:</strong> 8GB</p>\n" +
+                "  </div>\n";
+    }
+
+    /**
+     * Document head, shared styles and the page title; shared with
+     * {@link BenchmarkComparison}.
+     */
+    static String getPageStart(String title) {
         return "<!DOCTYPE html>\n" +
                 "<html lang='en'>\n" +
                 "<head>\n" +
                 "  <meta charset='UTF-8'>\n" +
                 "  <meta name='viewport' content='width=device-width, initial-scale=1.0'>\n" +
-                "  <title>JSON Performance Benchmark Report</title>\n" +
+                "  <title>" + title + "</title>\n" +
                 "  <script src='https://cdn.jsdelivr.net/npm/chart.js@4.4.0/dist/chart.umd.min.js'></script>\n" +
                 "  <style>\n" +
                 "    * { margin: 0; padding: 0; box-sizing: border-box; }\n" +
@@ -465,22 +1055,18 @@ public class HtmlReportGenerator {
                 "    td { padding: 10px 12px; border-bottom: 1px solid #ecf0f1; }\n" +
                 "    tr:hover { background: #f8f9fa; }\n" +
                 "    tbody tr:nth-child(even) { background: #f9f9f9; }\n" +
+                "    tbody tr.regression { background: #fdecea; }\n" +
+                "    tbody tr.improvement { background: #eafaf1; }\n" +
                 "    .footer { text-align: center; color: #7f8c8d; margin-top: 40px; padding-top: 20px; border-top: 1px solid #ecf0f1; font-size: 0.9em; }\n"
                 +
                 "  </style>\n" +
                 "</head>\n" +
                 "<body>\n" +
                 "<div class='container'>\n" +
-                "  <h1>JSON Performance Benchmark Report</h1>\n" +
-                "  <div class='header-info'>\n" +
-                "    <p><strong>Test Scenario:</strong> Calendar Event Serialization (org.json, StringBuilder, Jackson, Gson, Moshi)</p>\n"
-                +
-                "    <p><strong>Generated:</strong> " + timestamp + "</p>\n" +
-                "    <p><strong>JDK:</strong> Java 21 LTS | <strong>Heap:</strong> 8GB</p>\n" +
-                "  </div>\n";
+                "  <h1>" + title + "</h1>\n";
     }
 
-    private static String getHtmlFooter() {
+    static String getHtmlFooter() {
         return "  <div class='footer'>\n" +
                 "    <p>Generated by JSON Performance Profiling Tool</p>\n" +
                 "    <p>Benchmark powered by JMH (Java Microbenchmark Harness)</p>\n" +
@@ -497,15 +1083,34 @@ public class HtmlReportGenerator {
         String scoreUnit;
         double allocRate;
         int gcCount;
+        double peakHeapMb;
+        double wireBytes;
+        /**
+         * Uncompressed over compressed bytes, for benchmarks that also count
+         * {@code rawBytes}; 0 otherwise.
+         */
+        double compressionRatio;
+        /**
+         * Heap held by the benchmark's data layout, for benchmarks that count
+         * {@code retainedBytes}; 0 otherwise.
+         */
+        double retainedHeapMb;
+        /**
+         * SampleTime only: values at {@link #PERCENTILE_KEYS}, in
+         * {@code scoreUnit}.
+         */
+        double[] percentiles;
 
         BenchmarkResult(String serializer, String mode, double score, String scoreUnit,
-                double allocRate, int gcCount) {
+                double allocRate, int gcCount, double peakHeapMb, double wireBytes) {
             this.serializer = serializer;
             this.mode = mode;
             this.score = score;
             this.scoreUnit = scoreUnit;
             this.allocRate = allocRate;
             this.gcCount = gcCount;
+            this.peakHeapMb = peakHeapMb;
+            this.wireBytes = wireBytes;
         }
     }
 }
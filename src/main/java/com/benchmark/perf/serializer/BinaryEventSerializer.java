@@ -0,0 +1,46 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Contract for non-JSON wire formats. A binary payload is only meaningful to
+ * its own decoder, so each implementation carries both directions rather than
+ * pairing with a {@link CalendarEventDeserializer}.
+ */
+public interface BinaryEventSerializer {
+    /**
+     * @return human-readable name for reports/logs.
+     */
+    String getName();
+
+    /**
+     * Encodes the events into a new byte array.
+     */
+    byte[] serialize(List<CalendarEvent> events);
+
+    /**
+     * Encodes the events straight into the stream. The stream is flushed but
+     * left open for the caller.
+     */
+    void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException;
+
+    /**
+     * Decodes a payload produced by {@link #serialize(List)}.
+     *
+     * @throws IllegalArgumentException if the payload is malformed
+     */
+    List<CalendarEvent> deserialize(byte[] payload);
+
+    /**
+     * Decodes a payload from the stream, which is read to its end but left
+     * open.
+     */
+    default List<CalendarEvent> deserializeFrom(InputStream in) throws IOException {
+        return deserialize(in.readAllBytes());
+    }
+}
@@ -0,0 +1,28 @@
+package com.benchmark.perf.serializer;
+
+/**
+ * Source of reusable serialization buffers. A caller owns an acquired buffer
+ * until it hands it back with {@link #release}, normally from a
+ * {@code finally} block:
+ *
+ * <pre>{@code
+ * BufferProvider buffers = BufferProviders.get();
+ * Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+ * try {
+ *     ...
+ * } finally {
+ *     buffers.release(BufferType.UTF8_WRITER, writer);
+ * }
+ * }</pre>
+ *
+ * Acquired buffers are empty. A buffer must not be used after release, and
+ * must go back to the provider it came from. Implementations are thread-safe.
+ */
+public interface BufferProvider {
+
+    String getName();
+
+    <T> T acquire(BufferType<T> type);
+
+    <T> void release(BufferType<T> type, T buffer);
+}
@@ -0,0 +1,45 @@
+package com.benchmark.perf.serializer;
+
+import java.util.List;
+
+/**
+ * Holds the {@link BufferProvider} every serializer draws its buffers from.
+ * The default is {@link PooledBufferProvider#INSTANCE}; start the JVM with
+ * {@code -Dperf.bufferProvider=ThreadLocal} to get the per-thread strategy
+ * instead, or call {@link #set} before serializing.
+ */
+public final class BufferProviders {
+
+    public static final String PROPERTY = "perf.bufferProvider";
+
+    public static final List<BufferProvider> ALL_PROVIDERS = List.of(
+            PooledBufferProvider.INSTANCE,
+            ThreadLocalBufferProvider.INSTANCE);
+
+    private static volatile BufferProvider current = getByName(System.getProperty(PROPERTY, "Pooled"));
+
+    private BufferProviders() {
+    }
+
+    public static BufferProvider get() {
+        return current;
+    }
+
+    /**
+     * Switches the provider for subsequent acquisitions. Buffers already out
+     * are still released to the provider they came from.
+     */
+    public static void set(BufferProvider provider) {
+        if (provider == null) {
+            throw new IllegalArgumentException("provider must not be null");
+        }
+        current = provider;
+    }
+
+    public static BufferProvider getByName(String name) {
+        return ALL_PROVIDERS.stream()
+                .filter(p -> p.getName().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown buffer provider: " + name));
+    }
+}
@@ -0,0 +1,158 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.util.CompactBinaryWriter;
+import com.benchmark.perf.util.Utf8ByteWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * A kind of reusable serialization buffer: how to create one, optionally at
+ * a given capacity, how to clear it for the next user, how much memory it is
+ * holding on to, and how to free it when a provider drops it. Every
+ * {@link BufferProvider} hands out buffers by type, so the constants below are
+ * the complete set the serializers use.
+ *
+ * @param <T> the buffer class
+ */
+public final class BufferType<T> {
+
+    static final int DEFAULT_STRING_CAPACITY = 16_384;
+    static final int DEFAULT_BYTE_CAPACITY = 32_768;
+    static final int ENCODE_CHUNK_SIZE = 8_192;
+
+    /**
+     * Streaming serializers hand their buffer to the OutputStream once it
+     * holds this many bytes (chars for StringBuilder), which bounds the
+     * working set to roughly one chunk plus one event.
+     */
+    static final int STREAM_FLUSH_THRESHOLD = 8_192;
+
+    public static final BufferType<StringBuilder> STRING_BUILDER = new BufferType<>(0, "StringBuilder",
+            StringBuilder::new, DEFAULT_STRING_CAPACITY, builder -> builder.setLength(0), StringBuilder::capacity);
+
+    /**
+     * {@code ByteArrayOutputStream} does not expose its capacity; the size
+     * reached before release is the closest lower bound.
+     */
+    public static final BufferType<ByteArrayOutputStream> BYTE_STREAM = new BufferType<>(1, "ByteArrayOutputStream",
+            ByteArrayOutputStream::new, DEFAULT_BYTE_CAPACITY, ByteArrayOutputStream::reset,
+            ByteArrayOutputStream::size);
+
+    public static final BufferType<Utf8ByteWriter> UTF8_WRITER = new BufferType<>(2, "Utf8ByteWriter",
+            Utf8ByteWriter::new, DEFAULT_BYTE_CAPACITY, Utf8ByteWriter::reset, Utf8ByteWriter::capacity);
+
+    public static final BufferType<CompactBinaryWriter> COMPACT_WRITER = new BufferType<>(3, "CompactBinaryWriter",
+            CompactBinaryWriter::new, DEFAULT_BYTE_CAPACITY, CompactBinaryWriter::reset,
+            CompactBinaryWriter::capacity);
+
+    /**
+     * Fixed-size scratch array used to transcode char buffers into a byte
+     * sink chunk by chunk.
+     */
+    public static final BufferType<byte[]> ENCODE_CHUNK = new BufferType<>(4, "EncodeChunk",
+            () -> new byte[ENCODE_CHUNK_SIZE], chunk -> {
+            }, chunk -> chunk.length);
+
+    /**
+     * Deflaters and output buffer for the compressed output mode. The
+     * retained size counts each deflater's native memory, so a stream that
+     * has accumulated many levels is dropped like an oversized buffer, and a
+     * dropped stream ends its deflaters right away.
+     */
+    static final BufferType<DeflatingOutputStream> DEFLATING_STREAM = new BufferType<>(5, "DeflatingOutputStream",
+            DeflatingOutputStream::new, DeflatingOutputStream::release, DeflatingOutputStream::retainedSize,
+            DeflatingOutputStream::end);
+
+    static final int COUNT = 6;
+
+    private final int index;
+    private final String name;
+    private final Supplier<T> factory;
+    private final IntFunction<T> sizedFactory;
+    private final Consumer<T> reset;
+    private final ToIntFunction<T> retainedSize;
+    private final Consumer<T> discard;
+
+    private BufferType(int index, String name, IntFunction<T> sizedFactory, int defaultCapacity,
+            Consumer<T> reset, ToIntFunction<T> retainedSize) {
+        this(index, name, () -> sizedFactory.apply(defaultCapacity), sizedFactory, reset, retainedSize,
+                buffer -> {
+                });
+    }
+
+    private BufferType(int index, String name, Supplier<T> factory, Consumer<T> reset,
+            ToIntFunction<T> retainedSize) {
+        this(index, name, factory, null, reset, retainedSize, buffer -> {
+        });
+    }
+
+    private BufferType(int index, String name, Supplier<T> factory, Consumer<T> reset,
+            ToIntFunction<T> retainedSize, Consumer<T> discard) {
+        this(index, name, factory, null, reset, retainedSize, discard);
+    }
+
+    private BufferType(int index, String name, Supplier<T> factory, IntFunction<T> sizedFactory,
+            Consumer<T> reset, ToIntFunction<T> retainedSize, Consumer<T> discard) {
+        this.index = index;
+        this.name = name;
+        this.factory = factory;
+        this.sizedFactory = sizedFactory;
+        this.reset = reset;
+        this.retainedSize = retainedSize;
+        this.discard = discard;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Dense index in {@code [0, COUNT)} so providers can keep per-type slots
+     * in arrays.
+     */
+    int index() {
+        return index;
+    }
+
+    T create() {
+        return factory.get();
+    }
+
+    /**
+     * An empty buffer with room for {@code capacity} bytes (chars for
+     * {@code StringBuilder}), or {@code null} for types with a fixed size or
+     * native state, which cannot be sized this way.
+     */
+    T create(int capacity) {
+        return sizedFactory == null ? null : sizedFactory.apply(capacity);
+    }
+
+    void reset(T buffer) {
+        reset.accept(buffer);
+    }
+
+    /**
+     * Bytes (chars for {@code StringBuilder}) the buffer keeps allocated.
+     */
+    int retainedSize(T buffer) {
+        return retainedSize.applyAsInt(buffer);
+    }
+
+    /**
+     * Frees resources the garbage collector would only reclaim late, such as
+     * native memory. Providers call this on every buffer they drop instead
+     * of keeping.
+     */
+    void discard(T buffer) {
+        discard.accept(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,27 @@
+package com.benchmark.perf.serializer;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Adapts a caller-owned ByteBuffer (heap or direct) to the OutputStream based
+ * serializer sinks without an intermediate copy.
+ */
+final class ByteBufferOutputStream extends OutputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        buffer.put(bytes, offset, length);
+    }
+}
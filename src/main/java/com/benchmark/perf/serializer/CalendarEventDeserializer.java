@@ -0,0 +1,42 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Read-side counterpart of {@link CalendarEventSerializer}: parses the JSON
+ * array of events every serializer emits back into model objects.
+ */
+public interface CalendarEventDeserializer {
+    /**
+     * @return human-readable name for reports/logs.
+     */
+    String getName();
+
+    /**
+     * Parses a JSON array of events.
+     */
+    List<CalendarEvent> deserialize(String json);
+
+    /**
+     * Parses a JSON array of events from UTF-8 bytes, the form request bodies
+     * arrive in.
+     */
+    default List<CalendarEvent> deserialize(byte[] json) {
+        try {
+            return deserializeFrom(new ByteArrayInputStream(json));
+        } catch (IOException e) {
+            throw new IllegalStateException(getName() + " deserialization failed", e);
+        }
+    }
+
+    /**
+     * Parses a JSON array of events from a UTF-8 stream. The stream is read to
+     * the end of the array but left open for the caller.
+     */
+    List<CalendarEvent> deserializeFrom(InputStream in) throws IOException;
+}
@@ -2,6 +2,11 @@ package com.benchmark.perf.serializer;
 
 import com.benchmark.perf.model.CalendarEvent;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 
 /**
@@ -17,4 +22,64 @@ public interface CalendarEventSerializer {
      * Serializes the provided events into JSON.
      */
     String serialize(List<CalendarEvent> events);
+
+    /**
+     * Serializes the provided events as UTF-8 JSON bytes straight into the
+     * stream. The stream is flushed but left open for the caller.
+     */
+    void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException;
+
+    /**
+     * Serializes the provided events as UTF-8 JSON bytes into the channel.
+     */
+    default void serializeTo(List<CalendarEvent> events, WritableByteChannel channel) throws IOException {
+        serializeTo(events, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Serializes the provided events as UTF-8 JSON bytes into the buffer,
+     * advancing its position.
+     *
+     * @throws java.nio.BufferOverflowException if the payload does not fit
+     */
+    default void serializeTo(List<CalendarEvent> events, ByteBuffer buffer) throws IOException {
+        serializeTo(events, new ByteBufferOutputStream(buffer));
+    }
+
+    /**
+     * @return whether {@link #serialize(List, FieldProjection)} accepts
+     *         projections other than {@link FieldProjection#ALL}; true for
+     *         exactly the members of
+     *         {@link SerializerRegistry#PROJECTING_SERIALIZERS}
+     */
+    default boolean supportsProjection() {
+        return false;
+    }
+
+    /**
+     * Serializes only the fields {@code projection} selects.
+     *
+     * @throws UnsupportedOperationException if this serializer always writes
+     *                                       whole events (org.json, Gson and
+     *                                       Moshi, which bind complete objects)
+     */
+    default String serialize(List<CalendarEvent> events, FieldProjection projection) {
+        requireAll(projection);
+        return serialize(events);
+    }
+
+    /**
+     * Streaming form of {@link #serialize(List, FieldProjection)}.
+     */
+    default void serializeTo(List<CalendarEvent> events, FieldProjection projection, OutputStream out)
+            throws IOException {
+        requireAll(projection);
+        serializeTo(events, out);
+    }
+
+    private void requireAll(FieldProjection projection) {
+        if (!projection.isAll()) {
+            throw new UnsupportedOperationException(getName() + " does not support field projection");
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.model.CalendarEvent.RecurrenceRule;
+import com.benchmark.perf.util.Utf8ByteWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Flyweight over one event of an {@link EventTape}. Each getter decodes its
+ * field from the payload bytes on every call and returns {@code null} for a
+ * missing key or a JSON {@code null}; nothing is cached, so read a field once
+ * if it is needed repeatedly. Location, timezone and e-mail strings are
+ * deduplicated across the events read through the same view.
+ *
+ * <p>
+ * The view is read-only, so {@link #writeTo(OutputStream)} always re-emits
+ * the event exactly as it was received, byte for byte, without decoding
+ * anything.
+ */
+public final class CalendarEventView {
+
+    private final EventTape tape;
+    private final Utf8ByteEventDeserializer.Parser parser;
+    private int index = -1;
+    private int base;
+
+    CalendarEventView(EventTape tape) {
+        this.tape = tape;
+        this.parser = new Utf8ByteEventDeserializer.Parser(tape.json);
+    }
+
+    /**
+     * Moves the view to event {@code index}.
+     */
+    public CalendarEventView at(int index) {
+        if (index < 0 || index >= tape.size()) {
+            throw new IndexOutOfBoundsException("Event " + index + " of " + tape.size());
+        }
+        this.index = index;
+        base = index * EventTape.STRIDE;
+        return this;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public String getId() {
+        return parser.stringAt(offset(Utf8ByteEventDeserializer.ID), false);
+    }
+
+    public String getTitle() {
+        return parser.stringAt(offset(Utf8ByteEventDeserializer.TITLE), false);
+    }
+
+    public String getDescription() {
+        return parser.stringAt(offset(Utf8ByteEventDeserializer.DESCRIPTION), false);
+    }
+
+    public LocalDateTime getStartTime() {
+        return parser.dateTimeAt(offset(Utf8ByteEventDeserializer.START_TIME));
+    }
+
+    public LocalDateTime getEndTime() {
+        return parser.dateTimeAt(offset(Utf8ByteEventDeserializer.END_TIME));
+    }
+
+    public String getLocation() {
+        return parser.stringAt(offset(Utf8ByteEventDeserializer.LOCATION), true);
+    }
+
+    public List<String> getAttendees() {
+        return parser.attendeesAt(offset(Utf8ByteEventDeserializer.ATTENDEES));
+    }
+
+    public RecurrenceRule getRecurrenceRule() {
+        return parser.recurrenceRuleAt(offset(Utf8ByteEventDeserializer.RECURRENCE_RULE));
+    }
+
+    public List<Integer> getReminders() {
+        return parser.remindersAt(offset(Utf8ByteEventDeserializer.REMINDERS));
+    }
+
+    public String getTimezone() {
+        return parser.stringAt(offset(Utf8ByteEventDeserializer.TIMEZONE), true);
+    }
+
+    public String getOrganizerEmail() {
+        return parser.stringAt(offset(Utf8ByteEventDeserializer.ORGANIZER_EMAIL), true);
+    }
+
+    public EventStatus getStatus() {
+        return parser.statusAt(offset(Utf8ByteEventDeserializer.STATUS));
+    }
+
+    /**
+     * Materializes the current event, decoding every field.
+     */
+    public CalendarEvent toEvent() {
+        return new CalendarEvent(getId(), getTitle(), getDescription(), getStartTime(), getEndTime(),
+                getLocation(), getAttendees(), getRecurrenceRule(), getReminders(), getTimezone(),
+                getOrganizerEmail(), getStatus());
+    }
+
+    /**
+     * Length in bytes of the event object as received.
+     */
+    public int rawLength() {
+        int start = rawOffset();
+        return tape.tape[base + EventTape.EVENT_END] - start;
+    }
+
+    /**
+     * Copies the event object's original bytes, from its opening to its
+     * closing brace, to {@code out}.
+     */
+    public void writeTo(Utf8ByteWriter out) {
+        out.writeBytes(tape.json, rawOffset(), rawLength());
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(tape.json, rawOffset(), rawLength());
+    }
+
+    private int rawOffset() {
+        checkPositioned();
+        return tape.tape[base + EventTape.EVENT_START];
+    }
+
+    private int offset(int field) {
+        checkPositioned();
+        return tape.tape[base + EventTape.FIELDS + field];
+    }
+
+    private void checkPositioned() {
+        if (index < 0) {
+            throw new IllegalStateException("View is not positioned; call at(index) first");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.benchmark.perf.serializer;
+
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * CBOR (RFC 8949) through Jackson's {@code CBORGenerator} and
+ * {@code CBORParser}: an array of maps keyed by field name, timestamps and
+ * enums as text strings, the same tree the JSON serializers emit. The parser
+ * reads any valid CBOR, including the indefinite-length strings and
+ * containers generic encoders write.
+ */
+public class CborEventSerializer extends JacksonBinaryEventSerializer {
+
+    public static final CborEventSerializer INSTANCE = new CborEventSerializer();
+
+    private CborEventSerializer() {
+        super(CBORFactory.builder()
+                .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .build());
+    }
+
+    @Override
+    public String getName() {
+        return "Cbor";
+    }
+}
@@ -0,0 +1,259 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEventBatch;
+import com.benchmark.perf.util.EncodedValueCache;
+import com.benchmark.perf.util.Utf8ByteWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Encodes a {@link CalendarEventBatch} straight from its columns: each
+ * dictionary entry is encoded once per call and then copied by code, ids and
+ * timestamps are rendered from their primitive forms. Output is byte-for-byte
+ * that of {@link Utf8ByteEventSerializer}.
+ *
+ * <p>
+ * The {@code List} entry points convert to a batch first and exist so the
+ * serializer can be validated alongside the others; the columnar overloads
+ * are the fast path. Projections only read the selected columns.
+ */
+public class ColumnarEventSerializer implements CalendarEventSerializer {
+
+    public static final ColumnarEventSerializer INSTANCE = new ColumnarEventSerializer();
+
+    private ColumnarEventSerializer() {
+    }
+
+    @Override
+    public String getName() {
+        return "Columnar";
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events) {
+        return serialize(CalendarEventBatch.from(events));
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(CalendarEventBatch.from(events), out);
+    }
+
+    @Override
+    public boolean supportsProjection() {
+        return true;
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events, FieldProjection projection) {
+        return serialize(CalendarEventBatch.from(events), projection);
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, FieldProjection projection, OutputStream out)
+            throws IOException {
+        serializeTo(CalendarEventBatch.from(events), projection, out);
+    }
+
+    public String serialize(CalendarEventBatch batch) {
+        return serialize(batch, FieldProjection.ALL);
+    }
+
+    public void serializeTo(CalendarEventBatch batch, OutputStream out) throws IOException {
+        serializeTo(batch, FieldProjection.ALL, out);
+    }
+
+    public String serialize(CalendarEventBatch batch, FieldProjection projection) {
+        FieldProjection.Field[] fields = projection.isAll() ? null : projection.fields();
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            Dictionaries dictionaries = new Dictionaries(batch);
+            writer.writeByte('[');
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0) {
+                    writer.writeByte(',');
+                }
+                writeEvent(writer, batch, i, dictionaries, fields);
+            }
+            writer.writeByte(']');
+            return writer.toString();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    public void serializeTo(CalendarEventBatch batch, FieldProjection projection, OutputStream out)
+            throws IOException {
+        FieldProjection.Field[] fields = projection.isAll() ? null : projection.fields();
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            Dictionaries dictionaries = new Dictionaries(batch);
+            writer.writeByte('[');
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0) {
+                    writer.writeByte(',');
+                }
+                writeEvent(writer, batch, i, dictionaries, fields);
+                if (writer.size() >= BufferType.STREAM_FLUSH_THRESHOLD) {
+                    writer.writeTo(out);
+                    writer.reset();
+                }
+            }
+            writer.writeByte(']');
+            writer.writeTo(out);
+            out.flush();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    /**
+     * @param fields selected fields, or {@code null} for the whole event
+     */
+    private void writeEvent(Utf8ByteWriter writer, CalendarEventBatch batch, int i, Dictionaries dictionaries,
+            FieldProjection.Field[] fields) {
+        if (fields == null) {
+            writeEvent(writer, batch, i, dictionaries);
+        } else {
+            writeProjectedEvent(writer, batch, i, dictionaries, fields);
+        }
+    }
+
+    private void writeEvent(Utf8ByteWriter writer, CalendarEventBatch batch, int i, Dictionaries dictionaries) {
+        writer.writeByte('{');
+        writer.writeBytes(JsonKeys.first(FieldProjection.Field.ID));
+        writeId(writer, batch, i);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.TITLE));
+        writer.writeQuotedString(batch.getTitle(i));
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.DESCRIPTION));
+        writer.writeQuotedString(batch.getDescription(i));
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.START_TIME));
+        writeQuotedDateTime(writer, batch.startEpochSecond(i), batch.startNano(i));
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.END_TIME));
+        writeQuotedDateTime(writer, batch.endEpochSecond(i), batch.endNano(i));
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.LOCATION));
+        writeCode(writer, dictionaries.locations, batch.locationCode(i));
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.ATTENDEES));
+        writeAttendees(writer, batch, i, dictionaries);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.RECURRENCE_RULE));
+        EncodedValueCache.writeQuoted(batch.getRecurrenceRule(i), writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.REMINDERS));
+        writeReminders(writer, batch, i);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.TIMEZONE));
+        writeCode(writer, dictionaries.timezones, batch.timezoneCode(i));
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.ORGANIZER_EMAIL));
+        writeCode(writer, dictionaries.emails, batch.organizerEmailCode(i));
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.STATUS));
+        EncodedValueCache.writeQuoted(batch.getStatus(i), writer);
+        writer.writeByte('}');
+    }
+
+    /**
+     * Writes only {@code fields}; the other columns are never read.
+     */
+    private void writeProjectedEvent(Utf8ByteWriter writer, CalendarEventBatch batch, int i,
+            Dictionaries dictionaries, FieldProjection.Field[] fields) {
+        writer.writeByte('{');
+        for (int f = 0; f < fields.length; f++) {
+            FieldProjection.Field field = fields[f];
+            writer.writeBytes(f == 0 ? JsonKeys.first(field) : JsonKeys.next(field));
+            switch (field) {
+                case ID -> writeId(writer, batch, i);
+                case TITLE -> writer.writeQuotedString(batch.getTitle(i));
+                case DESCRIPTION -> writer.writeQuotedString(batch.getDescription(i));
+                case START_TIME -> writeQuotedDateTime(writer, batch.startEpochSecond(i), batch.startNano(i));
+                case END_TIME -> writeQuotedDateTime(writer, batch.endEpochSecond(i), batch.endNano(i));
+                case LOCATION -> writeCode(writer, dictionaries.locations, batch.locationCode(i));
+                case ATTENDEES -> writeAttendees(writer, batch, i, dictionaries);
+                case RECURRENCE_RULE -> EncodedValueCache.writeQuoted(batch.getRecurrenceRule(i), writer);
+                case REMINDERS -> writeReminders(writer, batch, i);
+                case TIMEZONE -> writeCode(writer, dictionaries.timezones, batch.timezoneCode(i));
+                case ORGANIZER_EMAIL -> writeCode(writer, dictionaries.emails, batch.organizerEmailCode(i));
+                case STATUS -> EncodedValueCache.writeQuoted(batch.getStatus(i), writer);
+            }
+        }
+        writer.writeByte('}');
+    }
+
+    private static void writeId(Utf8ByteWriter writer, CalendarEventBatch batch, int i) {
+        if (batch.hasUuidId(i)) {
+            writer.writeByte('"');
+            writer.writeUuid(batch.idMostSignificantBits(i), batch.idLeastSignificantBits(i));
+            writer.writeByte('"');
+        } else {
+            writer.writeQuotedString(batch.getId(i));
+        }
+    }
+
+    private static void writeAttendees(Utf8ByteWriter writer, CalendarEventBatch batch, int i,
+            Dictionaries dictionaries) {
+        writer.writeByte('[');
+        for (int j = batch.attendeeStart(i), end = batch.attendeeEnd(i); j < end; j++) {
+            if (j > batch.attendeeStart(i)) {
+                writer.writeByte(',');
+            }
+            writeCode(writer, dictionaries.emails, batch.attendeeCode(j));
+        }
+        writer.writeByte(']');
+    }
+
+    private static void writeReminders(Utf8ByteWriter writer, CalendarEventBatch batch, int i) {
+        writer.writeByte('[');
+        for (int j = batch.reminderStart(i), end = batch.reminderEnd(i); j < end; j++) {
+            if (j > batch.reminderStart(i)) {
+                writer.writeByte(',');
+            }
+            writer.writeInt(batch.getReminder(j));
+        }
+        writer.writeByte(']');
+    }
+
+    private static void writeQuotedDateTime(Utf8ByteWriter writer, long epochSecond, int nano) {
+        if (epochSecond == CalendarEventBatch.NULL_TIME) {
+            writer.writeNull();
+            return;
+        }
+        writer.writeByte('"');
+        writer.writeDateTime(epochSecond, nano);
+        writer.writeByte('"');
+    }
+
+    private static void writeCode(Utf8ByteWriter writer, byte[][] encoded, int code) {
+        if (code == CalendarEventBatch.NULL_CODE) {
+            writer.writeNull();
+        } else {
+            writer.writeBytes(encoded[code]);
+        }
+    }
+
+    /**
+     * Quoted UTF-8 form of every dictionary entry, indexed by code.
+     */
+    private static final class Dictionaries {
+        final byte[][] locations;
+        final byte[][] timezones;
+        final byte[][] emails;
+
+        Dictionaries(CalendarEventBatch batch) {
+            Utf8ByteWriter scratch = new Utf8ByteWriter(256);
+            locations = encode(batch.locationDictionary(), scratch);
+            timezones = encode(batch.timezoneDictionary(), scratch);
+            emails = encode(batch.emailDictionary(), scratch);
+        }
+
+        private static byte[][] encode(String[] values, Utf8ByteWriter scratch) {
+            byte[][] encoded = new byte[values.length][];
+            for (int i = 0; i < values.length; i++) {
+                scratch.reset();
+                scratch.writeQuotedString(values[i]);
+                encoded[i] = scratch.toByteArray();
+            }
+            return encoded;
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.model.CalendarEvent.RecurrenceRule;
+import com.benchmark.perf.util.CompactBinaryWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Schema-specific binary codec for {@link CalendarEvent}, specified in
+ * {@code docs/compact-wire-format.md}. Field presence is a bitmap instead of
+ * keys, UUID ids are two longs, timestamps are zigzag varint epoch seconds
+ * (the end time as a delta from the start), enums are one byte and lengths
+ * and reminders are varints.
+ *
+ * <p>
+ * Location, timezone, organizer and attendee emails go through a per-payload
+ * string table that is built as it is written: the first occurrence carries
+ * the literal, later ones a varint index. Both sides therefore work in a
+ * single pass and {@link #serializeTo} can flush as it goes.
+ */
+public class CompactBinaryEventSerializer implements BinaryEventSerializer {
+
+    public static final CompactBinaryEventSerializer INSTANCE = new CompactBinaryEventSerializer();
+
+    /**
+     * "CEVB" followed by the format version.
+     */
+    static final byte[] MAGIC = { 'C', 'E', 'V', 'B' };
+    static final int VERSION = 1;
+
+    private static final int ID = 1;
+    private static final int TITLE = 1 << 1;
+    private static final int DESCRIPTION = 1 << 2;
+    private static final int START_TIME = 1 << 3;
+    private static final int END_TIME = 1 << 4;
+    private static final int LOCATION = 1 << 5;
+    private static final int ATTENDEES = 1 << 6;
+    private static final int RECURRENCE_RULE = 1 << 7;
+    private static final int REMINDERS = 1 << 8;
+    private static final int TIMEZONE = 1 << 9;
+    private static final int ORGANIZER_EMAIL = 1 << 10;
+    private static final int STATUS = 1 << 11;
+    private static final int ALL_FIELDS = (1 << 12) - 1;
+
+    private static final int ID_UUID = 0;
+    private static final int ID_STRING = 1;
+
+    private static final int REF_NULL = 0;
+    private static final int REF_LITERAL = 1;
+    private static final int REF_FIRST_INDEX = 2;
+
+    private static final RecurrenceRule[] RECURRENCE_RULES = RecurrenceRule.values();
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    private CompactBinaryEventSerializer() {
+    }
+
+    @Override
+    public String getName() {
+        return "Compact";
+    }
+
+    @Override
+    public byte[] serialize(List<CalendarEvent> events) {
+        BufferProvider buffers = BufferProviders.get();
+        CompactBinaryWriter writer = buffers.acquire(BufferType.COMPACT_WRITER);
+        try {
+            StringTable table = new StringTable();
+            writeHeader(writer, events.size());
+            for (int i = 0; i < events.size(); i++) {
+                writeEvent(writer, events.get(i), table);
+            }
+            return writer.toByteArray();
+        } finally {
+            buffers.release(BufferType.COMPACT_WRITER, writer);
+        }
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        BufferProvider buffers = BufferProviders.get();
+        CompactBinaryWriter writer = buffers.acquire(BufferType.COMPACT_WRITER);
+        try {
+            StringTable table = new StringTable();
+            writeHeader(writer, events.size());
+            for (int i = 0; i < events.size(); i++) {
+                writeEvent(writer, events.get(i), table);
+                if (writer.size() >= BufferType.STREAM_FLUSH_THRESHOLD) {
+                    writer.writeTo(out);
+                    writer.reset();
+                }
+            }
+            writer.writeTo(out);
+            out.flush();
+        } finally {
+            buffers.release(BufferType.COMPACT_WRITER, writer);
+        }
+    }
+
+    private static void writeHeader(CompactBinaryWriter writer, int eventCount) {
+        writer.writeBytes(MAGIC);
+        writer.writeByte(VERSION);
+        writer.writeVarLong(eventCount);
+    }
+
+    private static void writeEvent(CompactBinaryWriter writer, CalendarEvent event, StringTable table) {
+        writer.writeVarLong(presence(event));
+
+        String id = event.getId();
+        if (id != null) {
+            int mark = writer.size();
+            writer.writeByte(ID_UUID);
+            if (!writer.writeUuid(id)) {
+                // Not a canonical UUID: replace the kind byte and keep the text.
+                writer.truncate(mark);
+                writer.writeByte(ID_STRING);
+                writer.writeString(id);
+            }
+        }
+        if (event.getTitle() != null) {
+            writer.writeString(event.getTitle());
+        }
+        if (event.getDescription() != null) {
+            writer.writeString(event.getDescription());
+        }
+
+        LocalDateTime start = event.getStartTime();
+        LocalDateTime end = event.getEndTime();
+        long startSecond = 0;
+        if (start != null) {
+            startSecond = start.toEpochSecond(ZoneOffset.UTC);
+            writeTimestamp(writer, startSecond, start.getNano());
+        }
+        if (end != null) {
+            // Relative to the start when there is one; 0 otherwise.
+            writeTimestamp(writer, end.toEpochSecond(ZoneOffset.UTC) - startSecond, end.getNano());
+        }
+
+        if (event.getLocation() != null) {
+            table.write(writer, event.getLocation());
+        }
+        List<String> attendees = event.getAttendees();
+        if (attendees != null) {
+            writer.writeVarLong(attendees.size());
+            for (int i = 0; i < attendees.size(); i++) {
+                table.write(writer, attendees.get(i));
+            }
+        }
+        if (event.getRecurrenceRule() != null) {
+            writer.writeByte(event.getRecurrenceRule().ordinal());
+        }
+        List<Integer> reminders = event.getReminders();
+        if (reminders != null) {
+            writer.writeVarLong(reminders.size());
+            for (int i = 0; i < reminders.size(); i++) {
+                Integer reminder = reminders.get(i);
+                if (reminder == null) {
+                    throw new IllegalArgumentException("Compact format cannot encode a null reminder in event " + id);
+                }
+                writer.writeZigZag(reminder);
+            }
+        }
+        if (event.getTimezone() != null) {
+            table.write(writer, event.getTimezone());
+        }
+        if (event.getOrganizerEmail() != null) {
+            table.write(writer, event.getOrganizerEmail());
+        }
+        if (event.getStatus() != null) {
+            writer.writeByte(event.getStatus().ordinal());
+        }
+    }
+
+    private static int presence(CalendarEvent event) {
+        int bits = 0;
+        bits |= event.getId() != null ? ID : 0;
+        bits |= event.getTitle() != null ? TITLE : 0;
+        bits |= event.getDescription() != null ? DESCRIPTION : 0;
+        bits |= event.getStartTime() != null ? START_TIME : 0;
+        bits |= event.getEndTime() != null ? END_TIME : 0;
+        bits |= event.getLocation() != null ? LOCATION : 0;
+        bits |= event.getAttendees() != null ? ATTENDEES : 0;
+        bits |= event.getRecurrenceRule() != null ? RECURRENCE_RULE : 0;
+        bits |= event.getReminders() != null ? REMINDERS : 0;
+        bits |= event.getTimezone() != null ? TIMEZONE : 0;
+        bits |= event.getOrganizerEmail() != null ? ORGANIZER_EMAIL : 0;
+        bits |= event.getStatus() != null ? STATUS : 0;
+        return bits;
+    }
+
+    /**
+     * Low bit of the varint flags a following nano-of-second varint.
+     */
+    private static void writeTimestamp(CompactBinaryWriter writer, long seconds, int nano) {
+        long zigzag = (seconds << 1) ^ (seconds >> 63);
+        writer.writeVarLong(zigzag << 1 | (nano != 0 ? 1 : 0));
+        if (nano != 0) {
+            writer.writeVarLong(nano);
+        }
+    }
+
+    /**
+     * Encoder side of the string table: value to index, in first-seen order.
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        void write(CompactBinaryWriter writer, String value) {
+            if (value == null) {
+                writer.writeVarLong(REF_NULL);
+                return;
+            }
+            Integer index = indexes.putIfAbsent(value, indexes.size());
+            if (index == null) {
+                writer.writeVarLong(REF_LITERAL);
+                writer.writeString(value);
+            } else {
+                writer.writeVarLong(REF_FIRST_INDEX + index);
+            }
+        }
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(byte[] payload) {
+        return new Reader(payload).readEvents();
+    }
+
+    /**
+     * Cursor over one payload. Created per call so the shared instance stays
+     * thread-safe.
+     */
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        private String[] table = new String[64];
+        private int tableSize;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        List<CalendarEvent> readEvents() {
+            if (buf.length < MAGIC.length + 1 || !Arrays.equals(buf, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+                throw error("missing CEVB magic");
+            }
+            pos = MAGIC.length;
+            int version = buf[pos++];
+            if (version != VERSION) {
+                throw error("unsupported version " + version);
+            }
+            int count = readLength("event count");
+            List<CalendarEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                events.add(readEvent());
+            }
+            if (pos != buf.length) {
+                throw error("trailing bytes after " + count + " events");
+            }
+            return events;
+        }
+
+        private CalendarEvent readEvent() {
+            long bits = readVarLong();
+            if ((bits & ~ALL_FIELDS) != 0) {
+                throw error("unknown field bits " + Long.toHexString(bits & ~ALL_FIELDS));
+            }
+            String id = null;
+            if ((bits & ID) != 0) {
+                int kind = readByte();
+                if (kind == ID_UUID) {
+                    id = new UUID(readLong(), readLong()).toString();
+                } else if (kind == ID_STRING) {
+                    id = readString();
+                } else {
+                    throw error("unknown id kind " + kind);
+                }
+            }
+            String title = (bits & TITLE) != 0 ? readString() : null;
+            String description = (bits & DESCRIPTION) != 0 ? readString() : null;
+
+            LocalDateTime startTime = null;
+            long startSecond = 0;
+            if ((bits & START_TIME) != 0) {
+                startTime = readTimestamp(0);
+                startSecond = startTime.toEpochSecond(ZoneOffset.UTC);
+            }
+            LocalDateTime endTime = (bits & END_TIME) != 0 ? readTimestamp(startSecond) : null;
+
+            String location = (bits & LOCATION) != 0 ? readTableString() : null;
+            List<String> attendees = null;
+            if ((bits & ATTENDEES) != 0) {
+                int count = readLength("attendee count");
+                attendees = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    attendees.add(readTableString());
+                }
+            }
+            RecurrenceRule recurrenceRule = (bits & RECURRENCE_RULE) != 0 ? readEnum(RECURRENCE_RULES) : null;
+            List<Integer> reminders = null;
+            if ((bits & REMINDERS) != 0) {
+                int count = readLength("reminder count");
+                reminders = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    long value = readZigZag();
+                    if (value != (int) value) {
+                        throw error("reminder out of range");
+                    }
+                    reminders.add((int) value);
+                }
+            }
+            String timezone = (bits & TIMEZONE) != 0 ? readTableString() : null;
+            String organizerEmail = (bits & ORGANIZER_EMAIL) != 0 ? readTableString() : null;
+            EventStatus status = (bits & STATUS) != 0 ? readEnum(STATUSES) : null;
+
+            return new CalendarEvent(id, title, description, startTime, endTime, location, attendees,
+                    recurrenceRule, reminders, timezone, organizerEmail, status);
+        }
+
+        private LocalDateTime readTimestamp(long baseSecond) {
+            long flagged = readVarLong();
+            long zigzag = flagged >>> 1;
+            long seconds = (zigzag >>> 1) ^ -(zigzag & 1);
+            int nano = 0;
+            if ((flagged & 1) != 0) {
+                long value = readVarLong();
+                if (value <= 0 || value > 999_999_999) {
+                    throw error("nano-of-second out of range");
+                }
+                nano = (int) value;
+            }
+            try {
+                return LocalDateTime.ofEpochSecond(Math.addExact(baseSecond, seconds), nano, ZoneOffset.UTC);
+            } catch (RuntimeException e) {
+                throw error("timestamp out of range");
+            }
+        }
+
+        private String readTableString() {
+            long ref = readVarLong();
+            if (ref == REF_NULL) {
+                return null;
+            }
+            if (ref == REF_LITERAL) {
+                String value = readString();
+                if (tableSize == table.length) {
+                    table = Arrays.copyOf(table, tableSize << 1);
+                }
+                table[tableSize++] = value;
+                return value;
+            }
+            if (ref < REF_FIRST_INDEX) {
+                throw error("invalid string reference " + Long.toUnsignedString(ref));
+            }
+            long index = ref - REF_FIRST_INDEX;
+            if (index >= tableSize) {
+                throw error("string table index " + index + " not yet defined");
+            }
+            return table[(int) index];
+        }
+
+        private String readString() {
+            int length = readLength("string length");
+            String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        private <E extends Enum<E>> E readEnum(E[] constants) {
+            int code = readByte();
+            if (code >= constants.length) {
+                throw error("unknown " + constants[0].getDeclaringClass().getSimpleName() + " code " + code);
+            }
+            return constants[code];
+        }
+
+        /**
+         * Reads a varint that counts bytes or items still to come, which
+         * bounds it by the remaining payload. A 10-byte varint can set bit 63,
+         * so the value is unsigned and a negative {@code long} is rejected too.
+         */
+        private int readLength(String what) {
+            long value = readVarLong();
+            if (value < 0 || value > buf.length - pos) {
+                throw error(what + " " + Long.toUnsignedString(value) + " overruns payload");
+            }
+            return (int) value;
+        }
+
+        private long readZigZag() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw error("varint longer than 10 bytes");
+        }
+
+        private long readLong() {
+            if (buf.length - pos < Long.BYTES) {
+                throw error("unexpected end of payload");
+            }
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (buf[pos++] & 0xFF);
+            }
+            return value;
+        }
+
+        private int readByte() {
+            if (pos >= buf.length) {
+                throw error("unexpected end of payload");
+            }
+            return buf[pos++] & 0xFF;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Malformed compact payload at offset " + pos + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Compressed output mode for any {@link CalendarEventSerializer}: the
+ * delegate's {@code serializeTo} bytes are fed into a pooled deflater as
+ * they are encoded, instead of compressing a finished String. Use
+ * {@link SerializerRegistry#compressed(Format, int)} for the whole registry.
+ */
+public final class CompressedEventSerializer {
+
+    /**
+     * Container around the deflate stream: {@code GZIP} (RFC 1952) or the zlib
+     * wrapper used by HTTP {@code Content-Encoding: deflate} (RFC 1950).
+     */
+    public enum Format {
+        GZIP, DEFLATE
+    }
+
+    private final CalendarEventSerializer delegate;
+    private final Format format;
+    private final int level;
+
+    /**
+     * @param level {@link Deflater#DEFAULT_COMPRESSION} or 0-9
+     */
+    public CompressedEventSerializer(CalendarEventSerializer delegate, Format format, int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level must be -1..9: " + level);
+        }
+        this.delegate = delegate;
+        this.format = format;
+        this.level = level;
+    }
+
+    public String getName() {
+        return delegate.getName() + "+" + format.name().toLowerCase() + level;
+    }
+
+    public CalendarEventSerializer getDelegate() {
+        return delegate;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Writes the compressed payload to {@code out}, which is flushed but left
+     * open.
+     */
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        BufferProvider buffers = BufferProviders.get();
+        DeflatingOutputStream deflating = buffers.acquire(BufferType.DEFLATING_STREAM);
+        try {
+            delegate.serializeTo(events, deflating.start(out, format, level));
+            deflating.finish();
+        } finally {
+            buffers.release(BufferType.DEFLATING_STREAM, deflating);
+        }
+    }
+
+    public byte[] serialize(List<CalendarEvent> events) {
+        BufferProvider buffers = BufferProviders.get();
+        ByteArrayOutputStream out = buffers.acquire(BufferType.BYTE_STREAM);
+        try {
+            serializeTo(events, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Compressed serialization failed for " + getName(), e);
+        } finally {
+            buffers.release(BufferType.BYTE_STREAM, out);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.benchmark.perf.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Reusable compressing sink. Bytes written by a serializer are handed to a
+ * reused {@link Deflater} as they arrive and the compressed output is pushed
+ * to the target through one fixed buffer, so compression adds no per-call
+ * allocation. One Deflater is kept per format and level actually used.
+ *
+ * <p>
+ * {@link #flush()} deliberately does not sync-flush the deflater: serializers
+ * flush once at the end, and a sync flush there would only cost ratio.
+ * Obtain instances through {@link BufferType#DEFLATING_STREAM}; the provider
+ * calls {@link #end()} when it drops one, so its native zlib memory is freed
+ * at once rather than whenever the Cleaner gets to it.
+ */
+final class DeflatingOutputStream extends OutputStream {
+
+    private static final int BUFFER_SIZE = 8_192;
+    private static final int LEVELS = 11;
+    /**
+     * Native memory of one Deflater at the JDK's windowBits 15 and memLevel
+     * 8: 64 KiB each for the window, prev, head and pending buffers, plus
+     * the stream state.
+     */
+    static final int DEFLATER_NATIVE_BYTES = 4 * 65_536 + 6_144;
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] single = new byte[1];
+    private final CRC32 crc = new CRC32();
+    private final Deflater[] gzipDeflaters = new Deflater[LEVELS];
+    private final Deflater[] zlibDeflaters = new Deflater[LEVELS];
+
+    private OutputStream target;
+    private Deflater deflater;
+    private boolean gzip;
+    private int deflaterCount;
+
+    /**
+     * Binds the stream to {@code target} and writes the format header.
+     */
+    DeflatingOutputStream start(OutputStream target, CompressedEventSerializer.Format format, int level)
+            throws IOException {
+        if (this.target != null) {
+            throw new IllegalStateException("Deflating stream already in use");
+        }
+        gzip = format == CompressedEventSerializer.Format.GZIP;
+        deflater = deflater(gzip ? gzipDeflaters : zlibDeflaters, level, gzip);
+        deflater.reset();
+        this.target = target;
+        if (gzip) {
+            crc.reset();
+            target.write(GZIP_HEADER);
+        }
+        return this;
+    }
+
+    /**
+     * Drains the deflater and writes the gzip trailer, if any. The target is
+     * flushed but not closed.
+     */
+    void finish() throws IOException {
+        deflater.finish();
+        while (!deflater.finished()) {
+            drain();
+        }
+        if (gzip) {
+            writeIntLE(buffer, 0, (int) crc.getValue());
+            writeIntLE(buffer, 4, (int) deflater.getBytesRead());
+            target.write(buffer, 0, 8);
+        }
+        target.flush();
+    }
+
+    /**
+     * Unbinds the target; safe to call after a failed {@link #finish()}.
+     */
+    void release() {
+        target = null;
+    }
+
+    /**
+     * Heap buffer plus the estimated native memory of the deflaters created
+     * so far.
+     */
+    int retainedSize() {
+        return BUFFER_SIZE + deflaterCount * DEFLATER_NATIVE_BYTES;
+    }
+
+    /**
+     * Frees every deflater's native memory. The stream must not be used
+     * afterwards.
+     */
+    void end() {
+        target = null;
+        deflater = null;
+        for (Deflater[] byLevel : new Deflater[][] { gzipDeflaters, zlibDeflaters }) {
+            for (int i = 0; i < byLevel.length; i++) {
+                if (byLevel[i] != null) {
+                    byLevel[i].end();
+                    byLevel[i] = null;
+                }
+            }
+        }
+        deflaterCount = 0;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        if (gzip) {
+            crc.update(bytes, offset, length);
+        }
+        deflater.setInput(bytes, offset, length);
+        while (!deflater.needsInput()) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        int produced = deflater.deflate(buffer, 0, buffer.length, Deflater.NO_FLUSH);
+        if (produced > 0) {
+            target.write(buffer, 0, produced);
+        }
+    }
+
+    private Deflater deflater(Deflater[] byLevel, int level, boolean nowrap) {
+        int index = level + 1;
+        if (byLevel[index] == null) {
+            byLevel[index] = new Deflater(level, nowrap);
+            deflaterCount++;
+        }
+        return byLevel[index];
+    }
+
+    private static void writeIntLE(byte[] target, int offset, int value) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >>> 8);
+        target[offset + 2] = (byte) (value >>> 16);
+        target[offset + 3] = (byte) (value >>> 24);
+    }
+}
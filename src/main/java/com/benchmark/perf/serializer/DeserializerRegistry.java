@@ -0,0 +1,39 @@
+package com.benchmark.perf.serializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Central registry of deserializers, the read-side counterpart of
+ * {@link SerializerRegistry}. Names match the serializer of the same library.
+ */
+public final class DeserializerRegistry {
+
+    public static final List<CalendarEventDeserializer> ALL_DESERIALIZERS = List.of(
+            OrgJsonEventDeserializer.INSTANCE,
+            Utf8ByteEventDeserializer.INSTANCE,
+            JacksonDatabindEventDeserializer.INSTANCE,
+            JacksonStreamingEventDeserializer.INSTANCE,
+            GsonEventDeserializer.INSTANCE,
+            MoshiEventDeserializer.INSTANCE);
+
+    private static final Map<String, CalendarEventDeserializer> BY_NAME = new ConcurrentHashMap<>();
+
+    static {
+        for (CalendarEventDeserializer deserializer : ALL_DESERIALIZERS) {
+            BY_NAME.put(deserializer.getName(), deserializer);
+        }
+    }
+
+    private DeserializerRegistry() {
+    }
+
+    public static CalendarEventDeserializer getByName(String name) {
+        CalendarEventDeserializer deserializer = BY_NAME.get(name);
+        if (deserializer == null) {
+            throw new IllegalArgumentException("Unknown deserializer: " + name);
+        }
+        return deserializer;
+    }
+}
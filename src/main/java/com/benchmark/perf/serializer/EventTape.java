@@ -0,0 +1,72 @@
+package com.benchmark.perf.serializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact index over a UTF-8 JSON array of events, built in one pass without
+ * decoding any value. Read it through {@link CalendarEventView} flyweights,
+ * which decode a field only when it is asked for, so a caller that looks at
+ * {@code id}, {@code startTime} and {@code status} before forwarding the
+ * payload never pays for titles, descriptions or attendee lists.
+ *
+ * <p>
+ * The tape is one {@code int[]} with {@value #STRIDE} slots per event: the
+ * event object's start and end byte offsets, then the offset of each field's
+ * value in {@link Utf8ByteEventDeserializer} key order, or {@value #ABSENT}
+ * if the key does not occur. Unknown keys are skipped; for a repeated key the
+ * last occurrence wins, as in the full parser.
+ *
+ * <p>
+ * Indexing checks the array and object structure and the string escapes, so
+ * the payload is well-formed JSON; whether a value has the right type for its
+ * field (a timestamp in {@code startTime}, a known status name) is only
+ * checked when that field is decoded, with the same
+ * {@link IllegalArgumentException} the full parser throws. The tape keeps a
+ * reference to the payload, which must not be modified while it is in use.
+ * A tape is immutable and may be shared between threads, each with its own
+ * view.
+ */
+public final class EventTape {
+
+    static final int EVENT_START = 0;
+    static final int EVENT_END = 1;
+    static final int FIELDS = 2;
+    static final int STRIDE = FIELDS + Utf8ByteEventDeserializer.FIELD_COUNT;
+
+    /** Value offset recorded for a field whose key is missing. */
+    static final int ABSENT = -1;
+
+    final byte[] json;
+    final int[] tape;
+    private final int size;
+
+    private EventTape(byte[] json, int[] tape) {
+        this.json = json;
+        this.tape = tape;
+        this.size = tape.length / STRIDE;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the input is not a JSON array of
+     *                                  objects
+     */
+    public static EventTape index(byte[] json) {
+        return new EventTape(json, new Utf8ByteEventDeserializer.Parser(json).indexEvents());
+    }
+
+    public static EventTape index(String json) {
+        return index(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A new flyweight over this tape. Views keep per-view decoding state, so
+     * use one per thread.
+     */
+    public CalendarEventView view() {
+        return new CalendarEventView(this);
+    }
+}
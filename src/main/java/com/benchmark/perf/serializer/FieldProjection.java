@@ -0,0 +1,158 @@
+package com.benchmark.perf.serializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Compiled sparse fieldset: which {@link com.benchmark.perf.model.CalendarEvent}
+ * fields a serializer writes, as in an API call with
+ * {@code fields=id,title,startTime}. Build one per distinct request shape and
+ * reuse it; {@link CalendarEventSerializer#serialize(List, FieldProjection)}
+ * then only walks the selected fields and never touches the others.
+ *
+ * <p>
+ * The plan is a bitmask plus the selected fields as an array in canonical
+ * order, so output key order does not depend on the order the fields were
+ * requested in. Plans are immutable and equal when they select the same
+ * fields, so serializers may cache per-plan state keyed by them.
+ */
+public final class FieldProjection {
+
+    /**
+     * Event fields in the order every serializer writes them.
+     */
+    public enum Field {
+        ID("id"),
+        TITLE("title"),
+        DESCRIPTION("description"),
+        START_TIME("startTime"),
+        END_TIME("endTime"),
+        LOCATION("location"),
+        ATTENDEES("attendees"),
+        RECURRENCE_RULE("recurrenceRule"),
+        REMINDERS("reminders"),
+        TIMEZONE("timezone"),
+        ORGANIZER_EMAIL("organizerEmail"),
+        STATUS("status");
+
+        private final String jsonName;
+
+        Field(String jsonName) {
+            this.jsonName = jsonName;
+        }
+
+        public String jsonName() {
+            return jsonName;
+        }
+
+        /**
+         * @throws IllegalArgumentException if no field has that JSON name
+         */
+        public static Field fromJsonName(String jsonName) {
+            for (Field field : FIELDS) {
+                if (field.jsonName.equals(jsonName)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Unknown event field: '" + jsonName + "'");
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+
+    /** Selects every field; serializers take their regular full path. */
+    public static final FieldProjection ALL = new FieldProjection((1 << FIELDS.length) - 1);
+
+    private final int mask;
+    private final Field[] fields;
+
+    private FieldProjection(int mask) {
+        this.mask = mask;
+        this.fields = new Field[Integer.bitCount(mask)];
+        int n = 0;
+        for (Field field : FIELDS) {
+            if ((mask & (1 << field.ordinal())) != 0) {
+                fields[n++] = field;
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if no field is given
+     */
+    public static FieldProjection of(Field... fields) {
+        int mask = 0;
+        for (Field field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("A projection needs at least one field");
+        }
+        return mask == ALL.mask ? ALL : new FieldProjection(mask);
+    }
+
+    /**
+     * Parses a comma-separated list of JSON field names, the value of a
+     * {@code fields=} query parameter. Blanks around names are ignored.
+     *
+     * @throws IllegalArgumentException if a name is unknown or the list is
+     *                                  empty
+     */
+    public static FieldProjection parse(String fields) {
+        List<Field> selected = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                selected.add(Field.fromJsonName(name.strip()));
+            }
+        }
+        return of(selected.toArray(new Field[0]));
+    }
+
+    public boolean includes(Field field) {
+        return (mask & (1 << field.ordinal())) != 0;
+    }
+
+    public boolean isAll() {
+        return mask == ALL.mask;
+    }
+
+    /**
+     * Selected fields in canonical order. Serializers iterate this on their
+     * hot path, so it is not copied; callers must not modify it.
+     */
+    Field[] fields() {
+        return fields;
+    }
+
+    /**
+     * JSON field names in canonical order, e.g. for a Jackson property
+     * filter.
+     */
+    public List<String> jsonNames() {
+        List<String> names = new ArrayList<>(fields.length);
+        for (Field field : fields) {
+            names.add(field.jsonName);
+        }
+        return names;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FieldProjection other && other.mask == mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return mask;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",");
+        for (Field field : fields) {
+            joiner.add(field.jsonName);
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.util.Utf8ByteWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Opt-in serializer that memoizes each event's encoded JSON object on the
+ * event itself and reuses it until a setter or list mutation invalidates it.
+ * Repeated polls over mostly-unchanged events then reduce to concatenating
+ * cached byte fragments.
+ *
+ * <p>
+ * Fragments are encoded with {@link Utf8ByteEventSerializer}, so output is
+ * identical to that serializer. Each cached event retains roughly its encoded
+ * size in extra heap.
+ *
+ * <p>
+ * Fragments always hold whole events, so a projection other than
+ * {@link FieldProjection#ALL} is encoded by {@link Utf8ByteEventSerializer}
+ * directly, without reading or filling the cache.
+ */
+public class FragmentCachingEventSerializer implements CalendarEventSerializer {
+
+    public static final FragmentCachingEventSerializer INSTANCE = new FragmentCachingEventSerializer();
+
+    private FragmentCachingEventSerializer() {
+    }
+
+    @Override
+    public String getName() {
+        return "FragmentCached";
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events) {
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            writer.writeByte('[');
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    writer.writeByte(',');
+                }
+                writer.writeBytes(fragment(events.get(i), writer));
+            }
+            writer.writeByte(']');
+            return writer.toString();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    @Override
+    public boolean supportsProjection() {
+        return true;
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events, FieldProjection projection) {
+        return projection.isAll() ? serialize(events)
+                : Utf8ByteEventSerializer.INSTANCE.serialize(events, projection);
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, FieldProjection projection, OutputStream out)
+            throws IOException {
+        if (projection.isAll()) {
+            serializeTo(events, out);
+        } else {
+            Utf8ByteEventSerializer.INSTANCE.serializeTo(events, projection, out);
+        }
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            writer.writeByte('[');
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    writer.writeByte(',');
+                }
+                writer.writeBytes(fragment(events.get(i), writer));
+                if (writer.size() >= BufferType.STREAM_FLUSH_THRESHOLD) {
+                    writer.writeTo(out);
+                    writer.reset();
+                }
+            }
+            writer.writeByte(']');
+            writer.writeTo(out);
+            out.flush();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    /**
+     * Returns the cached fragment or encodes and caches a fresh one. Encoding
+     * happens at the tail of {@code scratch} and is trimmed off again, so the
+     * shared buffer is left exactly as it was.
+     */
+    private static byte[] fragment(CalendarEvent event, Utf8ByteWriter scratch) {
+        byte[] cached = event.cachedFragment();
+        if (cached != null) {
+            return cached;
+        }
+        int version = event.version();
+        int mark = scratch.size();
+        Utf8ByteEventSerializer.INSTANCE.writeEvent(scratch, event);
+        byte[] fragment = scratch.copyFrom(mark);
+        scratch.truncate(mark);
+        event.cacheFragment(fragment, version);
+        return fragment;
+    }
+}
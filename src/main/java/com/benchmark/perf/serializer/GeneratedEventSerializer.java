@@ -0,0 +1,149 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEventJsonWriter;
+import com.benchmark.perf.util.Utf8ByteWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Serializer backed by {@link CalendarEventJsonWriter}, which
+ * {@code JsonWriterProcessor} generates from the fields of
+ * {@link CalendarEvent} at build time. Adding a field to the model updates
+ * the writer with no hand-written encoding code; this class only supplies
+ * pooled buffers and streaming. Output is byte-identical to
+ * {@link Utf8ByteEventSerializer}.
+ *
+ * <p>
+ * Projections write the shared keys and hand each selected field to the
+ * generated {@code writeProperty}, matched to it by JSON name.
+ */
+public class GeneratedEventSerializer implements CalendarEventSerializer, StreamingEventSerializer {
+
+    public static final GeneratedEventSerializer INSTANCE = new GeneratedEventSerializer();
+
+    /** Generated property index by {@link FieldProjection.Field} ordinal. */
+    private static final int[] PROPERTY_INDEX = propertyIndex();
+
+    private GeneratedEventSerializer() {
+    }
+
+    @Override
+    public String getName() {
+        return "Generated";
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events) {
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            CalendarEventJsonWriter.writeArray(events, writer);
+            return writer.toString();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    @Override
+    public boolean supportsProjection() {
+        return true;
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events, FieldProjection projection) {
+        if (projection.isAll()) {
+            return serialize(events);
+        }
+        FieldProjection.Field[] fields = projection.fields();
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            writer.writeByte('[');
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    writer.writeByte(',');
+                }
+                writeEvent(writer, events.get(i), fields);
+            }
+            writer.writeByte(']');
+            return writer.toString();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(events.iterator(), out);
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, FieldProjection projection, OutputStream out)
+            throws IOException {
+        serializeTo(events.iterator(), projection.isAll() ? null : projection.fields(), out);
+    }
+
+    @Override
+    public void serializeTo(Iterator<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(events, null, out);
+    }
+
+    /**
+     * @param fields selected fields, or {@code null} for whole events
+     */
+    private void serializeTo(Iterator<CalendarEvent> events, FieldProjection.Field[] fields, OutputStream out)
+            throws IOException {
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            writer.writeByte('[');
+            boolean first = true;
+            while (events.hasNext()) {
+                if (!first) {
+                    writer.writeByte(',');
+                }
+                first = false;
+                writeEvent(writer, events.next(), fields);
+                if (writer.size() >= BufferType.STREAM_FLUSH_THRESHOLD) {
+                    writer.writeTo(out);
+                    writer.reset();
+                }
+            }
+            writer.writeByte(']');
+            writer.writeTo(out);
+            out.flush();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    private static void writeEvent(Utf8ByteWriter writer, CalendarEvent event, FieldProjection.Field[] fields) {
+        if (fields == null || event == null) {
+            CalendarEventJsonWriter.write(event, writer);
+            return;
+        }
+        writer.writeByte('{');
+        for (int i = 0; i < fields.length; i++) {
+            FieldProjection.Field field = fields[i];
+            writer.writeBytes(i == 0 ? JsonKeys.first(field) : JsonKeys.next(field));
+            CalendarEventJsonWriter.writeProperty(event, PROPERTY_INDEX[field.ordinal()], writer);
+        }
+        writer.writeByte('}');
+    }
+
+    private static int[] propertyIndex() {
+        FieldProjection.Field[] fields = FieldProjection.Field.values();
+        int[] index = new int[fields.length];
+        for (FieldProjection.Field field : fields) {
+            index[field.ordinal()] = CalendarEventJsonWriter.PROPERTIES.indexOf(field.jsonName());
+            if (index[field.ordinal()] < 0) {
+                throw new IllegalStateException("CalendarEvent has no property '" + field.jsonName() + "'");
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,43 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import com.google.gson.JsonIOException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Gson-based deserializer sharing the serializer's Gson instance, TypeToken
+ * and LocalDateTime adapter.
+ */
+public class GsonEventDeserializer implements CalendarEventDeserializer {
+
+    public static final GsonEventDeserializer INSTANCE = new GsonEventDeserializer();
+
+    private GsonEventDeserializer() {
+    }
+
+    @Override
+    public String getName() {
+        return "Gson";
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(String json) {
+        return GsonEventSerializer.GSON.fromJson(json, GsonEventSerializer.LIST_TYPE);
+    }
+
+    @Override
+    public List<CalendarEvent> deserializeFrom(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            return GsonEventSerializer.GSON.fromJson(reader, GsonEventSerializer.LIST_TYPE);
+        } catch (JsonIOException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e);
+        }
+    }
+}
@@ -2,14 +2,22 @@ package com.benchmark.perf.serializer;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonSerializer;
 import com.google.gson.reflect.TypeToken;
 import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.util.IsoDateTimeParser;
+import com.benchmark.perf.util.IsoDateTimeWriter;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
@@ -19,17 +27,16 @@ public class GsonEventSerializer implements CalendarEventSerializer {
 
     public static final GsonEventSerializer INSTANCE = new GsonEventSerializer();
 
-    private static final Type LIST_TYPE = new TypeToken<List<CalendarEvent>>() {
+    static final Type LIST_TYPE = new TypeToken<List<CalendarEvent>>() {
     }.getType();
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     private static final JsonSerializer<LocalDateTime> LOCAL_DATE_TIME_SERIALIZER = (src, typeOfSrc,
-            context) -> src == null ? null : context.serialize(src.format(FORMATTER));
+            context) -> src == null ? null : context.serialize(IsoDateTimeWriter.format(src));
 
     private static final JsonDeserializer<LocalDateTime> LOCAL_DATE_TIME_DESERIALIZER = (json, typeOfT,
-            context) -> json == null ? null : LocalDateTime.parse(json.getAsString(), FORMATTER);
+            context) -> json == null ? null : IsoDateTimeParser.parse(json.getAsString());
 
-    private static final Gson GSON = new GsonBuilder()
+    static final Gson GSON = new GsonBuilder()
             .disableHtmlEscaping()
             .registerTypeAdapter(LocalDateTime.class, LOCAL_DATE_TIME_SERIALIZER)
             .registerTypeAdapter(LocalDateTime.class, LOCAL_DATE_TIME_DESERIALIZER)
@@ -47,4 +54,15 @@ public class GsonEventSerializer implements CalendarEventSerializer {
     public String serialize(List<CalendarEvent> events) {
         return GSON.toJson(events, LIST_TYPE);
     }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            GSON.toJson(events, LIST_TYPE, writer);
+        } catch (JsonIOException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e);
+        }
+        writer.flush();
+    }
 }
@@ -0,0 +1,88 @@
+package com.benchmark.perf.serializer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.benchmark.perf.model.CalendarEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Binary format backed by a Jackson data format module. Encoding and decoding
+ * run the same generator and parser code as the JSON streaming serializer, so
+ * the formats differ only in the factory and the measured cost is the format's
+ * own.
+ */
+abstract class JacksonBinaryEventSerializer implements BinaryEventSerializer {
+
+    private final JsonFactory factory;
+
+    /**
+     * @param factory configured with {@code AUTO_CLOSE_TARGET} and
+     *                {@code AUTO_CLOSE_SOURCE} disabled, so caller streams stay
+     *                open
+     */
+    JacksonBinaryEventSerializer(JsonFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public byte[] serialize(List<CalendarEvent> events) {
+        BufferProvider buffers = BufferProviders.get();
+        ByteArrayOutputStream out = buffers.acquire(BufferType.BYTE_STREAM);
+        try {
+            serializeTo(events, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(getName() + " serialization failed", e);
+        } finally {
+            buffers.release(BufferType.BYTE_STREAM, out);
+        }
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            JacksonStreamingEventSerializer.writeEvents(generator, events.iterator(), null);
+        }
+        out.flush();
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(byte[] payload) {
+        try (JsonParser parser = factory.createParser(payload)) {
+            return readPayload(parser);
+        } catch (StreamReadException e) {
+            throw new IllegalArgumentException("Malformed " + getName() + " payload: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new IllegalStateException(getName() + " deserialization failed", e);
+        }
+    }
+
+    @Override
+    public List<CalendarEvent> deserializeFrom(InputStream in) throws IOException {
+        try (JsonParser parser = factory.createParser(in)) {
+            return readPayload(parser);
+        } catch (StreamReadException e) {
+            throw new IllegalArgumentException("Malformed " + getName() + " payload: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * A payload is exactly one array; anything after it means the bytes are
+     * not what the encoder wrote.
+     */
+    private static List<CalendarEvent> readPayload(JsonParser parser) throws IOException {
+        List<CalendarEvent> events = JacksonStreamingEventDeserializer.readEvents(parser);
+        if (parser.nextToken() != null) {
+            throw new JsonParseException(parser, "Trailing data after the event array");
+        }
+        return events;
+    }
+}
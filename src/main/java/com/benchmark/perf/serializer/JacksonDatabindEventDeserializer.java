@@ -0,0 +1,53 @@
+package com.benchmark.perf.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.benchmark.perf.model.CalendarEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Baseline Jackson databind deserializer using a cached ObjectReader built
+ * from the serializer's mapper.
+ */
+public class JacksonDatabindEventDeserializer implements CalendarEventDeserializer {
+
+    public static final JacksonDatabindEventDeserializer INSTANCE = new JacksonDatabindEventDeserializer();
+
+    private static final ObjectReader READER = JacksonDatabindEventSerializer.MAPPER
+            .readerFor(JacksonDatabindEventSerializer.LIST_TYPE)
+            .without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+    private JacksonDatabindEventDeserializer() {
+    }
+
+    @Override
+    public String getName() {
+        return "JacksonDatabind";
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(String json) {
+        try {
+            return READER.readValue(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Jackson databind deserialization failed", e);
+        }
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(byte[] json) {
+        try {
+            return READER.readValue(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Jackson databind deserialization failed", e);
+        }
+    }
+
+    @Override
+    public List<CalendarEvent> deserializeFrom(InputStream in) throws IOException {
+        return READER.readValue(in);
+    }
+}
@@ -1,31 +1,65 @@
 package com.benchmark.perf.serializer;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.benchmark.perf.model.CalendarEvent;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Baseline Jackson databind serializer using cached ObjectWriter and
- * thread-local byte buffers.
+ * pooled byte buffers.
  */
 public class JacksonDatabindEventSerializer implements CalendarEventSerializer {
 
     public static final JacksonDatabindEventSerializer INSTANCE = new JacksonDatabindEventSerializer();
 
-    private static final ObjectWriter WRITER;
+    /**
+     * Shared with {@link JacksonDatabindEventDeserializer} so both directions
+     * use one set of cached (de)serializers.
+     */
+    static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-    static {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        WRITER = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, CalendarEvent.class));
+    static final JavaType LIST_TYPE = MAPPER.getTypeFactory().constructCollectionType(List.class,
+            CalendarEvent.class);
+
+    private static final ObjectWriter WRITER = MAPPER.writerFor(LIST_TYPE)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private static final String PROJECTION_FILTER = "fieldProjection";
+
+    /**
+     * Copy of {@link #MAPPER} whose serializer for {@link CalendarEvent}
+     * consults a property filter. Kept apart so full-object writes do not pay
+     * for filtering.
+     */
+    private static final ObjectMapper PROJECTION_MAPPER = MAPPER.copy()
+            .addMixIn(CalendarEvent.class, ProjectionMixIn.class);
+
+    /**
+     * One filtered writer per projection. There are at most 4,095 distinct
+     * projections, and in practice a handful.
+     */
+    private final ConcurrentMap<FieldProjection, ObjectWriter> projectionWriters = new ConcurrentHashMap<>();
+
+    @JsonFilter(PROJECTION_FILTER)
+    private abstract static class ProjectionMixIn {
     }
 
     private JacksonDatabindEventSerializer() {
@@ -38,12 +72,52 @@ public class JacksonDatabindEventSerializer implements CalendarEventSerializer {
 
     @Override
     public String serialize(List<CalendarEvent> events) {
-        ByteArrayOutputStream baos = ThreadLocalBufferProvider.acquireByteArrayOutputStream();
+        return serialize(events, WRITER);
+    }
+
+    @Override
+    public boolean supportsProjection() {
+        return true;
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events, FieldProjection projection) {
+        return serialize(events, writerFor(projection));
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, FieldProjection projection, OutputStream out)
+            throws IOException {
+        writerFor(projection).writeValue(out, events);
+        out.flush();
+    }
+
+    private ObjectWriter writerFor(FieldProjection projection) {
+        if (projection.isAll()) {
+            return WRITER;
+        }
+        return projectionWriters.computeIfAbsent(projection, p -> PROJECTION_MAPPER.writerFor(LIST_TYPE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .with(new SimpleFilterProvider().addFilter(PROJECTION_FILTER,
+                        SimpleBeanPropertyFilter.filterOutAllExcept(new HashSet<>(p.jsonNames())))));
+    }
+
+    private static String serialize(List<CalendarEvent> events, ObjectWriter writer) {
+        BufferProvider buffers = BufferProviders.get();
+        ByteArrayOutputStream baos = buffers.acquire(BufferType.BYTE_STREAM);
         try {
-            WRITER.writeValue(baos, events);
+            writer.writeValue(baos, events);
             return baos.toString(StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new IllegalStateException("Jackson databind serialization failed", e);
+        } finally {
+            buffers.release(BufferType.BYTE_STREAM, baos);
         }
     }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        WRITER.writeValue(out, events);
+        out.flush();
+    }
 }
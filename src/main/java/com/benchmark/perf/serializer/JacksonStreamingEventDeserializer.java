@@ -0,0 +1,193 @@
+package com.benchmark.perf.serializer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.model.CalendarEvent.RecurrenceRule;
+import com.benchmark.perf.util.IsoDateTimeParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson streaming deserializer that pulls tokens with JsonParser. Field
+ * names come back canonicalized from the parser's symbol table, timestamps
+ * and enum names are decoded from the parser's text buffer, so only the
+ * retained String values and the event objects are allocated. The CBOR and
+ * Smile serializers reuse the token loop with their own parsers.
+ */
+public class JacksonStreamingEventDeserializer implements CalendarEventDeserializer {
+
+    public static final JacksonStreamingEventDeserializer INSTANCE = new JacksonStreamingEventDeserializer();
+
+    private static final RecurrenceRule[] RECURRENCE_RULES = RecurrenceRule.values();
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    private JacksonStreamingEventDeserializer() {
+    }
+
+    @Override
+    public String getName() {
+        return "JacksonStreaming";
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(String json) {
+        try (JsonParser parser = JacksonStreamingEventSerializer.JSON_FACTORY.createParser(json)) {
+            return readEvents(parser);
+        } catch (IOException e) {
+            throw new IllegalStateException("Jackson streaming deserialization failed", e);
+        }
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(byte[] json) {
+        try (JsonParser parser = JacksonStreamingEventSerializer.JSON_FACTORY.createParser(json)) {
+            return readEvents(parser);
+        } catch (IOException e) {
+            throw new IllegalStateException("Jackson streaming deserialization failed", e);
+        }
+    }
+
+    /**
+     * Closing the parser returns its recycled buffers; AUTO_CLOSE_SOURCE is
+     * turned off so {@code in} stays open.
+     */
+    @Override
+    public List<CalendarEvent> deserializeFrom(InputStream in) throws IOException {
+        JsonParser parser = JacksonStreamingEventSerializer.JSON_FACTORY.createParser(in);
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        try (parser) {
+            return readEvents(parser);
+        }
+    }
+
+    /**
+     * Reads an array of events from any Jackson parser.
+     */
+    static List<CalendarEvent> readEvents(JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+        List<CalendarEvent> events = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            events.add(readEvent(parser));
+        }
+        return events;
+    }
+
+    private static CalendarEvent readEvent(JsonParser parser) throws IOException {
+        String id = null;
+        String title = null;
+        String description = null;
+        LocalDateTime startTime = null;
+        LocalDateTime endTime = null;
+        String location = null;
+        List<String> attendees = null;
+        RecurrenceRule recurrenceRule = null;
+        List<Integer> reminders = null;
+        String timezone = null;
+        String organizerEmail = null;
+        EventStatus status = null;
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsString();
+                case "title" -> title = parser.getValueAsString();
+                case "description" -> description = parser.getValueAsString();
+                case "startTime" -> startTime = readDateTime(parser, value);
+                case "endTime" -> endTime = readDateTime(parser, value);
+                case "location" -> location = parser.getValueAsString();
+                case "attendees" -> attendees = readAttendees(parser, value);
+                case "recurrenceRule" -> recurrenceRule = readEnum(parser, value, RECURRENCE_RULES);
+                case "reminders" -> reminders = readReminders(parser, value);
+                case "timezone" -> timezone = parser.getValueAsString();
+                case "organizerEmail" -> organizerEmail = parser.getValueAsString();
+                case "status" -> status = readEnum(parser, value, STATUSES);
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+
+        return new CalendarEvent(id, title, description, startTime, endTime, location, attendees,
+                recurrenceRule, reminders, timezone, organizerEmail, status);
+    }
+
+    private static LocalDateTime readDateTime(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, value, JsonToken.VALUE_STRING);
+        return IsoDateTimeParser.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    private static List<String> readAttendees(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, value, JsonToken.START_ARRAY);
+        List<String> attendees = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            attendees.add(parser.getValueAsString());
+        }
+        return attendees;
+    }
+
+    private static List<Integer> readReminders(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, value, JsonToken.START_ARRAY);
+        List<Integer> reminders = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            reminders.add(token == JsonToken.VALUE_NULL ? null : parser.getIntValue());
+        }
+        return reminders;
+    }
+
+    /**
+     * Matches the parser's text buffer against the constant names so no
+     * String is created for the lookup.
+     */
+    private static <E extends Enum<E>> E readEnum(JsonParser parser, JsonToken value, E[] constants)
+            throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, value, JsonToken.VALUE_STRING);
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        for (E constant : constants) {
+            String name = constant.name();
+            if (name.length() == length && matches(name, text, offset)) {
+                return constant;
+            }
+        }
+        throw new JsonParseException(parser, "Unknown " + constants[0].getDeclaringClass().getSimpleName()
+                + ": " + parser.getText());
+    }
+
+    private static boolean matches(String name, char[] text, int offset) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != text[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
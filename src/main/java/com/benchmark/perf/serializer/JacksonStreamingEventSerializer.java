@@ -1,29 +1,52 @@
 package com.benchmark.perf.serializer;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.util.IsoDateTimeWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 
 /**
  * Jackson streaming serializer that writes directly with JsonGenerator and
- * reuses thread-local byte buffers.
+ * reuses pooled byte buffers. The generator code is format-neutral, so the
+ * CBOR and Smile serializers reuse it with their own factories.
  */
-public class JacksonStreamingEventSerializer implements CalendarEventSerializer {
+public class JacksonStreamingEventSerializer implements CalendarEventSerializer, StreamingEventSerializer {
 
     public static final JacksonStreamingEventSerializer INSTANCE = new JacksonStreamingEventSerializer();
 
-    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    /**
+     * Field names by {@link FieldProjection.Field} ordinal, with their quoted
+     * UTF-8 form computed once.
+     */
+    private static final SerializedString[] NAMES = names();
 
     private JacksonStreamingEventSerializer() {
     }
 
+    private static SerializedString[] names() {
+        FieldProjection.Field[] fields = FieldProjection.Field.values();
+        SerializedString[] names = new SerializedString[fields.length];
+        for (FieldProjection.Field field : fields) {
+            names[field.ordinal()] = new SerializedString(field.jsonName());
+        }
+        return names;
+    }
+
     @Override
     public String getName() {
         return "JacksonStreaming";
@@ -31,46 +54,174 @@ public class JacksonStreamingEventSerializer implements CalendarEventSerializer
 
     @Override
     public String serialize(List<CalendarEvent> events) {
-        ByteArrayOutputStream baos = ThreadLocalBufferProvider.acquireByteArrayOutputStream();
+        return serialize(events, (FieldProjection.Field[]) null);
+    }
+
+    @Override
+    public boolean supportsProjection() {
+        return true;
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events, FieldProjection projection) {
+        return serialize(events, projection.isAll() ? null : projection.fields());
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, FieldProjection projection, OutputStream out)
+            throws IOException {
+        serializeTo(events.iterator(), projection.isAll() ? null : projection.fields(), out);
+    }
+
+    /**
+     * @param fields selected fields, or {@code null} for whole events
+     */
+    private String serialize(List<CalendarEvent> events, FieldProjection.Field[] fields) {
+        BufferProvider buffers = BufferProviders.get();
+        ByteArrayOutputStream baos = buffers.acquire(BufferType.BYTE_STREAM);
         try (JsonGenerator generator = JSON_FACTORY.createGenerator(baos)) {
-            generator.writeStartArray();
-            for (CalendarEvent event : events) {
-                generator.writeStartObject();
-                generator.writeStringField("id", event.getId());
-                generator.writeStringField("title", event.getTitle());
-                generator.writeStringField("description", event.getDescription());
-                generator.writeStringField("startTime", event.getStartTime().format(FORMATTER));
-                generator.writeStringField("endTime", event.getEndTime().format(FORMATTER));
-                generator.writeStringField("location", event.getLocation());
-
-                generator.writeArrayFieldStart("attendees");
-                for (String attendee : event.getAttendees()) {
-                    if (attendee == null) {
-                        generator.writeNull();
-                    } else {
-                        generator.writeString(attendee);
-                    }
-                }
-                generator.writeEndArray();
-
-                generator.writeStringField("recurrenceRule", event.getRecurrenceRule().name());
-
-                generator.writeArrayFieldStart("reminders");
-                for (Integer reminder : event.getReminders()) {
-                    generator.writeNumber(reminder);
-                }
-                generator.writeEndArray();
-
-                generator.writeStringField("timezone", event.getTimezone());
-                generator.writeStringField("organizerEmail", event.getOrganizerEmail());
-                generator.writeStringField("status", event.getStatus().name());
-                generator.writeEndObject();
-            }
-            generator.writeEndArray();
+            writeEvents(generator, events.iterator(), fields);
             generator.flush();
             return baos.toString(StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new IllegalStateException("Jackson streaming serialization failed", e);
+        } finally {
+            buffers.release(BufferType.BYTE_STREAM, baos);
+        }
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(events.iterator(), out);
+    }
+
+    /**
+     * The generator flushes its recycled output buffer to the stream whenever
+     * it fills, so only one buffer's worth of bytes is ever held.
+     */
+    @Override
+    public void serializeTo(Iterator<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(events, null, out);
+    }
+
+    private void serializeTo(Iterator<CalendarEvent> events, FieldProjection.Field[] fields, OutputStream out)
+            throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            writeEvents(generator, events, fields);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the events as an array with any Jackson generator.
+     *
+     * @param fields selected fields, or {@code null} for whole events
+     */
+    static void writeEvents(JsonGenerator generator, Iterator<CalendarEvent> events, FieldProjection.Field[] fields)
+            throws IOException {
+        char[] timestamp = new char[IsoDateTimeWriter.MAX_LENGTH];
+        generator.writeStartArray();
+        while (events.hasNext()) {
+            if (fields == null) {
+                writeEvent(generator, events.next(), timestamp);
+            } else {
+                writeProjectedEvent(generator, events.next(), fields, timestamp);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeEvent(JsonGenerator generator, CalendarEvent event, char[] timestamp) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", event.getId());
+        generator.writeStringField("title", event.getTitle());
+        generator.writeStringField("description", event.getDescription());
+        generator.writeFieldName("startTime");
+        writeDateTime(generator, event.getStartTime(), timestamp);
+        generator.writeFieldName("endTime");
+        writeDateTime(generator, event.getEndTime(), timestamp);
+        generator.writeStringField("location", event.getLocation());
+        generator.writeFieldName("attendees");
+        writeAttendees(generator, event.getAttendees());
+        generator.writeFieldName("recurrenceRule");
+        writeEnum(generator, event.getRecurrenceRule());
+        generator.writeFieldName("reminders");
+        writeReminders(generator, event.getReminders());
+        generator.writeStringField("timezone", event.getTimezone());
+        generator.writeStringField("organizerEmail", event.getOrganizerEmail());
+        generator.writeFieldName("status");
+        writeEnum(generator, event.getStatus());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes only {@code fields}; values of the other fields are never read.
+     */
+    private static void writeProjectedEvent(JsonGenerator generator, CalendarEvent event, FieldProjection.Field[] fields,
+            char[] timestamp) throws IOException {
+        generator.writeStartObject();
+        for (FieldProjection.Field field : fields) {
+            generator.writeFieldName(NAMES[field.ordinal()]);
+            switch (field) {
+                case ID -> generator.writeString(event.getId());
+                case TITLE -> generator.writeString(event.getTitle());
+                case DESCRIPTION -> generator.writeString(event.getDescription());
+                case START_TIME -> writeDateTime(generator, event.getStartTime(), timestamp);
+                case END_TIME -> writeDateTime(generator, event.getEndTime(), timestamp);
+                case LOCATION -> generator.writeString(event.getLocation());
+                case ATTENDEES -> writeAttendees(generator, event.getAttendees());
+                case RECURRENCE_RULE -> writeEnum(generator, event.getRecurrenceRule());
+                case REMINDERS -> writeReminders(generator, event.getReminders());
+                case TIMEZONE -> generator.writeString(event.getTimezone());
+                case ORGANIZER_EMAIL -> generator.writeString(event.getOrganizerEmail());
+                case STATUS -> writeEnum(generator, event.getStatus());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeDateTime(JsonGenerator generator, LocalDateTime value, char[] timestamp)
+            throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(timestamp, 0, IsoDateTimeWriter.write(value, timestamp, 0));
+        }
+    }
+
+    private static void writeEnum(JsonGenerator generator, Enum<?> value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.name());
+        }
+    }
+
+    private static void writeAttendees(JsonGenerator generator, List<String> attendees) throws IOException {
+        if (attendees == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (String attendee : attendees) {
+            if (attendee == null) {
+                generator.writeNull();
+            } else {
+                generator.writeString(attendee);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeReminders(JsonGenerator generator, List<Integer> reminders) throws IOException {
+        if (reminders == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (Integer reminder : reminders) {
+            generator.writeNumber(reminder);
         }
+        generator.writeEndArray();
     }
 }
@@ -0,0 +1,41 @@
+package com.benchmark.perf.serializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 object keys ({@code "name":}) of every {@link FieldProjection.Field},
+ * encoded once and shared by the byte-level JSON serializers.
+ */
+final class JsonKeys {
+
+    /** Keys by {@link FieldProjection.Field} ordinal, without and with the leading comma. */
+    private static final byte[][] FIRST = keys(true);
+    private static final byte[][] NEXT = keys(false);
+
+    private JsonKeys() {
+    }
+
+    /**
+     * Key of the first member of an object.
+     */
+    static byte[] first(FieldProjection.Field field) {
+        return FIRST[field.ordinal()];
+    }
+
+    /**
+     * Key of any later member, with its separating comma.
+     */
+    static byte[] next(FieldProjection.Field field) {
+        return NEXT[field.ordinal()];
+    }
+
+    private static byte[][] keys(boolean first) {
+        FieldProjection.Field[] fields = FieldProjection.Field.values();
+        byte[][] keys = new byte[fields.length][];
+        for (FieldProjection.Field field : fields) {
+            keys[field.ordinal()] = ((first ? "" : ",") + '"' + field.jsonName() + "\":")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+        return keys;
+    }
+}
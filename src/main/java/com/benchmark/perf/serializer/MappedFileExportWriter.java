@@ -0,0 +1,53 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Bulk export to a file: a {@link StreamingEventSerializer} encodes into its
+ * small pooled buffer and each flush is copied into a
+ * {@link MappedFileOutputStream} window. Neither the JSON String nor its
+ * byte[] is ever materialized, so heap use stays flat however many events are
+ * exported.
+ */
+public class MappedFileExportWriter {
+
+    public static final MappedFileExportWriter INSTANCE = new MappedFileExportWriter(
+            Utf8ByteEventSerializer.INSTANCE, MappedFileOutputStream.DEFAULT_WINDOW_BYTES);
+
+    private final StreamingEventSerializer serializer;
+    private final int windowBytes;
+
+    public MappedFileExportWriter(StreamingEventSerializer serializer, int windowBytes) {
+        if (windowBytes <= 0) {
+            throw new IllegalArgumentException("windowBytes must be positive: " + windowBytes);
+        }
+        this.serializer = serializer;
+        this.windowBytes = windowBytes;
+    }
+
+    public String getName() {
+        return serializer.getName() + "Mapped";
+    }
+
+    /**
+     * Writes the events as a JSON array to {@code path}, replacing any
+     * existing file.
+     *
+     * @return size of the written file in bytes
+     */
+    public long export(Iterator<CalendarEvent> events, Path path) throws IOException {
+        try (MappedFileOutputStream out = new MappedFileOutputStream(path, windowBytes)) {
+            serializer.serializeTo(events, out);
+            return out.position();
+        }
+    }
+
+    public long export(List<CalendarEvent> events, Path path) throws IOException {
+        return export(events.iterator(), path);
+    }
+}
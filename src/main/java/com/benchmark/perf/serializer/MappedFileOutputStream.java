@@ -0,0 +1,111 @@
+package com.benchmark.perf.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * OutputStream that writes a file through a sliding {@link MappedByteBuffer}
+ * window. Each window is mapped READ_WRITE at the current end of the data,
+ * which extends the file in {@code windowBytes} steps; bytes are copied
+ * straight into the page cache with no intermediate heap buffer. On close the
+ * file is truncated to the bytes actually written.
+ *
+ * <p>
+ * Retired windows are unmapped when they are garbage collected. Data reaches
+ * disk through the page cache like any other write; this stream does not
+ * force it.
+ */
+public final class MappedFileOutputStream extends OutputStream {
+
+    public static final int DEFAULT_WINDOW_BYTES = 64 << 20;
+
+    private final FileChannel channel;
+    private final int windowBytes;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    public MappedFileOutputStream(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_BYTES);
+    }
+
+    /**
+     * Creates or truncates {@code path}.
+     *
+     * @param windowBytes size of each mapped window, and so of each step the
+     *                    file grows by while writing
+     */
+    public MappedFileOutputStream(Path path, int windowBytes) throws IOException {
+        if (windowBytes <= 0) {
+            throw new IllegalArgumentException("windowBytes must be positive: " + windowBytes);
+        }
+        this.windowBytes = windowBytes;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            this.window = channel.map(FileChannel.MapMode.READ_WRITE, 0, windowBytes);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of bytes written so far
+     */
+    public long position() throws IOException {
+        ensureOpen();
+        return windowStart + window.position();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (!window.hasRemaining()) {
+            advance();
+        }
+        window.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        ensureOpen();
+        while (length > 0) {
+            if (!window.hasRemaining()) {
+                advance();
+            }
+            int chunk = Math.min(length, window.remaining());
+            window.put(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (window == null) {
+            return;
+        }
+        long size = windowStart + window.position();
+        window = null;
+        try (channel) {
+            channel.truncate(size);
+        }
+    }
+
+    private void advance() throws IOException {
+        windowStart += window.position();
+        window = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, windowBytes);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (window == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Moshi-based deserializer sharing the serializer's cached list adapter and
+ * LocalDateTime adapter.
+ */
+public class MoshiEventDeserializer implements CalendarEventDeserializer {
+
+    public static final MoshiEventDeserializer INSTANCE = new MoshiEventDeserializer();
+
+    private MoshiEventDeserializer() {
+    }
+
+    @Override
+    public String getName() {
+        return "Moshi";
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(String json) {
+        try {
+            return MoshiEventSerializer.ADAPTER.fromJson(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Moshi deserialization failed", e);
+        }
+    }
+
+    @Override
+    public List<CalendarEvent> deserializeFrom(InputStream in) throws IOException {
+        return MoshiEventSerializer.ADAPTER.fromJson(Okio.buffer(Okio.source(in)));
+    }
+}
@@ -1,16 +1,20 @@
 package com.benchmark.perf.serializer;
 
 import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.util.IsoDateTimeParser;
+import com.benchmark.perf.util.IsoDateTimeWriter;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonReader;
 import com.squareup.moshi.JsonWriter;
 import com.squareup.moshi.Moshi;
 import com.squareup.moshi.Types;
+import okio.BufferedSink;
+import okio.Okio;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
@@ -20,12 +24,11 @@ public class MoshiEventSerializer implements CalendarEventSerializer {
 
     public static final MoshiEventSerializer INSTANCE = new MoshiEventSerializer();
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
     private static final Moshi MOSHI = new Moshi.Builder()
             .add(LocalDateTime.class, new LocalDateTimeJsonAdapter())
             .build();
     private static final Type LIST_TYPE = Types.newParameterizedType(List.class, CalendarEvent.class);
-    private static final JsonAdapter<List<CalendarEvent>> ADAPTER = MOSHI.adapter(LIST_TYPE);
+    static final JsonAdapter<List<CalendarEvent>> ADAPTER = MOSHI.adapter(LIST_TYPE);
 
     private MoshiEventSerializer() {
     }
@@ -40,6 +43,13 @@ public class MoshiEventSerializer implements CalendarEventSerializer {
         return ADAPTER.toJson(events);
     }
 
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        BufferedSink sink = Okio.buffer(Okio.sink(out));
+        ADAPTER.toJson(sink, events);
+        sink.flush();
+    }
+
     private static final class LocalDateTimeJsonAdapter extends JsonAdapter<LocalDateTime> {
 
         @Override
@@ -48,7 +58,7 @@ public class MoshiEventSerializer implements CalendarEventSerializer {
                 reader.nextNull();
                 return null;
             }
-            return LocalDateTime.parse(reader.nextString(), FORMATTER);
+            return IsoDateTimeParser.parse(reader.nextString());
         }
 
         @Override
@@ -56,7 +66,7 @@ public class MoshiEventSerializer implements CalendarEventSerializer {
             if (value == null) {
                 writer.nullValue();
             } else {
-                writer.value(value.format(FORMATTER));
+                writer.value(IsoDateTimeWriter.format(value));
             }
         }
     }
@@ -0,0 +1,137 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.OffHeapEventStore;
+import com.benchmark.perf.model.OffHeapEventStore.Cursor;
+import com.benchmark.perf.model.OffHeapEventStore.StringField;
+import com.benchmark.perf.util.EncodedValueCache;
+import com.benchmark.perf.util.Utf8ByteWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes an {@link OffHeapEventStore} by walking a cursor over its records
+ * and copying string bytes from direct memory into the pooled output
+ * buffer, so no per-event heap objects are created. Output is byte-for-byte
+ * that of {@link Utf8ByteEventSerializer}.
+ *
+ * <p>
+ * Deliberately not a {@link CalendarEventSerializer} and not in the
+ * registry: building a store per {@code List} call would allocate direct
+ * memory per request, which defeats its purpose.
+ */
+public class OffHeapEventSerializer {
+
+    public static final OffHeapEventSerializer INSTANCE = new OffHeapEventSerializer();
+
+    private OffHeapEventSerializer() {
+    }
+
+    public String getName() {
+        return "OffHeap";
+    }
+
+    public String serialize(OffHeapEventStore store) {
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            Cursor cursor = store.cursor();
+            writer.writeByte('[');
+            for (int i = 0; i < store.size(); i++) {
+                if (i > 0) {
+                    writer.writeByte(',');
+                }
+                writeEvent(writer, cursor.at(i));
+            }
+            writer.writeByte(']');
+            return writer.toString();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    /**
+     * Streams the store as UTF-8 JSON, flushing the buffer to {@code out}
+     * every few kilobytes. The stream is flushed but left open.
+     */
+    public void serializeTo(OffHeapEventStore store, OutputStream out) throws IOException {
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            Cursor cursor = store.cursor();
+            writer.writeByte('[');
+            for (int i = 0; i < store.size(); i++) {
+                if (i > 0) {
+                    writer.writeByte(',');
+                }
+                writeEvent(writer, cursor.at(i));
+                if (writer.size() >= BufferType.STREAM_FLUSH_THRESHOLD) {
+                    writer.writeTo(out);
+                    writer.reset();
+                }
+            }
+            writer.writeByte(']');
+            writer.writeTo(out);
+            out.flush();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    private void writeEvent(Utf8ByteWriter writer, Cursor event) {
+        writer.writeByte('{');
+        writer.writeBytes(JsonKeys.first(FieldProjection.Field.ID));
+        event.writeQuoted(StringField.ID, writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.TITLE));
+        event.writeQuoted(StringField.TITLE, writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.DESCRIPTION));
+        event.writeQuoted(StringField.DESCRIPTION, writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.START_TIME));
+        writeQuotedDateTime(writer, event.startEpochSecond(), event.startNano());
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.END_TIME));
+        writeQuotedDateTime(writer, event.endEpochSecond(), event.endNano());
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.LOCATION));
+        event.writeQuoted(StringField.LOCATION, writer);
+
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.ATTENDEES));
+        writer.writeByte('[');
+        for (int j = 0, count = event.attendeeCount(); j < count; j++) {
+            if (j > 0) {
+                writer.writeByte(',');
+            }
+            event.writeQuotedAttendee(j, writer);
+        }
+        writer.writeByte(']');
+
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.RECURRENCE_RULE));
+        EncodedValueCache.writeQuoted(event.getRecurrenceRule(), writer);
+
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.REMINDERS));
+        writer.writeByte('[');
+        for (int j = 0, count = event.reminderCount(); j < count; j++) {
+            if (j > 0) {
+                writer.writeByte(',');
+            }
+            writer.writeInt(event.getReminder(j));
+        }
+        writer.writeByte(']');
+
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.TIMEZONE));
+        event.writeQuoted(StringField.TIMEZONE, writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.ORGANIZER_EMAIL));
+        event.writeQuoted(StringField.ORGANIZER_EMAIL, writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.STATUS));
+        EncodedValueCache.writeQuoted(event.getStatus(), writer);
+        writer.writeByte('}');
+    }
+
+    private static void writeQuotedDateTime(Utf8ByteWriter writer, long epochSecond, int nano) {
+        if (epochSecond == OffHeapEventStore.NULL_TIME) {
+            writer.writeNull();
+            return;
+        }
+        writer.writeByte('"');
+        writer.writeDateTime(epochSecond, nano);
+        writer.writeByte('"');
+    }
+}
@@ -0,0 +1,95 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.model.CalendarEvent.RecurrenceRule;
+import com.benchmark.perf.util.IsoDateTimeParser;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deserializes calendar events via an org.json JSONArray/JSONObject tree.
+ */
+public class OrgJsonEventDeserializer implements CalendarEventDeserializer {
+
+    public static final OrgJsonEventDeserializer INSTANCE = new OrgJsonEventDeserializer();
+
+    private OrgJsonEventDeserializer() {
+    }
+
+    @Override
+    public String getName() {
+        return "org.json";
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(String json) {
+        return fromJsonArray(new JSONArray(json));
+    }
+
+    @Override
+    public List<CalendarEvent> deserializeFrom(InputStream in) throws IOException {
+        return fromJsonArray(new JSONArray(new JSONTokener(in)));
+    }
+
+    private List<CalendarEvent> fromJsonArray(JSONArray jsonArray) {
+        List<CalendarEvent> events = new ArrayList<>(jsonArray.length());
+
+        for (int i = 0; i < jsonArray.length(); i++) {
+            JSONObject jsonObject = jsonArray.getJSONObject(i);
+
+            List<String> attendees = null;
+            JSONArray attendeesArray = jsonObject.optJSONArray("attendees");
+            if (attendeesArray != null) {
+                attendees = new ArrayList<>(attendeesArray.length());
+                for (int j = 0; j < attendeesArray.length(); j++) {
+                    attendees.add(attendeesArray.isNull(j) ? null : attendeesArray.getString(j));
+                }
+            }
+
+            List<Integer> reminders = null;
+            JSONArray remindersArray = jsonObject.optJSONArray("reminders");
+            if (remindersArray != null) {
+                reminders = new ArrayList<>(remindersArray.length());
+                for (int j = 0; j < remindersArray.length(); j++) {
+                    reminders.add(remindersArray.isNull(j) ? null : remindersArray.getInt(j));
+                }
+            }
+
+            String recurrenceRule = string(jsonObject, "recurrenceRule");
+            String status = string(jsonObject, "status");
+
+            events.add(new CalendarEvent(
+                    string(jsonObject, "id"),
+                    string(jsonObject, "title"),
+                    string(jsonObject, "description"),
+                    dateTime(jsonObject, "startTime"),
+                    dateTime(jsonObject, "endTime"),
+                    string(jsonObject, "location"),
+                    attendees,
+                    recurrenceRule == null ? null : RecurrenceRule.valueOf(recurrenceRule),
+                    reminders,
+                    string(jsonObject, "timezone"),
+                    string(jsonObject, "organizerEmail"),
+                    status == null ? null : EventStatus.valueOf(status)));
+        }
+
+        return events;
+    }
+
+    private static String string(JSONObject jsonObject, String key) {
+        return jsonObject.isNull(key) ? null : jsonObject.getString(key);
+    }
+
+    private static LocalDateTime dateTime(JSONObject jsonObject, String key) {
+        String value = string(jsonObject, key);
+        return value == null ? null : IsoDateTimeParser.parse(value);
+    }
+}
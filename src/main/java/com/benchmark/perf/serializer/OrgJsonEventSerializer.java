@@ -1,10 +1,16 @@
 package com.benchmark.perf.serializer;
 
 import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.util.IsoDateTimeWriter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import java.time.format.DateTimeFormatter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -14,8 +20,6 @@ public class OrgJsonEventSerializer implements CalendarEventSerializer {
 
     public static final OrgJsonEventSerializer INSTANCE = new OrgJsonEventSerializer();
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-
     private OrgJsonEventSerializer() {
     }
 
@@ -26,6 +30,17 @@ public class OrgJsonEventSerializer implements CalendarEventSerializer {
 
     @Override
     public String serialize(List<CalendarEvent> events) {
+        return toJsonArray(events).toString();
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        toJsonArray(events).write(writer);
+        writer.flush();
+    }
+
+    private JSONArray toJsonArray(List<CalendarEvent> events) {
         JSONArray jsonArray = new JSONArray();
 
         for (CalendarEvent event : events) {
@@ -34,8 +49,8 @@ public class OrgJsonEventSerializer implements CalendarEventSerializer {
             jsonObject.put("id", event.getId());
             jsonObject.put("title", event.getTitle());
             jsonObject.put("description", event.getDescription());
-            jsonObject.put("startTime", event.getStartTime().format(FORMATTER));
-            jsonObject.put("endTime", event.getEndTime().format(FORMATTER));
+            jsonObject.put("startTime", IsoDateTimeWriter.format(event.getStartTime()));
+            jsonObject.put("endTime", IsoDateTimeWriter.format(event.getEndTime()));
             jsonObject.put("location", event.getLocation());
 
             JSONArray attendeesArray = new JSONArray();
@@ -59,6 +74,6 @@ public class OrgJsonEventSerializer implements CalendarEventSerializer {
             jsonArray.put(jsonObject);
         }
 
-        return jsonArray.toString();
+        return jsonArray;
     }
 }
@@ -0,0 +1,172 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Splits the event list into contiguous ranges, encodes each range into its
+ * own buffer on an executor (the common ForkJoinPool by default) and stitches
+ * the segments into a single JSON array. The calling thread encodes the first
+ * range itself instead of idling while it waits.
+ *
+ * <p>
+ * Per-event rendering, projected or not, is shared with
+ * {@link StringBuilderEventSerializer}, so output is byte-for-byte identical
+ * to that serializer.
+ */
+public class ParallelChunkedEventSerializer implements CalendarEventSerializer {
+
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 500;
+
+    public static final ParallelChunkedEventSerializer INSTANCE = new ParallelChunkedEventSerializer(
+            ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors(), DEFAULT_MIN_CHUNK_SIZE);
+
+    /**
+     * Rough encoded size of a generated event, used to presize segment buffers.
+     */
+    private static final int ESTIMATED_EVENT_CHARS = 1_200;
+    private static final long MAX_PRESIZE_CHARS = 1 << 24;
+
+    private final Executor executor;
+    private final int parallelism;
+    private final int minChunkSize;
+
+    /**
+     * @param executor     runs every segment except the first
+     * @param parallelism  upper bound on the number of segments
+     * @param minChunkSize smallest range worth handing to another thread; lists
+     *                     below twice this size are encoded inline
+     */
+    public ParallelChunkedEventSerializer(Executor executor, int parallelism, int minChunkSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be >= 1: " + parallelism);
+        }
+        if (minChunkSize < 1) {
+            throw new IllegalArgumentException("minChunkSize must be >= 1: " + minChunkSize);
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.minChunkSize = minChunkSize;
+    }
+
+    @Override
+    public String getName() {
+        return "ParallelChunked";
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events) {
+        return serialize(events, FieldProjection.ALL);
+    }
+
+    @Override
+    public boolean supportsProjection() {
+        return true;
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events, FieldProjection projection) {
+        if (segmentCount(events.size()) <= 1) {
+            return StringBuilderEventSerializer.INSTANCE.serialize(events, projection);
+        }
+        List<StringBuilder> segments = encodeSegments(events, projection);
+        BufferProvider buffers = BufferProviders.get();
+        StringBuilder sb = buffers.acquire(BufferType.STRING_BUILDER);
+        try {
+            sb.append('[');
+            for (int i = 0; i < segments.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(segments.get(i));
+            }
+            sb.append(']');
+            return sb.toString();
+        } finally {
+            buffers.release(BufferType.STRING_BUILDER, sb);
+        }
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(events, FieldProjection.ALL, out);
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, FieldProjection projection, OutputStream out)
+            throws IOException {
+        if (segmentCount(events.size()) <= 1) {
+            StringBuilderEventSerializer.INSTANCE.serializeTo(events, projection, out);
+            return;
+        }
+        List<StringBuilder> segments = encodeSegments(events, projection);
+        out.write('[');
+        for (int i = 0; i < segments.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            StringBuilderEventSerializer.writeUtf8(segments.get(i), out);
+        }
+        out.write(']');
+        out.flush();
+    }
+
+    private int segmentCount(int size) {
+        return Math.min(parallelism, size / minChunkSize);
+    }
+
+    private List<StringBuilder> encodeSegments(List<CalendarEvent> events, FieldProjection projection) {
+        FieldProjection.Field[] fields = projection.isAll() ? null : projection.fields();
+        int size = events.size();
+        int target = segmentCount(size);
+        int chunkSize = (size + target - 1) / target;
+        int segments = (size + chunkSize - 1) / chunkSize;
+
+        List<CompletableFuture<StringBuilder>> forked = new ArrayList<>(segments - 1);
+        for (int s = 1; s < segments; s++) {
+            int from = s * chunkSize;
+            int to = Math.min(size, from + chunkSize);
+            forked.add(CompletableFuture.supplyAsync(() -> encodeRange(events, from, to, fields), executor));
+        }
+
+        List<StringBuilder> encoded = new ArrayList<>(segments);
+        try {
+            encoded.add(encodeRange(events, 0, Math.min(size, chunkSize), fields));
+            for (CompletableFuture<StringBuilder> future : forked) {
+                encoded.add(future.join());
+            }
+        } catch (RuntimeException | Error e) {
+            // The output is lost once any range fails; ranges that have not
+            // started yet would only hold executor threads.
+            for (CompletableFuture<StringBuilder> future : forked) {
+                future.cancel(false);
+            }
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+        return encoded;
+    }
+
+    private static StringBuilder encodeRange(List<CalendarEvent> events, int from, int to,
+            FieldProjection.Field[] fields) {
+        StringBuilder sb = new StringBuilder(
+                (int) Math.min((long) (to - from) * ESTIMATED_EVENT_CHARS, MAX_PRESIZE_CHARS));
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                sb.append(',');
+            }
+            StringBuilderEventSerializer.INSTANCE.appendEvent(sb, events.get(i), fields);
+        }
+        return sb;
+    }
+}
@@ -0,0 +1,123 @@
+package com.benchmark.perf.serializer;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free pool of serialization buffers shared by all threads,
+ * virtual or not. Idle buffers sit in a fixed array of slots split into
+ * stripes, and a thread only probes the stripe its thread id hashes to, so
+ * concurrent callers rarely touch the same slots. Nothing is tied to a carrier
+ * thread, and the number of idle buffers never exceeds
+ * {@code stripes * slotsPerStripe} per type, however many threads pass
+ * through.
+ *
+ * <p>
+ * A buffer that grew past {@code maxRetainedSize} while in use is shrunk to
+ * that cap on release: the pool keeps an empty buffer of exactly
+ * {@code maxRetainedSize} in its place, so memory stays bounded while the
+ * next large payload starts from the cap rather than the default capacity.
+ * Types that cannot be sized (deflaters) are dropped instead. When the
+ * stripe is empty, acquire allocates a new buffer; when it is full, release
+ * drops the buffer. Dropped buffers are passed to {@link BufferType#discard}
+ * so native resources are freed immediately.
+ */
+public final class PooledBufferProvider implements BufferProvider {
+
+    public static final int DEFAULT_SLOTS_PER_STRIPE = 4;
+    public static final int DEFAULT_MAX_RETAINED_SIZE = 1 << 20;
+
+    public static final PooledBufferProvider INSTANCE = new PooledBufferProvider(
+            2 * Runtime.getRuntime().availableProcessors(), DEFAULT_SLOTS_PER_STRIPE, DEFAULT_MAX_RETAINED_SIZE);
+
+    private final int stripeMask;
+    private final int slotsPerStripe;
+    private final int maxRetainedSize;
+    private final int slotsPerType;
+    private final AtomicReferenceArray<Object> slots;
+
+    /**
+     * @param stripes         rounded up to a power of two
+     * @param slotsPerStripe  idle buffers kept per stripe and type
+     * @param maxRetainedSize largest buffer, in bytes (chars for
+     *                        {@code StringBuilder}), that goes back into the
+     *                        pool; larger ones are shrunk to it
+     */
+    public PooledBufferProvider(int stripes, int slotsPerStripe, int maxRetainedSize) {
+        if (stripes < 1 || slotsPerStripe < 1 || maxRetainedSize < 0) {
+            throw new IllegalArgumentException("stripes and slotsPerStripe must be positive and maxRetainedSize "
+                    + "non-negative: " + stripes + ", " + slotsPerStripe + ", " + maxRetainedSize);
+        }
+        int stripeCount = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripeMask = stripeCount - 1;
+        this.slotsPerStripe = slotsPerStripe;
+        this.maxRetainedSize = maxRetainedSize;
+        this.slotsPerType = stripeCount * slotsPerStripe;
+        this.slots = new AtomicReferenceArray<>(BufferType.COUNT * slotsPerType);
+    }
+
+    @Override
+    public String getName() {
+        return "Pooled";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T acquire(BufferType<T> type) {
+        int start = stripeStart(type);
+        for (int i = start; i < start + slotsPerStripe; i++) {
+            Object buffer = slots.get(i);
+            if (buffer != null && slots.compareAndSet(i, buffer, null)) {
+                return (T) buffer;
+            }
+        }
+        return type.create();
+    }
+
+    @Override
+    public <T> void release(BufferType<T> type, T buffer) {
+        if (type.retainedSize(buffer) > maxRetainedSize) {
+            type.discard(buffer);
+            buffer = type.create(maxRetainedSize);
+            if (buffer == null) {
+                return;
+            }
+        } else {
+            type.reset(buffer);
+        }
+        int start = stripeStart(type);
+        for (int i = start; i < start + slotsPerStripe; i++) {
+            if (slots.get(i) == null && slots.compareAndSet(i, null, buffer)) {
+                return;
+            }
+        }
+        type.discard(buffer);
+    }
+
+    /**
+     * Idle buffers of {@code type} currently held by the pool.
+     */
+    public int idleCount(BufferType<?> type) {
+        int count = 0;
+        int base = type.index() * slotsPerType;
+        for (int i = base; i < base + slotsPerType; i++) {
+            if (slots.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Upper bound on idle buffers kept per type.
+     */
+    public int capacityPerType() {
+        return slotsPerType;
+    }
+
+    private int stripeStart(BufferType<?> type) {
+        // Fibonacci hash: consecutive thread ids land on different stripes.
+        long id = Thread.currentThread().threadId();
+        int stripe = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & stripeMask;
+        return type.index() * slotsPerType + stripe * slotsPerStripe;
+    }
+}
@@ -16,7 +16,45 @@ public final class SerializerRegistry {
             JacksonDatabindEventSerializer.INSTANCE,
             JacksonStreamingEventSerializer.INSTANCE,
             GsonEventSerializer.INSTANCE,
-            MoshiEventSerializer.INSTANCE);
+            MoshiEventSerializer.INSTANCE,
+            ParallelChunkedEventSerializer.INSTANCE,
+            Utf8ByteEventSerializer.INSTANCE,
+            FragmentCachingEventSerializer.INSTANCE,
+            ColumnarEventSerializer.INSTANCE,
+            GeneratedEventSerializer.INSTANCE);
+
+    /**
+     * Serializers that can encode an unbounded event source with constant
+     * working memory.
+     */
+    public static final List<StreamingEventSerializer> STREAMING_SERIALIZERS = List.of(
+            StringBuilderEventSerializer.INSTANCE,
+            JacksonStreamingEventSerializer.INSTANCE,
+            Utf8ByteEventSerializer.INSTANCE,
+            GeneratedEventSerializer.INSTANCE);
+
+    /**
+     * Serializers that write only the fields a {@link FieldProjection}
+     * selects. The rest bind whole objects through their library and accept
+     * only {@link FieldProjection#ALL}.
+     */
+    public static final List<CalendarEventSerializer> PROJECTING_SERIALIZERS = List.of(
+            StringBuilderEventSerializer.INSTANCE,
+            JacksonDatabindEventSerializer.INSTANCE,
+            JacksonStreamingEventSerializer.INSTANCE,
+            ParallelChunkedEventSerializer.INSTANCE,
+            Utf8ByteEventSerializer.INSTANCE,
+            FragmentCachingEventSerializer.INSTANCE,
+            ColumnarEventSerializer.INSTANCE,
+            GeneratedEventSerializer.INSTANCE);
+
+    /**
+     * Non-JSON wire formats; each encodes and decodes its own payloads.
+     */
+    public static final List<BinaryEventSerializer> BINARY_SERIALIZERS = List.of(
+            CborEventSerializer.INSTANCE,
+            SmileEventSerializer.INSTANCE,
+            CompactBinaryEventSerializer.INSTANCE);
 
     private static final Map<String, CalendarEventSerializer> BY_NAME = new ConcurrentHashMap<>();
 
@@ -29,6 +67,15 @@ public final class SerializerRegistry {
     private SerializerRegistry() {
     }
 
+    /**
+     * Every registered serializer in compressed output mode.
+     */
+    public static List<CompressedEventSerializer> compressed(CompressedEventSerializer.Format format, int level) {
+        return ALL_SERIALIZERS.stream()
+                .map(serializer -> new CompressedEventSerializer(serializer, format, level))
+                .toList();
+    }
+
     public static CalendarEventSerializer getByName(String name) {
         CalendarEventSerializer serializer = BY_NAME.get(name);
         if (serializer == null) {
@@ -36,4 +83,11 @@ public final class SerializerRegistry {
         }
         return serializer;
     }
+
+    public static BinaryEventSerializer getBinaryByName(String name) {
+        return BINARY_SERIALIZERS.stream()
+                .filter(serializer -> serializer.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown binary serializer: " + name));
+    }
 }
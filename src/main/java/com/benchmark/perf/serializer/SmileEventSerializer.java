@@ -0,0 +1,28 @@
+package com.benchmark.perf.serializer;
+
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Smile, Jackson's binary JSON, through {@code SmileGenerator} and
+ * {@code SmileParser} with the default settings: a header, and field names
+ * written once per payload and back-referenced after that. String values are
+ * not shared, which is the module's default.
+ */
+public class SmileEventSerializer extends JacksonBinaryEventSerializer {
+
+    public static final SmileEventSerializer INSTANCE = new SmileEventSerializer();
+
+    private SmileEventSerializer() {
+        super(SmileFactory.builder()
+                .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .build());
+    }
+
+    @Override
+    public String getName() {
+        return "Smile";
+    }
+}
@@ -0,0 +1,63 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Contract for serializers that can emit a JSON array incrementally from a
+ * lazily produced event source. Implementations keep a bounded working buffer
+ * and push bytes to the sink as they go, so peak memory does not depend on the
+ * number of events.
+ */
+public interface StreamingEventSerializer {
+    /**
+     * @return human-readable name for reports/logs.
+     */
+    String getName();
+
+    /**
+     * Serializes events pulled from the iterator as UTF-8 JSON bytes. The
+     * stream is flushed but left open for the caller.
+     */
+    void serializeTo(Iterator<CalendarEvent> events, OutputStream out) throws IOException;
+
+    /**
+     * Serializes and closes the stream of events.
+     */
+    default void serializeTo(Stream<CalendarEvent> events, OutputStream out) throws IOException {
+        try (events) {
+            serializeTo(events.iterator(), out);
+        }
+    }
+
+    /**
+     * Serializes events from a pull-based source that returns {@code null}
+     * once exhausted.
+     */
+    default void serializeTo(Supplier<CalendarEvent> source, OutputStream out) throws IOException {
+        serializeTo(new Iterator<>() {
+            private CalendarEvent next = source.get();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public CalendarEvent next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                CalendarEvent current = next;
+                next = source.get();
+                return current;
+            }
+        }, out);
+    }
+}
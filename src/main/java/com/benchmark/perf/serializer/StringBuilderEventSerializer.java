@@ -1,21 +1,23 @@
 package com.benchmark.perf.serializer;
 
 import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.util.IsoDateTimeWriter;
 import com.benchmark.perf.util.JsonUtils;
 
-import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 
 /**
  * Serializes calendar events using a manually managed StringBuilder that is
  * reused per thread to limit garbage.
  */
-public class StringBuilderEventSerializer implements CalendarEventSerializer {
+public class StringBuilderEventSerializer implements CalendarEventSerializer, StreamingEventSerializer {
 
     public static final StringBuilderEventSerializer INSTANCE = new StringBuilderEventSerializer();
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-
     private StringBuilderEventSerializer() {
     }
 
@@ -26,29 +28,152 @@ public class StringBuilderEventSerializer implements CalendarEventSerializer {
 
     @Override
     public String serialize(List<CalendarEvent> events) {
-        StringBuilder sb = ThreadLocalBufferProvider.acquireStringBuilder();
+        return serialize(events, (FieldProjection.Field[]) null);
+    }
+
+    @Override
+    public boolean supportsProjection() {
+        return true;
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events, FieldProjection projection) {
+        return serialize(events, projection.isAll() ? null : projection.fields());
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, FieldProjection projection, OutputStream out)
+            throws IOException {
+        serializeTo(events.iterator(), projection.isAll() ? null : projection.fields(), out);
+    }
+
+    /**
+     * @param fields selected fields, or {@code null} for whole events
+     */
+    private String serialize(List<CalendarEvent> events, FieldProjection.Field[] fields) {
+        BufferProvider buffers = BufferProviders.get();
+        StringBuilder sb = buffers.acquire(BufferType.STRING_BUILDER);
+        try {
+            appendEvents(sb, events, fields);
+            return sb.toString();
+        } finally {
+            buffers.release(BufferType.STRING_BUILDER, sb);
+        }
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(events.iterator(), out);
+    }
+
+    @Override
+    public void serializeTo(Iterator<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(events, null, out);
+    }
+
+    private void serializeTo(Iterator<CalendarEvent> events, FieldProjection.Field[] fields, OutputStream out)
+            throws IOException {
+        BufferProvider buffers = BufferProviders.get();
+        StringBuilder sb = buffers.acquire(BufferType.STRING_BUILDER);
+        try {
+            sb.append('[');
+            boolean first = true;
+            while (events.hasNext()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                appendEvent(sb, events.next(), fields);
+                if (sb.length() >= BufferType.STREAM_FLUSH_THRESHOLD) {
+                    writeUtf8(sb, out);
+                    sb.setLength(0);
+                }
+            }
+            sb.append(']');
+            writeUtf8(sb, out);
+            out.flush();
+        } finally {
+            buffers.release(BufferType.STRING_BUILDER, sb);
+        }
+    }
+
+    private void appendEvents(StringBuilder sb, List<CalendarEvent> events, FieldProjection.Field[] fields) {
         sb.append('[');
 
         for (int i = 0; i < events.size(); i++) {
             if (i > 0) {
                 sb.append(',');
             }
-            appendEvent(sb, events.get(i));
+            appendEvent(sb, events.get(i), fields);
         }
 
         sb.append(']');
-        String json = sb.toString();
-        ThreadLocalBufferProvider.releaseStringBuilder(sb);
-        return json;
     }
 
-    private void appendEvent(StringBuilder sb, CalendarEvent event) {
+    /**
+     * Transcodes the builder into UTF-8 through a fixed pooled chunk so
+     * the payload never materializes as a String or a full-size byte array.
+     */
+    static void writeUtf8(CharSequence chars, OutputStream out) throws IOException {
+        BufferProvider buffers = BufferProviders.get();
+        byte[] chunk = buffers.acquire(BufferType.ENCODE_CHUNK);
+        try {
+            int limit = chunk.length - 4;
+            int pos = 0;
+            int length = chars.length();
+            for (int i = 0; i < length; i++) {
+                if (pos > limit) {
+                    out.write(chunk, 0, pos);
+                    pos = 0;
+                }
+                char c = chars.charAt(i);
+                if (c < 0x80) {
+                    chunk[pos++] = (byte) c;
+                } else if (c < 0x800) {
+                    chunk[pos++] = (byte) (0xC0 | (c >> 6));
+                    chunk[pos++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                    chunk[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    chunk[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    chunk[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    chunk[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogate: mirror String.getBytes(UTF_8) replacement.
+                    chunk[pos++] = '?';
+                } else {
+                    chunk[pos++] = (byte) (0xE0 | (c >> 12));
+                    chunk[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    chunk[pos++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            if (pos > 0) {
+                out.write(chunk, 0, pos);
+            }
+        } finally {
+            buffers.release(BufferType.ENCODE_CHUNK, chunk);
+        }
+    }
+
+    /**
+     * @param fields selected fields, or {@code null} for the whole event
+     */
+    void appendEvent(StringBuilder sb, CalendarEvent event, FieldProjection.Field[] fields) {
+        if (fields == null) {
+            appendEvent(sb, event);
+        } else {
+            appendProjectedEvent(sb, event, fields);
+        }
+    }
+
+    void appendEvent(StringBuilder sb, CalendarEvent event) {
         sb.append('{');
         appendStringField(sb, "id", event.getId());
         appendStringField(sb, "title", event.getTitle());
         appendStringField(sb, "description", event.getDescription());
-        appendStringField(sb, "startTime", event.getStartTime().format(FORMATTER));
-        appendStringField(sb, "endTime", event.getEndTime().format(FORMATTER));
+        appendDateTimeField(sb, "startTime", event.getStartTime());
+        appendDateTimeField(sb, "endTime", event.getEndTime());
         appendStringField(sb, "location", event.getLocation());
         appendArray(sb, "attendees", event.getAttendees());
         appendStringField(sb, "recurrenceRule", event.getRecurrenceRule().name());
@@ -60,16 +185,50 @@ public class StringBuilderEventSerializer implements CalendarEventSerializer {
         sb.append('}');
     }
 
+    /**
+     * Appends only {@code fields}; values of the other fields are never read.
+     */
+    private void appendProjectedEvent(StringBuilder sb, CalendarEvent event, FieldProjection.Field[] fields) {
+        sb.append('{');
+        for (FieldProjection.Field field : fields) {
+            String name = field.jsonName();
+            switch (field) {
+                case ID -> appendStringField(sb, name, event.getId());
+                case TITLE -> appendStringField(sb, name, event.getTitle());
+                case DESCRIPTION -> appendStringField(sb, name, event.getDescription());
+                case START_TIME -> appendDateTimeField(sb, name, event.getStartTime());
+                case END_TIME -> appendDateTimeField(sb, name, event.getEndTime());
+                case LOCATION -> appendStringField(sb, name, event.getLocation());
+                case ATTENDEES -> appendArray(sb, name, event.getAttendees());
+                case RECURRENCE_RULE -> appendStringField(sb, name, event.getRecurrenceRule().name());
+                case REMINDERS -> appendIntegerArray(sb, name, event.getReminders());
+                case TIMEZONE -> appendStringField(sb, name, event.getTimezone());
+                case ORGANIZER_EMAIL -> appendStringField(sb, name, event.getOrganizerEmail());
+                case STATUS -> appendStringField(sb, name, event.getStatus().name());
+            }
+        }
+        trimTrailingComma(sb);
+        sb.append('}');
+    }
+
     private void appendStringField(StringBuilder sb, String field, String value) {
         sb.append('"').append(field).append('"').append(':');
         if (value == null) {
             sb.append("null");
         } else {
-            sb.append('"').append(JsonUtils.escapeJson(value)).append('"');
+            sb.append('"');
+            JsonUtils.escapeJson(value, sb);
+            sb.append('"');
         }
         sb.append(',');
     }
 
+    private void appendDateTimeField(StringBuilder sb, String field, LocalDateTime value) {
+        sb.append('"').append(field).append('"').append(':').append('"');
+        IsoDateTimeWriter.write(value, sb);
+        sb.append('"').append(',');
+    }
+
     private void appendArray(StringBuilder sb, String field, List<String> values) {
         sb.append('"').append(field).append('"').append(':');
         sb.append('[');
@@ -81,7 +240,9 @@ public class StringBuilderEventSerializer implements CalendarEventSerializer {
             if (value == null) {
                 sb.append("null");
             } else {
-                sb.append('"').append(JsonUtils.escapeJson(value)).append('"');
+                sb.append('"');
+                JsonUtils.escapeJson(value, sb);
+                sb.append('"');
             }
         }
         sb.append(']').append(',');
@@ -1,38 +1,52 @@
 package com.benchmark.perf.serializer;
 
-import java.io.ByteArrayOutputStream;
-
 /**
- * Provides reusable per-thread buffers to minimize allocations during
- * serialization hot paths.
+ * Keeps one buffer of each type per thread. Cheap on a small, fixed set of
+ * platform threads, but buffers live as long as their thread and are never
+ * shrunk. With virtual threads that means one buffer per task, each as large
+ * as the biggest payload it ever wrote. Kept as the baseline for
+ * {@link PooledBufferProvider}.
+ *
+ * <p>
+ * Acquiring takes the thread's buffer out of its slot, so a nested acquire of
+ * the same type on the same thread gets a fresh buffer instead of a shared
+ * one; when both come back, the one displaced from the slot is discarded.
  */
-public final class ThreadLocalBufferProvider {
-
-    private static final int DEFAULT_STRING_CAPACITY = 16_384;
-    private static final int DEFAULT_BYTE_CAPACITY = 32_768;
+public final class ThreadLocalBufferProvider implements BufferProvider {
 
-    private static final ThreadLocal<StringBuilder> STRING_BUILDERS = ThreadLocal
-            .withInitial(() -> new StringBuilder(DEFAULT_STRING_CAPACITY));
+    public static final ThreadLocalBufferProvider INSTANCE = new ThreadLocalBufferProvider();
 
-    private static final ThreadLocal<ByteArrayOutputStream> BYTE_STREAMS = ThreadLocal
-            .withInitial(() -> new ByteArrayOutputStream(DEFAULT_BYTE_CAPACITY));
+    private static final ThreadLocal<Object[]> SLOTS = ThreadLocal.withInitial(() -> new Object[BufferType.COUNT]);
 
     private ThreadLocalBufferProvider() {
     }
 
-    public static StringBuilder acquireStringBuilder() {
-        StringBuilder builder = STRING_BUILDERS.get();
-        builder.setLength(0);
-        return builder;
+    @Override
+    public String getName() {
+        return "ThreadLocal";
     }
 
-    public static void releaseStringBuilder(StringBuilder builder) {
-        builder.setLength(0);
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T acquire(BufferType<T> type) {
+        Object[] slots = SLOTS.get();
+        T buffer = (T) slots[type.index()];
+        if (buffer == null) {
+            return type.create();
+        }
+        slots[type.index()] = null;
+        return buffer;
     }
 
-    public static ByteArrayOutputStream acquireByteArrayOutputStream() {
-        ByteArrayOutputStream stream = BYTE_STREAMS.get();
-        stream.reset();
-        return stream;
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void release(BufferType<T> type, T buffer) {
+        type.reset(buffer);
+        Object[] slots = SLOTS.get();
+        T replaced = (T) slots[type.index()];
+        slots[type.index()] = buffer;
+        if (replaced != null) {
+            type.discard(replaced);
+        }
     }
 }
@@ -0,0 +1,721 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.model.CalendarEvent.RecurrenceRule;
+import com.benchmark.perf.util.EscapeScanner;
+import com.benchmark.perf.util.IsoDateTimeParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hand-written parser over UTF-8 bytes, the read-side twin of
+ * {@link Utf8ByteEventSerializer}. Keys and enum names are matched against
+ * pre-encoded byte arrays, timestamps and reminders are decoded in place, and
+ * repeated low-cardinality strings (location, timezone, emails) are
+ * deduplicated per payload, so per event it allocates little beyond the model
+ * objects and the distinct String values it keeps.
+ */
+public class Utf8ByteEventDeserializer implements CalendarEventDeserializer {
+
+    public static final Utf8ByteEventDeserializer INSTANCE = new Utf8ByteEventDeserializer();
+
+    private static final byte[][] KEYS = {
+            ascii("id"), ascii("title"), ascii("description"), ascii("startTime"), ascii("endTime"),
+            ascii("location"), ascii("attendees"), ascii("recurrenceRule"), ascii("reminders"),
+            ascii("timezone"), ascii("organizerEmail"), ascii("status") };
+
+    /**
+     * Field indices in {@link #KEYS} order, also the field slots of an
+     * {@link EventTape}.
+     */
+    static final int ID = 0;
+    static final int TITLE = 1;
+    static final int DESCRIPTION = 2;
+    static final int START_TIME = 3;
+    static final int END_TIME = 4;
+    static final int LOCATION = 5;
+    static final int ATTENDEES = 6;
+    static final int RECURRENCE_RULE = 7;
+    static final int REMINDERS = 8;
+    static final int TIMEZONE = 9;
+    static final int ORGANIZER_EMAIL = 10;
+    static final int STATUS = 11;
+    static final int FIELD_COUNT = 12;
+    private static final int UNKNOWN = -1;
+
+    private static final RecurrenceRule[] RECURRENCE_RULES = RecurrenceRule.values();
+    private static final byte[][] RECURRENCE_RULE_NAMES = enumNames(RECURRENCE_RULES);
+    private static final EventStatus[] STATUSES = EventStatus.values();
+    private static final byte[][] STATUS_NAMES = enumNames(STATUSES);
+
+    /**
+     * Slots in the per-payload string dedup table; a power of two.
+     */
+    private static final int DEDUP_SLOTS = 256;
+
+    /**
+     * Longer values are assumed unique and never deduplicated.
+     */
+    private static final int DEDUP_MAX_BYTES = 64;
+
+    private Utf8ByteEventDeserializer() {
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[][] enumNames(Enum<?>[] constants) {
+        byte[][] names = new byte[constants.length][];
+        for (int i = 0; i < constants.length; i++) {
+            names[i] = ascii(constants[i].name());
+        }
+        return names;
+    }
+
+    @Override
+    public String getName() {
+        return "Utf8Bytes";
+    }
+
+    @Override
+    public List<CalendarEvent> deserialize(String json) {
+        return deserialize(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the input is not a JSON array of
+     *                                  event objects
+     */
+    @Override
+    public List<CalendarEvent> deserialize(byte[] json) {
+        return new Parser(json).readEvents();
+    }
+
+    /**
+     * Buffers the whole payload first; this parser works on a contiguous
+     * array.
+     */
+    @Override
+    public List<CalendarEvent> deserializeFrom(InputStream in) throws IOException {
+        return deserialize(in.readAllBytes());
+    }
+
+    /**
+     * Cursor over one payload. Created per call so the shared instance stays
+     * thread-safe; {@link EventTape} and {@link CalendarEventView} reuse it to
+     * index a payload and decode single values.
+     */
+    static final class Parser {
+        private final byte[] buf;
+        private int pos;
+
+        private String[] dedup;
+        private byte[] unescaped;
+
+        Parser(byte[] buf) {
+            this.buf = buf;
+        }
+
+        List<CalendarEvent> readEvents() {
+            skipWhitespace();
+            expect('[');
+            List<CalendarEvent> events = new ArrayList<>();
+            if (consumeIf(']')) {
+                return finish(events);
+            }
+            do {
+                events.add(readEvent());
+            } while (consumeIf(','));
+            expect(']');
+            return finish(events);
+        }
+
+        /**
+         * Single pass recording each event's byte range and the offset of
+         * each known field's value, in the layout described by
+         * {@link EventTape}. Values are skipped, not decoded.
+         */
+        int[] indexEvents() {
+            skipWhitespace();
+            expect('[');
+            int[] tape = new int[16 * EventTape.STRIDE];
+            int count = 0;
+            if (!consumeIf(']')) {
+                do {
+                    if ((count + 1) * EventTape.STRIDE > tape.length) {
+                        tape = Arrays.copyOf(tape, tape.length * 2);
+                    }
+                    indexEvent(tape, count++ * EventTape.STRIDE);
+                } while (consumeIf(','));
+                expect(']');
+            }
+            return finish(Arrays.copyOf(tape, count * EventTape.STRIDE));
+        }
+
+        private void indexEvent(int[] tape, int base) {
+            skipWhitespace();
+            tape[base + EventTape.EVENT_START] = pos;
+            Arrays.fill(tape, base + EventTape.FIELDS, base + EventTape.STRIDE, EventTape.ABSENT);
+            expect('{');
+            if (!consumeIf('}')) {
+                do {
+                    skipWhitespace();
+                    int field = readKey();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    if (field != UNKNOWN) {
+                        tape[base + EventTape.FIELDS + field] = pos;
+                    }
+                    skipValue();
+                } while (consumeIf(','));
+                expect('}');
+            }
+            tape[base + EventTape.EVENT_END] = pos;
+        }
+
+        String stringAt(int offset, boolean dedupe) {
+            if (offset == EventTape.ABSENT) {
+                return null;
+            }
+            pos = offset;
+            return readString(dedupe);
+        }
+
+        LocalDateTime dateTimeAt(int offset) {
+            if (offset == EventTape.ABSENT) {
+                return null;
+            }
+            pos = offset;
+            return readDateTime();
+        }
+
+        RecurrenceRule recurrenceRuleAt(int offset) {
+            if (offset == EventTape.ABSENT) {
+                return null;
+            }
+            pos = offset;
+            return readEnum(RECURRENCE_RULES, RECURRENCE_RULE_NAMES);
+        }
+
+        EventStatus statusAt(int offset) {
+            if (offset == EventTape.ABSENT) {
+                return null;
+            }
+            pos = offset;
+            return readEnum(STATUSES, STATUS_NAMES);
+        }
+
+        List<String> attendeesAt(int offset) {
+            if (offset == EventTape.ABSENT) {
+                return null;
+            }
+            pos = offset;
+            return readAttendees();
+        }
+
+        List<Integer> remindersAt(int offset) {
+            if (offset == EventTape.ABSENT) {
+                return null;
+            }
+            pos = offset;
+            return readReminders();
+        }
+
+        private <T> T finish(T result) {
+            skipWhitespace();
+            if (pos != buf.length) {
+                throw error("trailing data");
+            }
+            return result;
+        }
+
+        private CalendarEvent readEvent() {
+            String id = null;
+            String title = null;
+            String description = null;
+            LocalDateTime startTime = null;
+            LocalDateTime endTime = null;
+            String location = null;
+            List<String> attendees = null;
+            RecurrenceRule recurrenceRule = null;
+            List<Integer> reminders = null;
+            String timezone = null;
+            String organizerEmail = null;
+            EventStatus status = null;
+
+            skipWhitespace();
+            expect('{');
+            if (!consumeIf('}')) {
+                do {
+                    skipWhitespace();
+                    int field = readKey();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    switch (field) {
+                        case ID -> id = readString(false);
+                        case TITLE -> title = readString(false);
+                        case DESCRIPTION -> description = readString(false);
+                        case START_TIME -> startTime = readDateTime();
+                        case END_TIME -> endTime = readDateTime();
+                        case LOCATION -> location = readString(true);
+                        case ATTENDEES -> attendees = readAttendees();
+                        case RECURRENCE_RULE -> recurrenceRule = readEnum(RECURRENCE_RULES, RECURRENCE_RULE_NAMES);
+                        case REMINDERS -> reminders = readReminders();
+                        case TIMEZONE -> timezone = readString(true);
+                        case ORGANIZER_EMAIL -> organizerEmail = readString(true);
+                        case STATUS -> status = readEnum(STATUSES, STATUS_NAMES);
+                        default -> skipValue();
+                    }
+                } while (consumeIf(','));
+                expect('}');
+            }
+            return new CalendarEvent(id, title, description, startTime, endTime, location, attendees,
+                    recurrenceRule, reminders, timezone, organizerEmail, status);
+        }
+
+        /**
+         * @return the field index, or {@link #UNKNOWN}
+         */
+        private int readKey() {
+            expect('"');
+            int start = pos;
+            int end = scanString();
+            if (end < 0) {
+                // Escaped key: rare enough to decode and compare as bytes.
+                return indexOf(readEscapedString(start).getBytes(StandardCharsets.UTF_8), 0, -1, KEYS);
+            }
+            return indexOf(buf, start, end, KEYS);
+        }
+
+        private static int indexOf(byte[] src, int start, int end, byte[][] names) {
+            if (end < 0) {
+                end = src.length;
+            }
+            for (int i = 0; i < names.length; i++) {
+                if (Arrays.equals(src, start, end, names[i], 0, names[i].length)) {
+                    return i;
+                }
+            }
+            return UNKNOWN;
+        }
+
+        /**
+         * Advances past the closing quote of a string whose opening quote was
+         * consumed. Plain runs are skipped with {@link EscapeScanner}, a
+         * vector at a time where available; the bytes of multi-byte UTF-8
+         * sequences are stepped over one by one.
+         *
+         * @return end offset of the raw content, or {@code -1} if it contains
+         *         escapes (the cursor is then left inside the string)
+         */
+        private int scanString() {
+            byte[] b = buf;
+            int i = pos;
+            while ((i = EscapeScanner.indexOfEscapeOrNonAscii(b, i, b.length)) < b.length) {
+                byte c = b[i];
+                if (c == '"') {
+                    pos = i + 1;
+                    return i;
+                }
+                if (c == '\\') {
+                    return -1;
+                }
+                if (c >= 0) {
+                    pos = i;
+                    throw error("unescaped control character in string");
+                }
+                i++;
+            }
+            pos = b.length;
+            throw error("unterminated string");
+        }
+
+        private String readString(boolean dedupe) {
+            if (consumeLiteral("null")) {
+                return null;
+            }
+            expect('"');
+            int start = pos;
+            int end = scanString();
+            if (end < 0) {
+                return readEscapedString(start);
+            }
+            int length = end - start;
+            if (dedupe && length <= DEDUP_MAX_BYTES) {
+                return dedupe(start, length);
+            }
+            return decode(start, length);
+        }
+
+        /**
+         * The JDK's UTF-8 constructor already has an intrinsic all-ASCII
+         * fast path that produces a compact String with a single copy.
+         */
+        private String decode(int start, int length) {
+            return new String(buf, start, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Returns the String previously decoded from the same bytes if it is
+         * still in its hash slot, otherwise decodes and remembers it.
+         */
+        private String dedupe(int start, int length) {
+            int hash = 1;
+            for (int i = start; i < start + length; i++) {
+                hash = 31 * hash + buf[i];
+            }
+            if (dedup == null) {
+                dedup = new String[DEDUP_SLOTS];
+            }
+            int slot = (hash ^ (hash >>> 16)) & (DEDUP_SLOTS - 1);
+            String cached = dedup[slot];
+            if (cached != null && sameAscii(cached, start, length)) {
+                return cached;
+            }
+            String decoded = decode(start, length);
+            dedup[slot] = decoded;
+            return decoded;
+        }
+
+        /**
+         * Only ASCII entries can match byte for byte; non-ASCII values simply
+         * miss and are decoded again.
+         */
+        private boolean sameAscii(String cached, int start, int length) {
+            if (cached.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (cached.charAt(i) != buf[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Slow path for strings with escapes, restarting at {@code start}.
+         * Unescapes into a reusable UTF-8 byte buffer, copying the runs
+         * between escapes in bulk, and decodes once at the end. Unpaired
+         * surrogate escapes become {@code '?'}, mirroring the writers.
+         */
+        private String readEscapedString(int start) {
+            int length = unescapeString(start);
+            return new String(unescaped, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Unescapes the string starting at {@code start} into
+         * {@link #unescaped} and moves past its closing quote.
+         *
+         * @return the number of UTF-8 bytes written
+         */
+        private int unescapeString(int start) {
+            byte[] b = buf;
+            byte[] out = unescaped;
+            int n = 0;
+            int i = start;
+            while (true) {
+                int runStart = i;
+                while (i < b.length && b[i] != '"' && b[i] != '\\' && (b[i] & 0xE0) != 0) {
+                    i++;
+                }
+                int run = i - runStart;
+                if (out == null || n + run + 4 > out.length) {
+                    int capacity = Math.max(n + run + 4, out == null ? 256 : out.length * 2);
+                    out = unescaped = out == null ? new byte[capacity] : Arrays.copyOf(out, capacity);
+                }
+                System.arraycopy(b, runStart, out, n, run);
+                n += run;
+
+                pos = i;
+                if (i >= b.length) {
+                    throw error("unterminated string");
+                }
+                if (b[i] == '"') {
+                    pos = i + 1;
+                    return n;
+                }
+                if (b[i] != '\\') {
+                    throw error("unescaped control character in string");
+                }
+                pos = i + 1;
+                n = unescape(out, n);
+                i = pos;
+            }
+        }
+
+        /**
+         * Decodes the escape whose backslash was just consumed, writing its
+         * UTF-8 form (at most four bytes) at {@code n}.
+         *
+         * @return the new write index
+         */
+        private int unescape(byte[] out, int n) {
+            if (pos >= buf.length) {
+                throw error("unterminated escape");
+            }
+            byte simple = switch (buf[pos]) {
+                case '"' -> '"';
+                case '\\' -> '\\';
+                case '/' -> '/';
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> 0;
+                default -> throw error("invalid escape");
+            };
+            pos++;
+            if (simple != 0) {
+                out[n] = simple;
+                return n + 1;
+            }
+            int codePoint = readHex4();
+            if (Character.isHighSurrogate((char) codePoint) && pos + 1 < buf.length && buf[pos] == '\\'
+                    && buf[pos + 1] == 'u') {
+                int mark = pos;
+                pos += 2;
+                int low = readHex4();
+                if (Character.isLowSurrogate((char) low)) {
+                    codePoint = Character.toCodePoint((char) codePoint, (char) low);
+                } else {
+                    pos = mark;
+                }
+            }
+            if (codePoint < 0x80) {
+                out[n++] = (byte) codePoint;
+            } else if (codePoint < 0x800) {
+                out[n++] = (byte) (0xC0 | (codePoint >> 6));
+                out[n++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate((char) codePoint) && codePoint <= 0xFFFF) {
+                out[n++] = '?';
+            } else if (codePoint <= 0xFFFF) {
+                out[n++] = (byte) (0xE0 | (codePoint >> 12));
+                out[n++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[n++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                out[n++] = (byte) (0xF0 | (codePoint >> 18));
+                out[n++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[n++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[n++] = (byte) (0x80 | (codePoint & 0x3F));
+            }
+            return n;
+        }
+
+        private int readHex4() {
+            if (pos + 4 > buf.length) {
+                throw error("truncated unicode escape");
+            }
+            int code = 0;
+            for (int k = 0; k < 4; k++) {
+                int digit = Character.digit(buf[pos], 16);
+                if (digit < 0) {
+                    throw error("invalid unicode escape");
+                }
+                code = (code << 4) | digit;
+                pos++;
+            }
+            return code;
+        }
+
+        private LocalDateTime readDateTime() {
+            if (consumeLiteral("null")) {
+                return null;
+            }
+            expect('"');
+            int start = pos;
+            int end = scanString();
+            if (end < 0) {
+                return IsoDateTimeParser.parse(readEscapedString(start));
+            }
+            return IsoDateTimeParser.parse(buf, start, end - start);
+        }
+
+        private <E extends Enum<E>> E readEnum(E[] constants, byte[][] names) {
+            if (consumeLiteral("null")) {
+                return null;
+            }
+            int valueStart = pos;
+            expect('"');
+            int start = pos;
+            int end = scanString();
+            int index = end >= 0 ? indexOf(buf, start, end, names)
+                    : indexOf(readEscapedString(start).getBytes(StandardCharsets.UTF_8), 0, -1, names);
+            if (index == UNKNOWN) {
+                pos = valueStart;
+                throw error("unknown " + constants[0].getDeclaringClass().getSimpleName());
+            }
+            return constants[index];
+        }
+
+        private List<String> readAttendees() {
+            if (consumeLiteral("null")) {
+                return null;
+            }
+            expect('[');
+            List<String> attendees = new ArrayList<>();
+            skipWhitespace();
+            if (consumeIf(']')) {
+                return attendees;
+            }
+            do {
+                skipWhitespace();
+                attendees.add(readString(true));
+            } while (consumeIf(','));
+            expect(']');
+            return attendees;
+        }
+
+        private List<Integer> readReminders() {
+            if (consumeLiteral("null")) {
+                return null;
+            }
+            expect('[');
+            List<Integer> reminders = new ArrayList<>();
+            skipWhitespace();
+            if (consumeIf(']')) {
+                return reminders;
+            }
+            do {
+                skipWhitespace();
+                reminders.add(consumeLiteral("null") ? null : readInt());
+            } while (consumeIf(','));
+            expect(']');
+            return reminders;
+        }
+
+        private int readInt() {
+            int start = pos;
+            boolean negative = pos < buf.length && buf[pos] == '-';
+            if (negative) {
+                pos++;
+            }
+            long value = 0;
+            int digitsStart = pos;
+            while (pos < buf.length && buf[pos] >= '0' && buf[pos] <= '9' && pos - digitsStart < 11) {
+                value = value * 10 + (buf[pos++] - '0');
+            }
+            if (pos == digitsStart) {
+                throw error("expected integer");
+            }
+            if (negative) {
+                value = -value;
+            }
+            if (pos < buf.length && (buf[pos] == '.' || buf[pos] == 'e' || buf[pos] == 'E'
+                    || buf[pos] >= '0' && buf[pos] <= '9') || value != (int) value) {
+                pos = start;
+                throw error("reminder is not a 32-bit integer");
+            }
+            return (int) value;
+        }
+
+        /**
+         * Skips one value of any type without materializing it.
+         */
+        private void skipValue() {
+            if (pos >= buf.length) {
+                throw error("expected value");
+            }
+            byte c = buf[pos];
+            switch (c) {
+                case '"' -> {
+                    pos++;
+                    if (scanString() < 0) {
+                        unescapeString(pos);
+                    }
+                }
+                case '{', '[' -> {
+                    byte close = (byte) (c == '{' ? '}' : ']');
+                    pos++;
+                    skipWhitespace();
+                    if (consumeIf(close)) {
+                        return;
+                    }
+                    do {
+                        skipWhitespace();
+                        if (c == '{') {
+                            readKey();
+                            skipWhitespace();
+                            expect(':');
+                            skipWhitespace();
+                        }
+                        skipValue();
+                    } while (consumeIf(','));
+                    expect(close);
+                }
+                default -> {
+                    int start = pos;
+                    while (pos < buf.length && isScalarByte(buf[pos])) {
+                        pos++;
+                    }
+                    if (pos == start) {
+                        throw error("expected value");
+                    }
+                }
+            }
+        }
+
+        private static boolean isScalarByte(byte c) {
+            return c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c == '-' || c == '+' || c == '.'
+                    || c == 'E';
+        }
+
+        private boolean consumeLiteral(String literal) {
+            int length = literal.length();
+            if (pos + length > buf.length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (buf[pos + i] != literal.charAt(i)) {
+                    return false;
+                }
+            }
+            pos += length;
+            return true;
+        }
+
+        /**
+         * Skips whitespace, then consumes {@code c} if it is next.
+         */
+        private boolean consumeIf(int c) {
+            skipWhitespace();
+            if (pos < buf.length && buf[pos] == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(int c) {
+            if (!consumeIf(c)) {
+                throw error("expected '" + (char) c + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < buf.length) {
+                byte c = buf[pos];
+                if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Malformed event JSON at offset " + pos + ": " + message);
+        }
+    }
+}
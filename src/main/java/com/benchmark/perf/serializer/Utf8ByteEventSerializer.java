@@ -0,0 +1,215 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.util.EncodedValueCache;
+import com.benchmark.perf.util.Utf8ByteWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hand-tuned serializer that writes UTF-8 straight into a reusable pooled
+ * byte buffer. Field keys are pre-encoded once, including their quotes, colon
+ * and separating comma, so each event only copies constant byte arrays and
+ * value bytes. Low-cardinality values (location, timezone, emails, enums) are
+ * copied from an {@link EncodedValueCache} instead of being re-encoded.
+ */
+public class Utf8ByteEventSerializer implements CalendarEventSerializer, StreamingEventSerializer {
+
+    public static final int DEFAULT_VALUE_CACHE_ENTRIES = 8_192;
+    public static final int DEFAULT_VALUE_CACHE_MAX_CHARS = 64;
+
+    public static final Utf8ByteEventSerializer INSTANCE = new Utf8ByteEventSerializer(
+            new EncodedValueCache(DEFAULT_VALUE_CACHE_ENTRIES, DEFAULT_VALUE_CACHE_MAX_CHARS));
+
+    private final EncodedValueCache valueCache;
+
+    /**
+     * @param valueCache dictionary for low-cardinality values; pass a cache
+     *                   with zero entries to always encode inline
+     */
+    public Utf8ByteEventSerializer(EncodedValueCache valueCache) {
+        this.valueCache = valueCache;
+    }
+
+    @Override
+    public String getName() {
+        return "Utf8Bytes";
+    }
+
+    public EncodedValueCache getValueCache() {
+        return valueCache;
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events) {
+        return serialize(events, (FieldProjection.Field[]) null);
+    }
+
+    @Override
+    public boolean supportsProjection() {
+        return true;
+    }
+
+    @Override
+    public String serialize(List<CalendarEvent> events, FieldProjection projection) {
+        return serialize(events, projection.isAll() ? null : projection.fields());
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, FieldProjection projection, OutputStream out)
+            throws IOException {
+        serializeTo(events.iterator(), projection.isAll() ? null : projection.fields(), out);
+    }
+
+    /**
+     * @param fields selected fields, or {@code null} for whole events
+     */
+    private String serialize(List<CalendarEvent> events, FieldProjection.Field[] fields) {
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            writer.writeByte('[');
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    writer.writeByte(',');
+                }
+                writeEvent(writer, events.get(i), fields);
+            }
+            writer.writeByte(']');
+            return writer.toString();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    @Override
+    public void serializeTo(List<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(events.iterator(), out);
+    }
+
+    @Override
+    public void serializeTo(Iterator<CalendarEvent> events, OutputStream out) throws IOException {
+        serializeTo(events, null, out);
+    }
+
+    private void serializeTo(Iterator<CalendarEvent> events, FieldProjection.Field[] fields, OutputStream out)
+            throws IOException {
+        BufferProvider buffers = BufferProviders.get();
+        Utf8ByteWriter writer = buffers.acquire(BufferType.UTF8_WRITER);
+        try {
+            writer.writeByte('[');
+            boolean first = true;
+            while (events.hasNext()) {
+                if (!first) {
+                    writer.writeByte(',');
+                }
+                first = false;
+                writeEvent(writer, events.next(), fields);
+                if (writer.size() >= BufferType.STREAM_FLUSH_THRESHOLD) {
+                    writer.writeTo(out);
+                    writer.reset();
+                }
+            }
+            writer.writeByte(']');
+            writer.writeTo(out);
+            out.flush();
+        } finally {
+            buffers.release(BufferType.UTF8_WRITER, writer);
+        }
+    }
+
+    private void writeEvent(Utf8ByteWriter writer, CalendarEvent event, FieldProjection.Field[] fields) {
+        if (fields == null) {
+            writeEvent(writer, event);
+        } else {
+            writeProjectedEvent(writer, event, fields);
+        }
+    }
+
+    void writeEvent(Utf8ByteWriter writer, CalendarEvent event) {
+        writer.writeByte('{');
+        writer.writeBytes(JsonKeys.first(FieldProjection.Field.ID));
+        writer.writeQuotedString(event.getId());
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.TITLE));
+        writer.writeQuotedString(event.getTitle());
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.DESCRIPTION));
+        writer.writeQuotedString(event.getDescription());
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.START_TIME));
+        writeQuotedDateTime(writer, event.getStartTime());
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.END_TIME));
+        writeQuotedDateTime(writer, event.getEndTime());
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.LOCATION));
+        valueCache.writeQuoted(event.getLocation(), writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.ATTENDEES));
+        writeAttendees(writer, event.getAttendees());
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.RECURRENCE_RULE));
+        EncodedValueCache.writeQuoted(event.getRecurrenceRule(), writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.REMINDERS));
+        writeReminders(writer, event.getReminders());
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.TIMEZONE));
+        valueCache.writeQuoted(event.getTimezone(), writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.ORGANIZER_EMAIL));
+        valueCache.writeQuoted(event.getOrganizerEmail(), writer);
+        writer.writeBytes(JsonKeys.next(FieldProjection.Field.STATUS));
+        EncodedValueCache.writeQuoted(event.getStatus(), writer);
+        writer.writeByte('}');
+    }
+
+    /**
+     * Writes only {@code fields}; values of the other fields are never read.
+     */
+    private void writeProjectedEvent(Utf8ByteWriter writer, CalendarEvent event, FieldProjection.Field[] fields) {
+        writer.writeByte('{');
+        for (int i = 0; i < fields.length; i++) {
+            FieldProjection.Field field = fields[i];
+            writer.writeBytes(i == 0 ? JsonKeys.first(field) : JsonKeys.next(field));
+            switch (field) {
+                case ID -> writer.writeQuotedString(event.getId());
+                case TITLE -> writer.writeQuotedString(event.getTitle());
+                case DESCRIPTION -> writer.writeQuotedString(event.getDescription());
+                case START_TIME -> writeQuotedDateTime(writer, event.getStartTime());
+                case END_TIME -> writeQuotedDateTime(writer, event.getEndTime());
+                case LOCATION -> valueCache.writeQuoted(event.getLocation(), writer);
+                case ATTENDEES -> writeAttendees(writer, event.getAttendees());
+                case RECURRENCE_RULE -> EncodedValueCache.writeQuoted(event.getRecurrenceRule(), writer);
+                case REMINDERS -> writeReminders(writer, event.getReminders());
+                case TIMEZONE -> valueCache.writeQuoted(event.getTimezone(), writer);
+                case ORGANIZER_EMAIL -> valueCache.writeQuoted(event.getOrganizerEmail(), writer);
+                case STATUS -> EncodedValueCache.writeQuoted(event.getStatus(), writer);
+            }
+        }
+        writer.writeByte('}');
+    }
+
+    private void writeAttendees(Utf8ByteWriter writer, List<String> attendees) {
+        writer.writeByte('[');
+        for (int i = 0; i < attendees.size(); i++) {
+            if (i > 0) {
+                writer.writeByte(',');
+            }
+            valueCache.writeQuoted(attendees.get(i), writer);
+        }
+        writer.writeByte(']');
+    }
+
+    private static void writeReminders(Utf8ByteWriter writer, List<Integer> reminders) {
+        writer.writeByte('[');
+        for (int i = 0; i < reminders.size(); i++) {
+            if (i > 0) {
+                writer.writeByte(',');
+            }
+            writer.writeInt(reminders.get(i));
+        }
+        writer.writeByte(']');
+    }
+
+    private static void writeQuotedDateTime(Utf8ByteWriter writer, LocalDateTime value) {
+        writer.writeByte('"');
+        writer.writeDateTime(value);
+        writer.writeByte('"');
+    }
+}
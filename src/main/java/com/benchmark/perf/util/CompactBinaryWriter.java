@@ -0,0 +1,154 @@
+package com.benchmark.perf.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer for the compact event format: LEB128 varints, zigzag
+ * signed varints, big-endian longs and length-prefixed UTF-8. See
+ * {@code docs/compact-wire-format.md}.
+ */
+public final class CompactBinaryWriter {
+
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private byte[] buffer;
+    private int size;
+
+    public CompactBinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Length of the backing array, which only grows between resets.
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Discards everything written after {@code mark}.
+     */
+    public void truncate(int mark) {
+        size = mark;
+    }
+
+    public void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) b;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    /**
+     * Unsigned LEB128: seven bits per byte, low group first, high bit set on
+     * every byte but the last.
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(MAX_VARINT_BYTES);
+        byte[] buf = buffer;
+        int pos = size;
+        while ((value & ~0x7FL) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        size = pos;
+    }
+
+    /**
+     * Signed value as a zigzag varint, so small magnitudes of either sign
+     * stay short.
+     */
+    public void writeZigZag(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    /**
+     * Writes the varint UTF-8 byte length followed by the bytes.
+     */
+    public void writeString(String value) {
+        int utf8Length = Utf8Encoding.encodedLength(value);
+        writeVarLong(utf8Length);
+        ensureCapacity(utf8Length);
+        size = Utf8Encoding.encode(value, buffer, size);
+    }
+
+    /**
+     * Writes a canonical lowercase UUID string as its two halves, big-endian.
+     *
+     * @return {@code false}, writing nothing, if {@code value} is not in the
+     *         exact form {@code UUID.toString()} produces
+     */
+    public boolean writeUuid(String value) {
+        if (value.length() != 36 || value.charAt(8) != '-' || value.charAt(13) != '-'
+                || value.charAt(18) != '-' || value.charAt(23) != '-') {
+            return false;
+        }
+        long msb = 0;
+        long lsb = 0;
+        int digits = 0;
+        for (int i = 0; i < 36; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+            int nibble = lowerHexValue(value.charAt(i));
+            if (nibble < 0) {
+                return false;
+            }
+            if (digits++ < 16) {
+                msb = (msb << 4) | nibble;
+            } else {
+                lsb = (lsb << 4) | nibble;
+            }
+        }
+        writeLong(msb);
+        writeLong(lsb);
+        return true;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private static int lowerHexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = size + extra;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.benchmark.perf.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, concurrent dictionary from low-cardinality string values
+ * (locations, timezones, emails) to their quoted, escaped UTF-8 encoding, so
+ * byte-level serializers copy a ready-made fragment instead of re-encoding the
+ * same value on every event. Enum constants are encoded once per class and
+ * looked up by ordinal.
+ *
+ * <p>
+ * Eviction is CLOCK-style second chance: a hit marks the entry as referenced,
+ * and when the map grows past {@code maxEntries} a sweep clears those marks
+ * and drops unmarked entries until the size is back under the low watermark.
+ * Values longer than {@code maxValueChars} bypass the cache entirely, which
+ * keeps descriptions and other high-cardinality text from churning it.
+ */
+public final class EncodedValueCache {
+
+    /**
+     * Rough per-entry cost beyond the encoded bytes: map node, entry object
+     * and array header. Key Strings are shared with the events and not counted.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private static final ClassValue<byte[][]> ENUM_ENCODINGS = new ClassValue<>() {
+        @Override
+        protected byte[][] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            byte[][] encoded = new byte[constants.length][];
+            for (int i = 0; i < constants.length; i++) {
+                String name = ((Enum<?>) constants[i]).name();
+                encoded[i] = ('"' + JsonUtils.escapeJson(name) + '"').getBytes(StandardCharsets.UTF_8);
+            }
+            return encoded;
+        }
+    };
+
+    private final int maxEntries;
+    private final int lowWatermark;
+    private final int maxValueChars;
+    private final ConcurrentHashMap<String, Entry> entries;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder footprintBytes = new LongAdder();
+
+    /**
+     * @param maxEntries    entry bound; {@code 0} disables caching
+     * @param maxValueChars longest value that is cached
+     */
+    public EncodedValueCache(int maxEntries, int maxValueChars) {
+        if (maxEntries < 0 || maxValueChars < 0) {
+            throw new IllegalArgumentException("Cache bounds must be >= 0");
+        }
+        this.maxEntries = maxEntries;
+        this.lowWatermark = maxEntries - Math.max(1, maxEntries / 10);
+        this.maxValueChars = maxValueChars;
+        this.entries = new ConcurrentHashMap<>(Math.max(16, maxEntries));
+    }
+
+    /**
+     * Writes {@code value} as a quoted JSON string, or {@code null}.
+     */
+    public void writeQuoted(String value, Utf8ByteWriter out) {
+        if (value == null) {
+            out.writeNull();
+            return;
+        }
+        if (maxEntries == 0 || value.length() > maxValueChars) {
+            bypasses.increment();
+            out.writeQuotedString(value);
+            return;
+        }
+        Entry entry = entries.get(value);
+        if (entry != null) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hits.increment();
+            out.writeBytes(entry.bytes);
+            return;
+        }
+        misses.increment();
+        int mark = out.size();
+        out.writeQuotedString(value);
+        Entry created = new Entry(out.copyFrom(mark));
+        if (entries.putIfAbsent(value, created) == null) {
+            footprintBytes.add(created.cost());
+            if (entries.size() > maxEntries) {
+                evict();
+            }
+        }
+    }
+
+    /**
+     * Writes an enum constant's name as a quoted JSON string, or {@code null}.
+     */
+    public static void writeQuoted(Enum<?> value, Utf8ByteWriter out) {
+        if (value == null) {
+            out.writeNull();
+        } else {
+            out.writeBytes(ENUM_ENCODINGS.get(value.getDeclaringClass())[value.ordinal()]);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), bypasses.sum(), evictions.sum(), entries.size(),
+                footprintBytes.sum());
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return; // another thread is already sweeping
+        }
+        try {
+            for (int pass = 0; pass < 2 && entries.size() > lowWatermark; pass++) {
+                Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+                while (it.hasNext() && entries.size() > lowWatermark) {
+                    Map.Entry<String, Entry> candidate = it.next();
+                    Entry entry = candidate.getValue();
+                    if (entry.referenced) {
+                        entry.referenced = false;
+                    } else if (entries.remove(candidate.getKey(), entry)) {
+                        footprintBytes.add(-entry.cost());
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry {
+        final byte[] bytes;
+        volatile boolean referenced;
+
+        Entry(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long cost() {
+            return bytes.length + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+
+    /**
+     * Point-in-time counters for tuning the cache bounds.
+     */
+    public record Stats(long hits, long misses, long bypasses, long evictions, int size, long footprintBytes) {
+
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hitRatio=%.4f hits=%d misses=%d bypasses=%d evictions=%d size=%d footprint=%dB",
+                    hitRatio(), hits, misses, bypasses, evictions, size, footprintBytes);
+        }
+    }
+}
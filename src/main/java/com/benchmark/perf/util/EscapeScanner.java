@@ -0,0 +1,99 @@
+package com.benchmark.perf.util;
+
+/**
+ * Finds how much of a byte or char run can be bulk-copied into a JSON
+ * string: the index of the first quote, backslash, control character or
+ * non-ASCII unit, each of which needs escaping or UTF-8 handling.
+ *
+ * <p>
+ * With the {@code jdk.incubator.vector} module available (start the JVM with
+ * {@code --add-modules jdk.incubator.vector}) and a SIMD unit of at least 128
+ * bits, runs of {@link #MIN_VECTOR_LENGTH} or more are scanned a vector at a
+ * time by {@link VectorEscapeKernels}; otherwise, or with
+ * {@code -Dperf.vectorScan=false}, by the scalar loops here, which are also
+ * the reference the vector kernels are tested against.
+ */
+public final class EscapeScanner {
+
+    public static final String PROPERTY = "perf.vectorScan";
+
+    /**
+     * Whether the vector kernels are in use.
+     */
+    public static final boolean VECTORIZED = vectorSupported();
+
+    /**
+     * Runs shorter than this are not worth the vector setup.
+     */
+    public static final int MIN_VECTOR_LENGTH = 32;
+
+    private EscapeScanner() {
+    }
+
+    /**
+     * Index in {@code [from, to)} of the first byte that is a quote,
+     * backslash, control character or part of a multi-byte UTF-8 sequence,
+     * or {@code to} if there is none.
+     */
+    public static int indexOfEscapeOrNonAscii(byte[] bytes, int from, int to) {
+        if (VECTORIZED && to - from >= MIN_VECTOR_LENGTH) {
+            return VectorEscapeKernels.indexOfEscapeOrNonAscii(bytes, from, to);
+        }
+        return scalarIndexOfEscapeOrNonAscii(bytes, from, to);
+    }
+
+    /**
+     * Index in {@code [from, to)} of the first char that is a quote,
+     * backslash, control character or above U+007F, or {@code to} if there
+     * is none.
+     */
+    public static int indexOfEscapeOrNonAscii(char[] chars, int from, int to) {
+        if (VECTORIZED && to - from >= MIN_VECTOR_LENGTH) {
+            return VectorEscapeKernels.indexOfEscapeOrNonAscii(chars, from, to);
+        }
+        return scalarIndexOfEscapeOrNonAscii(chars, from, to);
+    }
+
+    /**
+     * Scalar form of {@link #indexOfEscapeOrNonAscii(char[], int, int)} that
+     * reads the sequence in place, for text not worth copying into a char
+     * array first.
+     */
+    public static int indexOfEscapeOrNonAscii(CharSequence value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    static int scalarIndexOfEscapeOrNonAscii(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (b < 0x20 || b == '"' || b == '\\') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    static int scalarIndexOfEscapeOrNonAscii(char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = chars[i];
+            if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static boolean vectorSupported() {
+        if (!Boolean.parseBoolean(System.getProperty(PROPERTY, "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        return VectorEscapeKernels.isSupported();
+    }
+}
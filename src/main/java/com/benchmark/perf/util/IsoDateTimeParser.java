@@ -0,0 +1,134 @@
+package com.benchmark.perf.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Parses {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} text straight from
+ * byte or char buffers. The common shape {@code yyyy-MM-ddTHH:mm[:ss[.f…]]}
+ * is decoded digit by digit without intermediate Strings or parse contexts;
+ * anything else (signed or extended years) falls back to the JDK formatter so
+ * accepted input and error behaviour stay identical.
+ */
+public final class IsoDateTimeParser {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /** {@code yyyy-MM-ddTHH:mm} */
+    private static final int MIN_FAST_LENGTH = 16;
+
+    /** {@code yyyy-MM-ddTHH:mm:ss.nnnnnnnnn} */
+    private static final int MAX_FAST_LENGTH = 29;
+
+    private IsoDateTimeParser() {
+    }
+
+    public static LocalDateTime parse(CharSequence text) {
+        int length = text.length();
+        if (length < MIN_FAST_LENGTH || length > MAX_FAST_LENGTH) {
+            return LocalDateTime.parse(text, FORMATTER);
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = text.charAt(i);
+        }
+        return parse(chars, 0, length);
+    }
+
+    /**
+     * @throws java.time.format.DateTimeParseException if the text is not an
+     *                                                 ISO local date-time
+     */
+    public static LocalDateTime parse(byte[] src, int offset, int length) {
+        if (length >= MIN_FAST_LENGTH && length <= MAX_FAST_LENGTH) {
+            LocalDateTime fast = parseFast(src, null, offset, length);
+            if (fast != null) {
+                return fast;
+            }
+        }
+        return LocalDateTime.parse(new String(src, offset, length, StandardCharsets.UTF_8), FORMATTER);
+    }
+
+    /**
+     * Char-buffer variant of {@link #parse(byte[], int, int)}.
+     */
+    public static LocalDateTime parse(char[] src, int offset, int length) {
+        if (length >= MIN_FAST_LENGTH && length <= MAX_FAST_LENGTH) {
+            LocalDateTime fast = parseFast(null, src, offset, length);
+            if (fast != null) {
+                return fast;
+            }
+        }
+        return LocalDateTime.parse(new String(src, offset, length), FORMATTER);
+    }
+
+    /**
+     * Reads from whichever of {@code bytes}/{@code chars} is non-null.
+     *
+     * @return {@code null} when the text is not in the fast-path shape or a
+     *         field is out of range, leaving diagnostics to the JDK formatter
+     */
+    private static LocalDateTime parseFast(byte[] bytes, char[] chars, int offset, int length) {
+        if (at(bytes, chars, offset + 4) != '-' || at(bytes, chars, offset + 7) != '-'
+                || at(bytes, chars, offset + 10) != 'T' || at(bytes, chars, offset + 13) != ':') {
+            return null;
+        }
+        int year = digits(bytes, chars, offset, 4);
+        int month = digits(bytes, chars, offset + 5, 2);
+        int day = digits(bytes, chars, offset + 8, 2);
+        int hour = digits(bytes, chars, offset + 11, 2);
+        int minute = digits(bytes, chars, offset + 14, 2);
+        int second = 0;
+        int nano = 0;
+        if (length > 16) {
+            if (length < 19 || at(bytes, chars, offset + 16) != ':') {
+                return null;
+            }
+            second = digits(bytes, chars, offset + 17, 2);
+            if (length > 19) {
+                int fractionDigits = length - 20;
+                if (fractionDigits == 0 || at(bytes, chars, offset + 19) != '.') {
+                    return null;
+                }
+                nano = digits(bytes, chars, offset + 20, fractionDigits);
+                for (int i = fractionDigits; i < 9 && nano >= 0; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        if ((year | month | day | hour | minute | second | nano) < 0
+                || month < 1 || month > 12 || day < 1 || day > 28 && day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * @return the decimal value, or {@code -1} if any char is not a digit
+     */
+    private static int digits(byte[] bytes, char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            int digit = at(bytes, chars, offset + i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int at(byte[] bytes, char[] chars, int index) {
+        return bytes != null ? bytes[index] : chars[index];
+    }
+}
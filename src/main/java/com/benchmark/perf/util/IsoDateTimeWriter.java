@@ -0,0 +1,256 @@
+package com.benchmark.perf.util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Renders {@link LocalDateTime} digit by digit into char or byte buffers,
+ * producing exactly the text of {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}
+ * without formatter contexts or intermediate Strings.
+ *
+ * <p>
+ * Rules mirrored from the JDK formatter: four-digit zero-padded years, a
+ * leading {@code +} for years above 9999 and {@code -} for negative years;
+ * seconds are always printed; the fraction is omitted for zero nanos and
+ * otherwise printed with trailing zeros stripped.
+ */
+public final class IsoDateTimeWriter {
+
+    /**
+     * Longest possible output: {@code +999999999-12-31T23:59:59.999999999}.
+     */
+    public static final int MAX_LENGTH = 35;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_PER_ERA = 146_097;
+    private static final long DAYS_0000_TO_1970 = 719_528;
+
+    private IsoDateTimeWriter() {
+    }
+
+    /**
+     * Formats into a new String; equivalent to
+     * {@code value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)}.
+     */
+    public static String format(LocalDateTime value) {
+        StringBuilder sb = new StringBuilder(MAX_LENGTH);
+        write(value, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the text to {@code sb} a digit at a time.
+     */
+    public static void write(LocalDateTime value, StringBuilder sb) {
+        appendYear(value.getYear(), sb);
+        sb.append('-');
+        appendTwoDigits(value.getMonthValue(), sb);
+        sb.append('-');
+        appendTwoDigits(value.getDayOfMonth(), sb);
+        sb.append('T');
+        appendTwoDigits(value.getHour(), sb);
+        sb.append(':');
+        appendTwoDigits(value.getMinute(), sb);
+        sb.append(':');
+        appendTwoDigits(value.getSecond(), sb);
+        appendFraction(value.getNano(), sb);
+    }
+
+    /**
+     * Writes ASCII bytes at {@code offset}; the caller guarantees
+     * {@link #MAX_LENGTH} bytes of room.
+     *
+     * @return offset just past the last byte written
+     */
+    public static int write(LocalDateTime value, byte[] dst, int offset) {
+        return write(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(),
+                value.getMinute(), value.getSecond(), value.getNano(), dst, offset);
+    }
+
+    /**
+     * Writes the local date-time {@code epochSecond} seconds after
+     * 1970-01-01T00:00, i.e. {@code LocalDateTime.ofEpochSecond(epochSecond,
+     * nano, UTC)}, without creating the LocalDateTime. Same contract as
+     * {@link #write(LocalDateTime, byte[], int)}.
+     */
+    public static int write(long epochSecond, int nano, byte[] dst, int offset) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // Civil-from-days over 400-year eras, counted from 0000-03-01 so the
+        // leap day falls at the end of each year.
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long era = Math.floorDiv(zeroDay, DAYS_PER_ERA);
+        long dayOfEra = zeroDay - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int marchMonth = (int) ((5 * dayOfYear + 2) / 153);
+        int day = (int) (dayOfYear - (153L * marchMonth + 2) / 5 + 1);
+        int month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        return write(year, month, day, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, nano, dst,
+                offset);
+    }
+
+    private static int write(int year, int month, int day, int hour, int minute, int second, int nano,
+            byte[] dst, int offset) {
+        int pos = writeYear(year, dst, offset);
+        dst[pos++] = '-';
+        pos = writeTwoDigits(month, dst, pos);
+        dst[pos++] = '-';
+        pos = writeTwoDigits(day, dst, pos);
+        dst[pos++] = 'T';
+        pos = writeTwoDigits(hour, dst, pos);
+        dst[pos++] = ':';
+        pos = writeTwoDigits(minute, dst, pos);
+        dst[pos++] = ':';
+        pos = writeTwoDigits(second, dst, pos);
+        return writeFraction(nano, dst, pos);
+    }
+
+    /**
+     * Char-buffer variant of {@link #write(LocalDateTime, byte[], int)}.
+     */
+    public static int write(LocalDateTime value, char[] dst, int offset) {
+        int pos = writeYear(value.getYear(), dst, offset);
+        dst[pos++] = '-';
+        pos = writeTwoDigits(value.getMonthValue(), dst, pos);
+        dst[pos++] = '-';
+        pos = writeTwoDigits(value.getDayOfMonth(), dst, pos);
+        dst[pos++] = 'T';
+        pos = writeTwoDigits(value.getHour(), dst, pos);
+        dst[pos++] = ':';
+        pos = writeTwoDigits(value.getMinute(), dst, pos);
+        dst[pos++] = ':';
+        pos = writeTwoDigits(value.getSecond(), dst, pos);
+        return writeFraction(value.getNano(), dst, pos);
+    }
+
+    private static int writeYear(int year, byte[] dst, int pos) {
+        if (year >= 0 && year <= 9999) {
+            pos = writeTwoDigits(year / 100, dst, pos);
+            return writeTwoDigits(year % 100, dst, pos);
+        }
+        dst[pos++] = (byte) (year < 0 ? '-' : '+');
+        int abs = Math.abs(year);
+        int digits = Math.max(4, digitCount(abs));
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            dst[i] = (byte) ('0' + abs % 10);
+            abs /= 10;
+        }
+        return end;
+    }
+
+    private static int writeFraction(int nano, byte[] dst, int pos) {
+        if (nano == 0) {
+            return pos;
+        }
+        dst[pos++] = '.';
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            dst[i] = (byte) ('0' + nano % 10);
+            nano /= 10;
+        }
+        return end;
+    }
+
+    private static int writeTwoDigits(int value, byte[] dst, int pos) {
+        dst[pos] = (byte) ('0' + value / 10);
+        dst[pos + 1] = (byte) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    private static int writeYear(int year, char[] dst, int pos) {
+        if (year >= 0 && year <= 9999) {
+            pos = writeTwoDigits(year / 100, dst, pos);
+            return writeTwoDigits(year % 100, dst, pos);
+        }
+        dst[pos++] = year < 0 ? '-' : '+';
+        int abs = Math.abs(year);
+        int digits = Math.max(4, digitCount(abs));
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            dst[i] = (char) ('0' + abs % 10);
+            abs /= 10;
+        }
+        return end;
+    }
+
+    private static int writeFraction(int nano, char[] dst, int pos) {
+        if (nano == 0) {
+            return pos;
+        }
+        dst[pos++] = '.';
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            dst[i] = (char) ('0' + nano % 10);
+            nano /= 10;
+        }
+        return end;
+    }
+
+    private static int writeTwoDigits(int value, char[] dst, int pos) {
+        dst[pos] = (char) ('0' + value / 10);
+        dst[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    private static void appendYear(int year, StringBuilder sb) {
+        if (year >= 0 && year <= 9999) {
+            appendTwoDigits(year / 100, sb);
+            appendTwoDigits(year % 100, sb);
+            return;
+        }
+        sb.append(year < 0 ? '-' : '+');
+        int abs = Math.abs(year);
+        for (int digits = digitCount(abs); digits < 4; digits++) {
+            sb.append('0');
+        }
+        sb.append(abs);
+    }
+
+    /**
+     * Leading zeros are appended explicitly; {@link StringBuilder#append(int)}
+     * prints the stripped fraction digits.
+     */
+    private static void appendFraction(int nano, StringBuilder sb) {
+        if (nano == 0) {
+            return;
+        }
+        sb.append('.');
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        for (int zeros = digits - digitCount(nano); zeros > 0; zeros--) {
+            sb.append('0');
+        }
+        sb.append(nano);
+    }
+
+    private static void appendTwoDigits(int value, StringBuilder sb) {
+        sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static int digitCount(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,492 @@
+package com.benchmark.perf.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Single-pass, strict (RFC 8259) JSON validator and structural scanner.
+ *
+ * <p>
+ * Unlike parsing with org.json, nothing is materialized: the scanner walks
+ * the input once by recursive descent and only tracks a position, so
+ * validating a 50k-event payload allocates nothing beyond one small cursor
+ * per call. Byte input is additionally checked to be well-formed UTF-8.
+ *
+ * <p>
+ * Structural queries work on a top-level array: {@link #countElements}
+ * returns its size, and {@code elementOffsets} records where each element
+ * starts and ends, so callers can slice a batch without parsing it. Offsets
+ * are indexes into the array, buffer or char sequence that was passed in.
+ * Internally every scan step returns the next position, or {@code ~offset}
+ * of the first offending byte or char when the input is malformed.
+ *
+ * <p>
+ * For {@code byte[]} and heap buffers, string content is skipped with
+ * {@link EscapeScanner}, so long descriptions are crossed a vector at a time
+ * when the vector kernels are enabled.
+ */
+public final class JsonScanner {
+
+    /**
+     * Deepest nesting accepted; deeper documents are rejected rather than
+     * risking a stack overflow.
+     */
+    public static final int MAX_DEPTH = 512;
+
+    private JsonScanner() {
+    }
+
+    public static boolean isValid(byte[] json) {
+        return isValid(json, 0, json.length);
+    }
+
+    public static boolean isValid(byte[] json, int offset, int length) {
+        checkRange(json.length, offset, length);
+        return scan(new ByteArraySource(json, 0), offset, offset + length, false) >= 0;
+    }
+
+    /**
+     * Validates the bytes between the buffer's position and limit, without
+     * moving either.
+     */
+    public static boolean isValid(ByteBuffer json) {
+        return scan(source(json), start(json), end(json), false) >= 0;
+    }
+
+    public static boolean isValid(CharSequence json) {
+        return scan(new CharSequenceSource(json), 0, json.length(), false) >= 0;
+    }
+
+    /**
+     * Number of elements in the top-level array.
+     *
+     * @throws IllegalArgumentException if the input is not a valid JSON array
+     */
+    public static int countElements(byte[] json) {
+        return elementOffsets(json, null, null);
+    }
+
+    public static int countElements(ByteBuffer json) {
+        return elementOffsets(json, null, null);
+    }
+
+    public static int countElements(CharSequence json) {
+        return elementOffsets(json, null, null);
+    }
+
+    /**
+     * Records the start (inclusive) and end (exclusive) offset of each
+     * top-level array element in {@code starts} and {@code ends}, up to their
+     * length, and returns the element count, which may exceed it. Pass
+     * {@code null} arrays to only count.
+     *
+     * @throws IllegalArgumentException if the input is not a valid JSON array
+     */
+    public static int elementOffsets(byte[] json, int[] starts, int[] ends) {
+        return collect(new ByteArraySource(json, 0), 0, json.length, starts, ends);
+    }
+
+    public static int elementOffsets(ByteBuffer json, int[] starts, int[] ends) {
+        return collect(source(json), start(json), end(json), starts, ends);
+    }
+
+    public static int elementOffsets(CharSequence json, int[] starts, int[] ends) {
+        return collect(new CharSequenceSource(json), 0, json.length(), starts, ends);
+    }
+
+    private static int collect(Source in, int from, int to, int[] starts, int[] ends) {
+        if ((starts == null) != (ends == null) || (starts != null && starts.length != ends.length)) {
+            throw new IllegalArgumentException("starts and ends must both be null or of equal length");
+        }
+        in.starts = starts;
+        in.ends = ends;
+        int result = scan(in, from, to, true);
+        if (result < 0) {
+            throw new IllegalArgumentException("Malformed JSON array at offset " + (~result - in.base));
+        }
+        return in.count;
+    }
+
+    /**
+     * Scans one complete document between {@code from} and {@code to}.
+     * With {@code arrayOnly} the document must be an array and its top-level
+     * elements are reported to the source.
+     */
+    private static int scan(Source in, int from, int to, boolean arrayOnly) {
+        int pos = skipWhitespace(in, from, to);
+        if (pos == to || (arrayOnly && in.at(pos) != '[')) {
+            return ~pos;
+        }
+        in.collect = arrayOnly;
+        pos = scanValue(in, pos, to, 0);
+        if (pos < 0) {
+            return pos;
+        }
+        pos = skipWhitespace(in, pos, to);
+        return pos == to ? pos : ~pos;
+    }
+
+    private static int scanValue(Source in, int pos, int end, int depth) {
+        if (pos >= end) {
+            return ~pos;
+        }
+        int c = in.at(pos);
+        switch (c) {
+            case '"':
+                return scanString(in, pos, end);
+            case '{':
+                return scanObject(in, pos, end, depth + 1);
+            case '[':
+                return scanArray(in, pos, end, depth + 1);
+            case 't':
+                return scanLiteral(in, pos, end, "true");
+            case 'f':
+                return scanLiteral(in, pos, end, "false");
+            case 'n':
+                return scanLiteral(in, pos, end, "null");
+            default:
+                return c == '-' || (c >= '0' && c <= '9') ? scanNumber(in, pos, end) : ~pos;
+        }
+    }
+
+    private static int scanArray(Source in, int pos, int end, int depth) {
+        if (depth > MAX_DEPTH) {
+            return ~pos;
+        }
+        boolean top = depth == 1 && in.collect;
+        pos = skipWhitespace(in, pos + 1, end);
+        if (pos < end && in.at(pos) == ']') {
+            return pos + 1;
+        }
+        while (true) {
+            int start = pos;
+            pos = scanValue(in, pos, end, depth);
+            if (pos < 0) {
+                return pos;
+            }
+            if (top) {
+                in.element(start, pos);
+            }
+            pos = skipWhitespace(in, pos, end);
+            if (pos >= end) {
+                return ~pos;
+            }
+            int c = in.at(pos);
+            if (c == ']') {
+                return pos + 1;
+            }
+            if (c != ',') {
+                return ~pos;
+            }
+            pos = skipWhitespace(in, pos + 1, end);
+        }
+    }
+
+    private static int scanObject(Source in, int pos, int end, int depth) {
+        if (depth > MAX_DEPTH) {
+            return ~pos;
+        }
+        pos = skipWhitespace(in, pos + 1, end);
+        if (pos < end && in.at(pos) == '}') {
+            return pos + 1;
+        }
+        while (true) {
+            if (pos >= end || in.at(pos) != '"') {
+                return ~pos;
+            }
+            pos = scanString(in, pos, end);
+            if (pos < 0) {
+                return pos;
+            }
+            pos = skipWhitespace(in, pos, end);
+            if (pos >= end || in.at(pos) != ':') {
+                return ~pos;
+            }
+            pos = scanValue(in, skipWhitespace(in, pos + 1, end), end, depth);
+            if (pos < 0) {
+                return pos;
+            }
+            pos = skipWhitespace(in, pos, end);
+            if (pos >= end) {
+                return ~pos;
+            }
+            int c = in.at(pos);
+            if (c == '}') {
+                return pos + 1;
+            }
+            if (c != ',') {
+                return ~pos;
+            }
+            pos = skipWhitespace(in, pos + 1, end);
+        }
+    }
+
+    private static int scanString(Source in, int pos, int end) {
+        pos++;
+        while (pos < end) {
+            pos = in.skipPlain(pos, end);
+            if (pos == end) {
+                break;
+            }
+            int c = in.at(pos);
+            if (c == '"') {
+                return pos + 1;
+            }
+            if (c == '\\') {
+                pos = scanEscape(in, pos + 1, end);
+                if (pos < 0) {
+                    return pos;
+                }
+            } else if (c < 0x20) {
+                return ~pos;
+            } else if (c >= 0x80 && in.utf8) {
+                pos = scanUtf8(in, pos, end);
+                if (pos < 0) {
+                    return pos;
+                }
+            } else {
+                pos++;
+            }
+        }
+        return ~pos;
+    }
+
+    private static int scanEscape(Source in, int pos, int end) {
+        if (pos >= end) {
+            return ~pos;
+        }
+        switch (in.at(pos)) {
+            case '"', '\\', '/', 'b', 'f', 'n', 'r', 't':
+                return pos + 1;
+            case 'u':
+                for (int i = pos + 1; i <= pos + 4; i++) {
+                    if (i >= end || !isHexDigit(in.at(i))) {
+                        return ~i;
+                    }
+                }
+                return pos + 5;
+            default:
+                return ~pos;
+        }
+    }
+
+    /**
+     * Validates one multi-byte UTF-8 sequence starting at {@code pos},
+     * rejecting overlong forms, surrogates and code points above U+10FFFF.
+     */
+    private static int scanUtf8(Source in, int pos, int end) {
+        int lead = in.at(pos);
+        int low = 0x80;
+        int high = 0xBF;
+        int continuation;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            continuation = 1;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            continuation = 2;
+            if (lead == 0xE0) {
+                low = 0xA0;
+            } else if (lead == 0xED) {
+                high = 0x9F;
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            continuation = 3;
+            if (lead == 0xF0) {
+                low = 0x90;
+            } else if (lead == 0xF4) {
+                high = 0x8F;
+            }
+        } else {
+            return ~pos;
+        }
+        for (int i = 1; i <= continuation; i++) {
+            if (pos + i >= end) {
+                return ~(pos + i);
+            }
+            int b = in.at(pos + i);
+            if (b < low || b > high) {
+                return ~(pos + i);
+            }
+            low = 0x80;
+            high = 0xBF;
+        }
+        return pos + continuation + 1;
+    }
+
+    private static int scanNumber(Source in, int pos, int end) {
+        if (in.at(pos) == '-') {
+            pos++;
+        }
+        if (pos >= end) {
+            return ~pos;
+        }
+        int c = in.at(pos);
+        if (c == '0') {
+            pos++;
+        } else if (c >= '1' && c <= '9') {
+            pos = skipDigits(in, pos + 1, end);
+        } else {
+            return ~pos;
+        }
+        if (pos < end && in.at(pos) == '.') {
+            int digits = ++pos;
+            pos = skipDigits(in, pos, end);
+            if (pos == digits) {
+                return ~pos;
+            }
+        }
+        if (pos < end && (in.at(pos) | 0x20) == 'e') {
+            pos++;
+            if (pos < end && (in.at(pos) == '+' || in.at(pos) == '-')) {
+                pos++;
+            }
+            int digits = pos;
+            pos = skipDigits(in, pos, end);
+            if (pos == digits) {
+                return ~pos;
+            }
+        }
+        return pos;
+    }
+
+    private static int scanLiteral(Source in, int pos, int end, String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (pos + i >= end || in.at(pos + i) != literal.charAt(i)) {
+                return ~(pos + i);
+            }
+        }
+        return pos + literal.length();
+    }
+
+    private static boolean isHexDigit(int c) {
+        return (c >= '0' && c <= '9') || ((c | 0x20) >= 'a' && (c | 0x20) <= 'f');
+    }
+
+    private static int skipDigits(Source in, int pos, int end) {
+        while (pos < end) {
+            int c = in.at(pos);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipWhitespace(Source in, int pos, int end) {
+        while (pos < end) {
+            int c = in.at(pos);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > arrayLength) {
+            throw new IllegalArgumentException("Range [" + offset + ", " + (offset + length)
+                    + ") out of bounds for length " + arrayLength);
+        }
+    }
+
+    /**
+     * Heap buffers are scanned through their backing array; {@code base}
+     * maps array indexes back to buffer indexes.
+     */
+    private static Source source(ByteBuffer buffer) {
+        return buffer.hasArray() ? new ByteArraySource(buffer.array(), buffer.arrayOffset())
+                : new ByteBufferSource(buffer);
+    }
+
+    private static int start(ByteBuffer buffer) {
+        return buffer.hasArray() ? buffer.arrayOffset() + buffer.position() : buffer.position();
+    }
+
+    private static int end(ByteBuffer buffer) {
+        return buffer.hasArray() ? buffer.arrayOffset() + buffer.limit() : buffer.limit();
+    }
+
+    /**
+     * Random access to the input as unsigned bytes or chars, plus the
+     * top-level element sink of one scan.
+     */
+    private abstract static class Source {
+        final boolean utf8;
+        final int base;
+        boolean collect;
+        int[] starts;
+        int[] ends;
+        int count;
+
+        Source(boolean utf8, int base) {
+            this.utf8 = utf8;
+            this.base = base;
+        }
+
+        abstract int at(int index);
+
+        /**
+         * Index of the first char at or after {@code pos} that is not plain
+         * printable ASCII string content, or {@code pos} if the source has no
+         * faster way to find it than the per-char loop.
+         */
+        int skipPlain(int pos, int end) {
+            return pos;
+        }
+
+        final void element(int start, int end) {
+            if (starts != null && count < starts.length) {
+                starts[count] = start - base;
+                ends[count] = end - base;
+            }
+            count++;
+        }
+    }
+
+    private static final class ByteArraySource extends Source {
+        private final byte[] bytes;
+
+        ByteArraySource(byte[] bytes, int base) {
+            super(true, base);
+            this.bytes = bytes;
+        }
+
+        @Override
+        int at(int index) {
+            return bytes[index] & 0xFF;
+        }
+
+        @Override
+        int skipPlain(int pos, int end) {
+            return EscapeScanner.indexOfEscapeOrNonAscii(bytes, pos, end);
+        }
+    }
+
+    private static final class ByteBufferSource extends Source {
+        private final ByteBuffer buffer;
+
+        ByteBufferSource(ByteBuffer buffer) {
+            super(true, 0);
+            this.buffer = buffer;
+        }
+
+        @Override
+        int at(int index) {
+            return buffer.get(index) & 0xFF;
+        }
+    }
+
+    private static final class CharSequenceSource extends Source {
+        private final CharSequence text;
+
+        CharSequenceSource(CharSequence text) {
+            super(false, 0);
+            this.text = text;
+        }
+
+        @Override
+        int at(int index) {
+            return text.charAt(index);
+        }
+    }
+}
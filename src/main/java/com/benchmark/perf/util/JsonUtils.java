@@ -1,8 +1,8 @@
 package com.benchmark.perf.util;
 
-import org.json.JSONArray;
 import org.json.JSONException;
-import org.json.JSONTokener;
+
+import java.io.IOException;
 
 /**
  * Utility class for JSON operations including validation and escaping.
@@ -10,28 +10,41 @@ import org.json.JSONTokener;
 public class JsonUtils {
 
     /**
-     * Validates if a string is valid JSON.
+     * Replacement sequences for every char below 0x80 that must be escaped, or
+     * {@code null} when the char can be copied verbatim. Non-ASCII chars never
+     * need escaping.
+     */
+    static final char[][] ESCAPES = new char[128][];
+
+    static {
+        char[] hex = "0123456789abcdef".toCharArray();
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = new char[] { '\\', 'u', '0', '0', hex[c >> 4], hex[c & 0xF] };
+        }
+        ESCAPES['"'] = new char[] { '\\', '"' };
+        ESCAPES['\\'] = new char[] { '\\', '\\' };
+        ESCAPES['\b'] = new char[] { '\\', 'b' };
+        ESCAPES['\f'] = new char[] { '\\', 'f' };
+        ESCAPES['\n'] = new char[] { '\\', 'n' };
+        ESCAPES['\r'] = new char[] { '\\', 'r' };
+        ESCAPES['\t'] = new char[] { '\\', 't' };
+    }
+
+    /**
+     * Validates if a string is valid JSON. Strict and single-pass, see
+     * {@link JsonScanner}; nothing is parsed into objects.
      *
      * @param json the JSON string to validate
      * @return true if valid, false otherwise
      */
     public static boolean validateJson(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return false;
-        }
-
-        try {
-            new JSONTokener(json).nextValue();
-            return true;
-        } catch (JSONException e) {
-            return false;
-        }
+        return json != null && JsonScanner.isValid(json);
     }
 
     /**
      * Escapes special characters in a string for JSON encoding.
      * Handles: quotes, backslashes, newlines, carriage returns, tabs, and control
-     * characters.
+     * characters. Strings that need no escaping are returned as-is.
      *
      * @param value the string to escape
      * @return escaped string safe for JSON
@@ -41,60 +54,101 @@ public class JsonUtils {
             return "null";
         }
 
+        int first = indexOfFirstEscape(value, 0);
+        if (first == value.length()) {
+            return value;
+        }
+
         StringBuilder sb = new StringBuilder(value.length() + 20);
+        sb.append(value, 0, first);
+        escapeFrom(value, first, sb);
+        return sb.toString();
+    }
 
-        for (int i = 0; i < value.length(); i++) {
-            char c = value.charAt(i);
+    /**
+     * Appends the escaped form of {@code value} (without surrounding quotes) to
+     * {@code out}. The clean prefix is copied in one bulk append; per-char work
+     * only starts at the first char that needs escaping.
+     */
+    public static void escapeJson(CharSequence value, StringBuilder out) {
+        int first = indexOfFirstEscape(value, 0);
+        out.append(value, 0, first);
+        if (first < value.length()) {
+            escapeFrom(value, first, out);
+        }
+    }
 
-            switch (c) {
-                case '"':
-                    sb.append("\\\"");
-                    break;
-                case '\\':
-                    sb.append("\\\\");
-                    break;
-                case '\b':
-                    sb.append("\\b");
-                    break;
-                case '\f':
-                    sb.append("\\f");
-                    break;
-                case '\n':
-                    sb.append("\\n");
-                    break;
-                case '\r':
-                    sb.append("\\r");
-                    break;
-                case '\t':
-                    sb.append("\\t");
-                    break;
-                default:
-                    // Handle control characters
-                    if (c < ' ') {
-                        String hex = Integer.toHexString(c);
-                        sb.append("\\u");
-                        for (int j = 0; j < 4 - hex.length(); j++) {
-                            sb.append('0');
-                        }
-                        sb.append(hex);
-                    } else {
-                        sb.append(c);
-                    }
+    /**
+     * Appendable variant of {@link #escapeJson(CharSequence, StringBuilder)} for
+     * writers and other char sinks.
+     */
+    public static void escapeJson(CharSequence value, Appendable out) throws IOException {
+        if (out instanceof StringBuilder sb) {
+            escapeJson(value, sb);
+            return;
+        }
+        int length = value.length();
+        int start = 0;
+        for (int i = indexOfFirstEscape(value, 0); i < length; i = indexOfFirstEscape(value, i + 1)) {
+            out.append(value, start, i);
+            for (char replacement : ESCAPES[value.charAt(i)]) {
+                out.append(replacement);
             }
+            start = i + 1;
         }
+        out.append(value, start, length);
+    }
 
-        return sb.toString();
+    /**
+     * Byte-buffer variant: appends the escaped value as UTF-8 (without
+     * surrounding quotes).
+     */
+    public static void escapeJson(CharSequence value, Utf8ByteWriter out) {
+        out.writeEscaped(value);
+    }
+
+    /**
+     * Returns the index of the first char at or after {@code from} that must be
+     * escaped, or {@code value.length()} when the rest can be copied verbatim.
+     */
+    public static int indexOfFirstEscape(CharSequence value, int from) {
+        int length = value.length();
+        for (int i = from; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80 && ESCAPES[c] != null) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static void escapeFrom(CharSequence value, int from, StringBuilder sb) {
+        int length = value.length();
+        for (int i = from; i < length; i++) {
+            char c = value.charAt(i);
+            char[] replacement = c < 0x80 ? ESCAPES[c] : null;
+            if (replacement == null) {
+                sb.append(c);
+            } else {
+                sb.append(replacement);
+            }
+        }
     }
 
     /**
-     * Parses a JSON array string and returns the number of elements.
+     * Returns the number of elements of a JSON array string, counted by
+     * {@link JsonScanner#countElements(CharSequence)} without building the
+     * array.
      *
      * @param json the JSON array string
      * @return number of elements in the array
      * @throws JSONException if the string is not a valid JSON array
      */
     public static int getArrayLength(String json) throws JSONException {
-        JSONArray jsonArray = new JSONArray(json);
-        return jsonArray.length();
+        try {
+            return JsonScanner.countElements(json);
+        } catch (IllegalArgumentException e) {
+            throw new JSONException(e.getMessage());
+        }
     }
 }
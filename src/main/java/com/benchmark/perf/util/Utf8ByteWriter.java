@@ -0,0 +1,356 @@
+package com.benchmark.perf.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer that encodes JSON directly as UTF-8, skipping the
+ * char-to-byte transcoding step of StringBuilder based writers.
+ */
+public final class Utf8ByteWriter {
+
+    /**
+     * Worst case bytes emitted per input char: a control character escaped as
+     * six ASCII bytes.
+     */
+    private static final int MAX_BYTES_PER_CHAR = 6;
+
+    private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+
+    private static final int SCRATCH_CHARS = 512;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer;
+    private int size;
+    /**
+     * Chunk of the string being escaped on the vector path, allocated on
+     * first use.
+     */
+    private char[] scratch;
+
+    public Utf8ByteWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Length of the backing array, which only grows between resets.
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Discards everything written after {@code mark}.
+     */
+    public void truncate(int mark) {
+        size = mark;
+    }
+
+    public void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) b;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * Copies {@code length} bytes starting at absolute {@code index} of
+     * {@code src} (heap or direct) without touching its position.
+     */
+    public void writeBytes(ByteBuffer src, int index, int length) {
+        ensureCapacity(length);
+        src.get(index, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * Copies UTF-8 text from {@code src} as JSON string content. Only ASCII
+     * bytes ever need escaping, so multi-byte sequences pass through as is.
+     */
+    public void writeEscaped(ByteBuffer src, int index, int length) {
+        ensureCapacity(length * MAX_BYTES_PER_CHAR);
+        byte[] buf = buffer;
+        int pos = size;
+        for (int i = index, end = index + length; i < end; i++) {
+            byte b = src.get(i);
+            char[] replacement = b >= 0 ? JsonUtils.ESCAPES[b] : null;
+            if (replacement == null) {
+                buf[pos++] = b;
+            } else {
+                for (char r : replacement) {
+                    buf[pos++] = (byte) r;
+                }
+            }
+        }
+        size = pos;
+    }
+
+    public void writeNull() {
+        writeBytes(NULL);
+    }
+
+    /**
+     * Writes a string already known to be plain ASCII (enum names, formatted
+     * timestamps) without escaping or encoding checks.
+     */
+    public void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        byte[] buf = buffer;
+        int pos = size;
+        for (int i = 0; i < length; i++) {
+            buf[pos++] = (byte) value.charAt(i);
+        }
+        size = pos;
+    }
+
+    public void writeInt(int value) {
+        ensureCapacity(11);
+        if (value < 0) {
+            if (value == Integer.MIN_VALUE) {
+                writeAscii("-2147483648");
+                return;
+            }
+            buffer[size++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (int remaining = value / 10; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        int pos = size + digits;
+        size = pos;
+        do {
+            buffer[--pos] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+    }
+
+    /**
+     * Writes the ISO-8601 local date-time text (unquoted).
+     */
+    public void writeDateTime(LocalDateTime value) {
+        ensureCapacity(IsoDateTimeWriter.MAX_LENGTH);
+        size = IsoDateTimeWriter.write(value, buffer, size);
+    }
+
+    /**
+     * Epoch-second variant of {@link #writeDateTime(LocalDateTime)}, see
+     * {@link IsoDateTimeWriter#write(long, int, byte[], int)}.
+     */
+    public void writeDateTime(long epochSecond, int nano) {
+        ensureCapacity(IsoDateTimeWriter.MAX_LENGTH);
+        size = IsoDateTimeWriter.write(epochSecond, nano, buffer, size);
+    }
+
+    /**
+     * Writes the canonical lowercase {@link java.util.UUID#toString()} text
+     * of the UUID with the given halves (unquoted).
+     */
+    public void writeUuid(long mostSignificantBits, long leastSignificantBits) {
+        ensureCapacity(36);
+        int pos = size;
+        pos = writeHex(mostSignificantBits >>> 32, 8, pos);
+        buffer[pos++] = '-';
+        pos = writeHex(mostSignificantBits >>> 16, 4, pos);
+        buffer[pos++] = '-';
+        pos = writeHex(mostSignificantBits, 4, pos);
+        buffer[pos++] = '-';
+        pos = writeHex(leastSignificantBits >>> 48, 4, pos);
+        buffer[pos++] = '-';
+        size = writeHex(leastSignificantBits, 12, pos);
+    }
+
+    private int writeHex(long value, int digits, int pos) {
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return pos + digits;
+    }
+
+    /**
+     * Writes a quoted, escaped JSON string, or {@code null}.
+     */
+    public void writeQuotedString(String value) {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        writeByte('"');
+        writeEscaped(value);
+        writeByte('"');
+    }
+
+    /**
+     * Writes the escaped UTF-8 form of {@code value} without quotes. Capacity
+     * for the worst case is reserved once. Each plain ASCII run is found
+     * first and then copied in one go, so only the chars ending a run are
+     * encoded on their own.
+     */
+    public void writeEscaped(CharSequence value) {
+        int length = value.length();
+        ensureCapacity(length * MAX_BYTES_PER_CHAR);
+        if (EscapeScanner.VECTORIZED && length >= EscapeScanner.MIN_VECTOR_LENGTH && value instanceof String string) {
+            writeEscapedRuns(string, length);
+            return;
+        }
+        byte[] buf = buffer;
+        int pos = size;
+        int i = 0;
+        while (i < length) {
+            int runEnd = EscapeScanner.indexOfEscapeOrNonAscii(value, i, length);
+            pos = copyAscii(value, i, runEnd, buf, pos);
+            if (runEnd == length) {
+                break;
+            }
+            size = pos;
+            i = writeSpecial(value, runEnd, length) + 1;
+            pos = size;
+        }
+        size = pos;
+    }
+
+    /**
+     * Narrows the ASCII chars {@code [from, to)} of {@code value} into
+     * {@code buf} at {@code pos} and returns the new position. For a String
+     * this is {@link String#getBytes(int, int, byte[], int)}, an array copy
+     * when the string is stored as Latin-1.
+     */
+    @SuppressWarnings("deprecation")
+    private static int copyAscii(CharSequence value, int from, int to, byte[] buf, int pos) {
+        if (value instanceof String string) {
+            string.getBytes(from, to, buf, pos);
+        } else {
+            for (int k = from; k < to; k++) {
+                buf[pos + k - from] = (byte) value.charAt(k);
+            }
+        }
+        return pos + to - from;
+    }
+
+    /**
+     * Vector path for long strings: chars are copied out a chunk at a time,
+     * then {@link EscapeScanner} finds each run of plain ASCII, which is
+     * narrowed to bytes in a tight loop. Only the char ending a run is
+     * encoded on its own.
+     */
+    private void writeEscapedRuns(String value, int length) {
+        char[] chars = scratch;
+        if (chars == null) {
+            chars = scratch = new char[SCRATCH_CHARS];
+        }
+        byte[] buf = buffer;
+        int pos = size;
+        int i = 0;
+        while (i < length) {
+            int chunkStart = i;
+            int chunkLength = Math.min(length - chunkStart, chars.length);
+            value.getChars(chunkStart, chunkStart + chunkLength, chars, 0);
+            int offset = 0;
+            while (offset < chunkLength) {
+                int run = EscapeScanner.indexOfEscapeOrNonAscii(chars, offset, chunkLength) - offset;
+                for (int k = 0; k < run; k++) {
+                    buf[pos + k] = (byte) chars[offset + k];
+                }
+                pos += run;
+                offset += run;
+                if (offset == chunkLength) {
+                    break;
+                }
+                size = pos;
+                // May consume the first char of the next chunk (surrogate pair).
+                offset = writeSpecial(value, chunkStart + offset, length) + 1 - chunkStart;
+                pos = size;
+            }
+            i = chunkStart + offset;
+        }
+        size = pos;
+    }
+
+    /**
+     * Writes the char at {@code i}, which needs escaping or is non-ASCII, and
+     * returns the index of the last char consumed ({@code i + 1} for a
+     * surrogate pair). Capacity must already be reserved.
+     */
+    private int writeSpecial(CharSequence value, int i, int length) {
+        byte[] buf = buffer;
+        int pos = size;
+        char c = value.charAt(i);
+        if (c < 0x80) {
+            for (char r : JsonUtils.ESCAPES[c]) {
+                buf[pos++] = (byte) r;
+            }
+        } else if (c < 0x800) {
+            buf[pos++] = (byte) (0xC0 | (c >> 6));
+            buf[pos++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && i + 1 < length
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(++i));
+            buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+            buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            // Unpaired surrogate: mirror String.getBytes(UTF_8) replacement.
+            buf[pos++] = '?';
+        } else {
+            buf[pos++] = (byte) (0xE0 | (c >> 12));
+            buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buf[pos++] = (byte) (0x80 | (c & 0x3F));
+        }
+        size = pos;
+        return i;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Copies the bytes written since {@code mark}.
+     */
+    public byte[] copyFrom(int mark) {
+        return Arrays.copyOfRange(buffer, mark, size);
+    }
+
+    /**
+     * Decodes the buffered UTF-8 bytes.
+     */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = size + extra;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+}
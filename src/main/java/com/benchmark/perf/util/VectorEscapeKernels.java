@@ -0,0 +1,66 @@
+package com.benchmark.perf.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@code jdk.incubator.vector} kernels behind {@link EscapeScanner}. This is
+ * the only class that touches the incubator module, and it is only loaded
+ * once {@link EscapeScanner} has checked the module is present.
+ *
+ * <p>
+ * Each loop compares a full vector of bytes or chars against the special
+ * values at once and stops at the first lane that matched; the tail shorter
+ * than a vector goes to the scalar loop.
+ */
+final class VectorEscapeKernels {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+
+    private VectorEscapeKernels() {
+    }
+
+    /**
+     * Narrower than 128 bits means no usable SIMD unit; the API would run
+     * its pure-Java fallback, which is slower than the scalar loop.
+     */
+    static boolean isSupported() {
+        return BYTES.vectorBitSize() >= 128 && SHORTS.vectorBitSize() >= 128;
+    }
+
+    static int indexOfEscapeOrNonAscii(byte[] bytes, int from, int to) {
+        int i = from;
+        for (int bound = from + BYTES.loopBound(to - from); i < bound; i += BYTES.length()) {
+            ByteVector v = ByteVector.fromArray(BYTES, bytes, i);
+            // Signed bytes: everything from 0x80 up is negative, so "< 0x20"
+            // catches both control characters and non-ASCII lead/continuation bytes.
+            VectorMask<Byte> special = v.lt((byte) 0x20)
+                    .or(v.eq((byte) '"'))
+                    .or(v.eq((byte) '\\'));
+            if (special.anyTrue()) {
+                return i + special.firstTrue();
+            }
+        }
+        return EscapeScanner.scalarIndexOfEscapeOrNonAscii(bytes, i, to);
+    }
+
+    static int indexOfEscapeOrNonAscii(char[] chars, int from, int to) {
+        int i = from;
+        for (int bound = from + SHORTS.loopBound(to - from); i < bound; i += SHORTS.length()) {
+            ShortVector v = ShortVector.fromCharArray(SHORTS, chars, i);
+            // As shorts, chars from U+8000 up are negative and fall under "< 0x20".
+            VectorMask<Short> special = v.lt((short) 0x20)
+                    .or(v.compare(VectorOperators.GE, (short) 0x80))
+                    .or(v.eq((short) '"'))
+                    .or(v.eq((short) '\\'));
+            if (special.anyTrue()) {
+                return i + special.firstTrue();
+            }
+        }
+        return EscapeScanner.scalarIndexOfEscapeOrNonAscii(chars, i, to);
+    }
+}
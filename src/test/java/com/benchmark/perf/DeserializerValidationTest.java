@@ -0,0 +1,171 @@
+package com.benchmark.perf;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.BinaryEventSerializer;
+import com.benchmark.perf.serializer.CalendarEventDeserializer;
+import com.benchmark.perf.serializer.CalendarEventSerializer;
+import com.benchmark.perf.serializer.DeserializerRegistry;
+import com.benchmark.perf.serializer.SerializerRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.benchmark.perf.EventAssertions.assertEventsEqual;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trip tests: every deserializer must rebuild the events that every
+ * serializer wrote, field for field.
+ */
+class DeserializerValidationTest {
+
+    static Stream<Arguments> deserializers() {
+        return DeserializerRegistry.ALL_DESERIALIZERS.stream()
+                .map(deserializer -> Arguments.of(deserializer.getName(), deserializer));
+    }
+
+    static Stream<Arguments> binarySerializers() {
+        return SerializerRegistry.BINARY_SERIALIZERS.stream()
+                .map(serializer -> Arguments.of(serializer.getName(), serializer));
+    }
+
+    static Stream<Arguments> serializerDeserializerPairs() {
+        return SerializerRegistry.ALL_SERIALIZERS.stream()
+                .flatMap(serializer -> DeserializerRegistry.ALL_DESERIALIZERS.stream()
+                        .map(deserializer -> Arguments.of(serializer.getName() + " -> " + deserializer.getName(),
+                                serializer, deserializer)));
+    }
+
+    @ParameterizedTest(name = "{0} round-trips")
+    @MethodSource("serializerDeserializerPairs")
+    void deserializerRestoresSerializedEvents(String name, CalendarEventSerializer serializer,
+            CalendarEventDeserializer deserializer) {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(40);
+        assertEventsEqual(events, deserializer.deserialize(serializer.serialize(events)), name);
+    }
+
+    @ParameterizedTest(name = "{0} reads String, bytes and stream identically")
+    @MethodSource("deserializers")
+    void deserializerInputFormsAgree(String name, CalendarEventDeserializer deserializer) throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(25);
+        events.get(0).setTitle("Café ✓ 📅 \u0001\u001f \"q\" \\ \b\f\n\r\t");
+        events.get(1).setLocation("Zürich \"HQ\"");
+        String json = SerializerRegistry.getByName("StringBuilder").serialize(events);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        assertEventsEqual(events, deserializer.deserialize(json), name + " String");
+        assertEventsEqual(events, deserializer.deserialize(bytes), name + " byte[]");
+        assertEventsEqual(events, deserializer.deserializeFrom(new ByteArrayInputStream(bytes)), name + " stream");
+    }
+
+    @ParameterizedTest(name = "{0} handles nulls, whitespace and field order")
+    @MethodSource("deserializers")
+    void deserializerHandlesNullsAndLayout(String name, CalendarEventDeserializer deserializer) {
+        String json = "[ {\n  \"status\" : \"TENTATIVE\", \"id\" : \"evt-1\", \"title\" : null,"
+                + " \"description\" : \"A \\u00e9 \\/ \\\"quoted\\\" \\ud83d\\udcc5\","
+                + " \"startTime\" : \"2025-03-01T09:30\", \"endTime\" : \"2025-03-01T10:15:30.25\","
+                + " \"location\" : null, \"attendees\" : [ \"a@x.com\" , \"b@x.com\" ],"
+                + " \"recurrenceRule\" : \"WEEKLY\", \"reminders\" : [ ], \"timezone\" : \"UTC\","
+                + " \"organizerEmail\" : \"a@x.com\" } ]";
+        List<CalendarEvent> parsed = deserializer.deserialize(json);
+
+        assertEquals(1, parsed.size(), name);
+        CalendarEvent event = parsed.get(0);
+        assertEquals("evt-1", event.getId(), name);
+        assertNull(event.getTitle(), name);
+        assertEquals("A é / \"quoted\" 📅", event.getDescription(), name);
+        assertEquals(LocalDateTime.of(2025, 3, 1, 9, 30), event.getStartTime(), name);
+        assertEquals(LocalDateTime.of(2025, 3, 1, 10, 15, 30, 250_000_000), event.getEndTime(), name);
+        assertNull(event.getLocation(), name);
+        assertEquals(List.of("a@x.com", "b@x.com"), new ArrayList<>(event.getAttendees()), name);
+        assertEquals(CalendarEvent.RecurrenceRule.WEEKLY, event.getRecurrenceRule(), name);
+        assertTrue(event.getReminders().isEmpty(), name);
+        assertEquals(CalendarEvent.EventStatus.TENTATIVE, event.getStatus(), name);
+    }
+
+    @ParameterizedTest(name = "{0} reads an empty array")
+    @MethodSource("deserializers")
+    void deserializerHandlesEmptyArray(String name, CalendarEventDeserializer deserializer) {
+        assertTrue(deserializer.deserialize(" [ ] ").isEmpty(), name);
+    }
+
+    @Test
+    void utf8BytesRejectsMalformedInput() {
+        CalendarEventDeserializer deserializer = DeserializerRegistry.getByName("Utf8Bytes");
+        for (String json : Arrays.asList("", "{}", "[", "[{\"id\":\"a\"}", "[{\"id\":\"a}]",
+                "[{\"status\":\"MAYBE\"}]", "[{\"reminders\":[1.5]}]", "[{\"id\":\"a\"}] x",
+                "[{\"id\":\"bad \\q escape\"}]")) {
+            assertThrows(IllegalArgumentException.class, () -> deserializer.deserialize(json), json);
+        }
+    }
+
+    @Test
+    void utf8BytesSkipsUnknownFields() {
+        List<CalendarEvent> parsed = DeserializerRegistry.getByName("Utf8Bytes").deserialize(
+                "[{\"extra\":{\"nested\":[1,true,null,\"s\\\"\"]},\"id\":\"evt-9\",\"n\":-1.5e3}]");
+        assertEquals("evt-9", parsed.get(0).getId());
+    }
+
+    @ParameterizedTest(name = "{0} binary payload round-trips")
+    @MethodSource("binarySerializers")
+    void binarySerializerRoundTrips(String name, BinaryEventSerializer serializer) throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(300);
+        events.get(0).setTitle("Café ✓ 📅 \u0001 \"q\" \\ \n");
+        events.get(1).setLocation(null);
+        events.get(1).setEndTime(LocalDateTime.of(2025, 3, 1, 10, 15, 30, 250_000_000));
+        events.get(2).setAttendees(Arrays.asList("a@x.com", null));
+        events.get(2).setReminders(new ArrayList<>(List.of(-5, 0, 1_000_000)));
+        events.get(3).setStatus(null);
+        byte[] payload = serializer.serialize(events);
+        List<CalendarEvent> expected = DeserializerRegistry.getByName("Utf8Bytes")
+                .deserialize(SerializerRegistry.getByName("Utf8Bytes").serialize(events));
+
+        assertEventsEqual(expected, serializer.deserialize(payload), name + " byte[]");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serializeTo(events, out);
+        assertArrayEquals(payload, out.toByteArray(), name + " stream output differs");
+        assertEventsEqual(expected, serializer.deserializeFrom(new ByteArrayInputStream(payload)), name + " stream");
+        assertTrue(serializer.deserialize(serializer.serialize(List.of())).isEmpty(), name + " empty");
+    }
+
+    @Test
+    void cborReadsIndefiniteLengthsAndSkipsUnknownKeys() {
+        // [_ {_ "x": [1, {"k": h'00'}, 1(0), -2.0], "id": "e", "title": (_ "ab", "c"),
+        //       "reminders": [_ 5, 24]} ]
+        byte[] payload = HexFormat.of().parseHex("9f" + "bf"
+                + "6178" + "84" + "01" + "a1616b4100" + "c100" + "f9c000"
+                + "626964" + "6165"
+                + "657469746c65" + "7f" + "626162" + "6163" + "ff"
+                + "6972656d696e64657273" + "9f" + "05" + "1818" + "ff"
+                + "ff" + "ff");
+        List<CalendarEvent> parsed = SerializerRegistry.getBinaryByName("Cbor").deserialize(payload);
+
+        assertEquals(1, parsed.size());
+        assertEquals("e", parsed.get(0).getId());
+        assertEquals("abc", parsed.get(0).getTitle());
+        assertEquals(List.of(5, 24), parsed.get(0).getReminders());
+        assertNull(parsed.get(0).getDescription());
+    }
+
+    @Test
+    void cborRejectsMalformedInput() {
+        BinaryEventSerializer cbor = SerializerRegistry.getBinaryByName("Cbor");
+        for (String hex : Arrays.asList("", "a0", "81", "81a1", "81a1626964", "81a166737461747573654d41594245",
+                "8000", "81a1647374617274", "9b7fffffffffffffff")) {
+            assertThrows(IllegalArgumentException.class, () -> cbor.deserialize(HexFormat.of().parseHex(hex)), hex);
+        }
+    }
+}
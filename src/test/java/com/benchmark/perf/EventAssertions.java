@@ -0,0 +1,44 @@
+package com.benchmark.perf;
+
+import com.benchmark.perf.model.CalendarEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Field-by-field event comparison. {@code CalendarEvent.equals} looks at the
+ * id only, so comparing lists of events directly would pass any decoder that
+ * gets the ids right.
+ */
+public final class EventAssertions {
+
+    private EventAssertions() {
+    }
+
+    public static void assertEventsEqual(List<CalendarEvent> expected, List<CalendarEvent> actual, String name) {
+        assertEquals(expected.size(), actual.size(), name + " event count");
+        for (int i = 0; i < expected.size(); i++) {
+            CalendarEvent e = expected.get(i);
+            CalendarEvent a = actual.get(i);
+            String where = name + " event " + i;
+            assertEquals(e.getId(), a.getId(), where + " id");
+            assertEquals(e.getTitle(), a.getTitle(), where + " title");
+            assertEquals(e.getDescription(), a.getDescription(), where + " description");
+            assertEquals(e.getStartTime(), a.getStartTime(), where + " startTime");
+            assertEquals(e.getEndTime(), a.getEndTime(), where + " endTime");
+            assertEquals(e.getLocation(), a.getLocation(), where + " location");
+            assertEquals(copy(e.getAttendees()), copy(a.getAttendees()), where + " attendees");
+            assertEquals(e.getRecurrenceRule(), a.getRecurrenceRule(), where + " recurrenceRule");
+            assertEquals(copy(e.getReminders()), copy(a.getReminders()), where + " reminders");
+            assertEquals(e.getTimezone(), a.getTimezone(), where + " timezone");
+            assertEquals(e.getOrganizerEmail(), a.getOrganizerEmail(), where + " organizerEmail");
+            assertEquals(e.getStatus(), a.getStatus(), where + " status");
+        }
+    }
+
+    private static <T> List<T> copy(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+}
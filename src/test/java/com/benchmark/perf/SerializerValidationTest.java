@@ -3,17 +3,42 @@ package com.benchmark.perf;
 import com.benchmark.perf.generator.EventDataGenerator;
 import com.benchmark.perf.model.CalendarEvent;
 import com.benchmark.perf.serializer.CalendarEventSerializer;
+import com.benchmark.perf.serializer.CompressedEventSerializer;
+import com.benchmark.perf.serializer.GeneratedEventSerializer;
+import com.benchmark.perf.serializer.GsonEventDeserializer;
+import com.benchmark.perf.serializer.MappedFileExportWriter;
+import com.benchmark.perf.serializer.ParallelChunkedEventSerializer;
 import com.benchmark.perf.serializer.SerializerRegistry;
+import com.benchmark.perf.serializer.StreamingEventSerializer;
 import com.benchmark.perf.util.JsonUtils;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,6 +52,11 @@ class SerializerValidationTest {
                 .map(serializer -> Arguments.of(serializer.getName(), serializer));
     }
 
+    static Stream<Arguments> streamingSerializers() {
+        return SerializerRegistry.STREAMING_SERIALIZERS.stream()
+                .map(serializer -> Arguments.of(serializer.getName(), serializer));
+    }
+
     @ParameterizedTest(name = "{0} produces valid JSON")
     @MethodSource("serializers")
     void serializerProducesValidJson(String name, CalendarEventSerializer serializer) {
@@ -112,4 +142,206 @@ class SerializerValidationTest {
         assertTrue(JsonUtils.validateJson(json), name + " should handle 1000 events");
         assertEquals(1000, JsonUtils.getArrayLength(json));
     }
+
+    @ParameterizedTest(name = "{0} writes identical bytes to an OutputStream")
+    @MethodSource("serializers")
+    void serializerStreamOutputMatchesString(String name, CalendarEventSerializer serializer) throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(25);
+        events.get(0).setDescription("Unicode caf\u00e9 \u2713 \ud83d\udcc5 with \"quotes\"");
+        String expected = serializer.serialize(events);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serializeTo(events, out);
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8), name + " stream output mismatch");
+    }
+
+    @ParameterizedTest(name = "{0} writes identical bytes to a ByteBuffer and channel")
+    @MethodSource("serializers")
+    void serializerBufferAndChannelOutputMatchesString(String name, CalendarEventSerializer serializer)
+            throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(25);
+        byte[] expected = serializer.serialize(events).getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length + 16);
+        serializer.serializeTo(events, buffer);
+        buffer.flip();
+        byte[] fromBuffer = new byte[buffer.remaining()];
+        buffer.get(fromBuffer);
+        assertArrayEquals(expected, fromBuffer, name + " ByteBuffer output mismatch");
+
+        ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+        serializer.serializeTo(events, Channels.newChannel(channelTarget));
+        assertArrayEquals(expected, channelTarget.toByteArray(), name + " channel output mismatch");
+    }
+
+    @ParameterizedTest(name = "{0} streams an iterator, stream and supplier identically")
+    @MethodSource("streamingSerializers")
+    void streamingSerializerMatchesListOutput(String name, StreamingEventSerializer serializer) throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(200);
+        String expected = SerializerRegistry.getByName(name).serialize(events);
+
+        ByteArrayOutputStream fromIterator = new ByteArrayOutputStream();
+        serializer.serializeTo(events.iterator(), fromIterator);
+        assertEquals(expected, fromIterator.toString(StandardCharsets.UTF_8), name + " iterator output mismatch");
+
+        ByteArrayOutputStream fromStream = new ByteArrayOutputStream();
+        serializer.serializeTo(events.stream(), fromStream);
+        assertEquals(expected, fromStream.toString(StandardCharsets.UTF_8), name + " stream output mismatch");
+
+        Iterator<CalendarEvent> source = events.iterator();
+        ByteArrayOutputStream fromSupplier = new ByteArrayOutputStream();
+        serializer.serializeTo(() -> source.hasNext() ? source.next() : null, fromSupplier);
+        assertEquals(expected, fromSupplier.toString(StandardCharsets.UTF_8), name + " supplier output mismatch");
+    }
+
+    @ParameterizedTest(name = "{0} streams an empty source")
+    @MethodSource("streamingSerializers")
+    void streamingSerializerHandlesEmptySource(String name, StreamingEventSerializer serializer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serializeTo(Stream.<CalendarEvent>empty(), out);
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8), name + " should emit empty array");
+    }
+
+    @ParameterizedTest(name = "{0} exports through mapped windows")
+    @MethodSource("streamingSerializers")
+    void mappedExportMatchesListOutput(String name, StreamingEventSerializer serializer) throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(200);
+        String expected = SerializerRegistry.getByName(name).serialize(events);
+        Path file = Files.createTempFile("mapped-export", ".json");
+        try {
+            // A window far smaller than one event exercises remapping mid-write.
+            MappedFileExportWriter writer = new MappedFileExportWriter(serializer, 100);
+            long size = writer.export(events, file);
+            assertEquals(Files.size(file), size, name + " file not truncated to written size");
+            assertEquals(expected, Files.readString(file), name + " mapped export mismatch");
+
+            writer.export(List.of(), file);
+            assertEquals("[]", Files.readString(file), name + " should shrink the file on re-export");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} compresses to its plain output")
+    @MethodSource("serializers")
+    void compressedModeInflatesToPlainOutput(String name, CalendarEventSerializer serializer) throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(100);
+        byte[] plain = serializer.serialize(events).getBytes(StandardCharsets.UTF_8);
+
+        for (CompressedEventSerializer compressed : List.of(
+                new CompressedEventSerializer(serializer, CompressedEventSerializer.Format.GZIP, 1),
+                new CompressedEventSerializer(serializer, CompressedEventSerializer.Format.DEFLATE, 9))) {
+            byte[] bytes = compressed.serialize(events);
+            InputStream in = compressed.getFormat() == CompressedEventSerializer.Format.GZIP
+                    ? new GZIPInputStream(new ByteArrayInputStream(bytes))
+                    : new InflaterInputStream(new ByteArrayInputStream(bytes));
+            assertArrayEquals(plain, in.readAllBytes(), compressed.getName() + " round trip mismatch");
+            assertTrue(bytes.length * 3 < plain.length, compressed.getName() + " should compress generated data");
+            // Reusing the per-thread deflater must not leak state between calls.
+            assertArrayEquals(bytes, compressed.serialize(events), compressed.getName() + " not repeatable");
+        }
+    }
+
+    @Test
+    void compressedModeCoversRegistryAndValidatesLevel() {
+        assertEquals(SerializerRegistry.ALL_SERIALIZERS.size(),
+                SerializerRegistry.compressed(CompressedEventSerializer.Format.GZIP, 6).size());
+        assertThrows(IllegalArgumentException.class, () -> new CompressedEventSerializer(
+                SerializerRegistry.getByName("Utf8Bytes"), CompressedEventSerializer.Format.GZIP, 10));
+    }
+
+    @ParameterizedTest(name = "parallel chunked stitches {0} events like StringBuilder")
+    @ValueSource(ints = { 0, 1, 7, 8, 9, 31, 100 })
+    void parallelChunkedMatchesSequentialOutput(int eventCount) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            CalendarEventSerializer parallel = new ParallelChunkedEventSerializer(executor, 4, 2);
+            List<CalendarEvent> events = EventDataGenerator.generateEvents(eventCount);
+            String expected = SerializerRegistry.getByName("StringBuilder").serialize(events);
+
+            assertEquals(expected, parallel.serialize(events), eventCount + " events mismatch");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            parallel.serializeTo(events, out);
+            assertEquals(expected, out.toString(StandardCharsets.UTF_8), eventCount + " events stream mismatch");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallelChunkedCancelsForkedRangesWhenFirstRangeFails() {
+        List<Runnable> queued = new ArrayList<>();
+        CalendarEventSerializer parallel = new ParallelChunkedEventSerializer(queued::add, 4, 2);
+        List<CalendarEvent> generated = EventDataGenerator.generateEvents(8);
+        AtomicInteger forkedReads = new AtomicInteger();
+        List<CalendarEvent> events = new AbstractList<>() {
+            @Override
+            public CalendarEvent get(int index) {
+                if (index == 0) {
+                    throw new IllegalStateException("first range failed");
+                }
+                forkedReads.incrementAndGet();
+                return generated.get(index);
+            }
+
+            @Override
+            public int size() {
+                return generated.size();
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> parallel.serialize(events));
+        assertEquals(3, queued.size());
+        queued.forEach(Runnable::run);
+        assertEquals(0, forkedReads.get(), "cancelled ranges must not be encoded");
+    }
+
+    @ParameterizedTest(name = "Utf8Bytes matches StringBuilder output for {0} events")
+    @ValueSource(ints = { 0, 1, 50 })
+    void utf8BytesMatchesStringBuilderOutput(int eventCount) {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(eventCount);
+        if (eventCount > 0) {
+            events.get(0).setTitle("Caf\u00e9 \u2713 \ud83d\udcc5 \u0001\u001f \"q\" \\ \b\f\n\r\t");
+        }
+        String expected = SerializerRegistry.getByName("StringBuilder").serialize(events);
+        assertEquals(expected, SerializerRegistry.getByName("Utf8Bytes").serialize(events));
+    }
+
+    @ParameterizedTest(name = "Generated writer matches Utf8Bytes output for {0} events")
+    @ValueSource(ints = { 0, 1, 50 })
+    void generatedWriterMatchesUtf8BytesOutput(int eventCount) throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(eventCount);
+        if (eventCount > 0) {
+            events.get(0).setTitle("Caf\u00e9 \u2713 \ud83d\udcc5 \u0001\u001f \"q\" \\ \b\f\n\r\t");
+        }
+        String expected = SerializerRegistry.getByName("Utf8Bytes").serialize(events);
+        assertEquals(expected, SerializerRegistry.getByName("Generated").serialize(events));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GeneratedEventSerializer.INSTANCE.serializeTo(events.iterator(), out);
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fragmentCacheInvalidatesOnSetterAndListMutation() {
+        CalendarEventSerializer cached = SerializerRegistry.getByName("FragmentCached");
+        CalendarEventSerializer reference = SerializerRegistry.getByName("Utf8Bytes");
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(5);
+        assertEquals(reference.serialize(events), cached.serialize(events));
+        assertNotNull(events.get(0).cachedFragment(), "fragment should be memoized");
+
+        events.get(1).setTitle("Renamed \"event\"");
+        events.get(2).getAttendees().add("late@company.com");
+        events.get(3).getReminders().set(0, 120);
+        events.get(4).getAttendees().iterator().next();
+        assertNull(events.get(1).cachedFragment(), "setter should invalidate");
+        assertNull(events.get(2).cachedFragment(), "attendee mutation should invalidate");
+        assertNull(events.get(3).cachedFragment(), "reminder mutation should invalidate");
+        assertNotNull(events.get(4).cachedFragment(), "reads should keep the fragment");
+        assertEquals(reference.serialize(events), cached.serialize(events));
+
+        // Gson assigns the list fields reflectively, so their changes would go unseen.
+        List<CalendarEvent> parsed = GsonEventDeserializer.INSTANCE.deserialize(reference.serialize(events));
+        assertEquals(reference.serialize(parsed), cached.serialize(parsed));
+        assertNull(parsed.get(0).cachedFragment(), "untracked lists should not be memoized");
+    }
 }
@@ -0,0 +1,151 @@
+package com.benchmark.perf.codegen;
+
+import com.benchmark.perf.util.Utf8ByteWriter;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the processor through javac on small models, checking the generated
+ * writer's output and the compile errors for unsupported models. Parity on
+ * {@code CalendarEvent} itself is covered by the serializer validation tests.
+ */
+class JsonWriterProcessorTest {
+
+    @Test
+    void generatesWriterForSupportedTypes() throws Exception {
+        Path dir = Files.createTempDirectory("codegen");
+        Path source = write(dir, "demo/Ticket.java", """
+                package demo;
+
+                import com.benchmark.perf.codegen.GenerateJsonWriter;
+                import java.time.LocalDateTime;
+                import java.util.List;
+
+                @GenerateJsonWriter
+                public class Ticket {
+                    public enum Priority { LOW, HIGH }
+
+                    static final int IGNORED = 1;
+                    private transient String cache = "x";
+                    private String name = "a\\"b";
+                    private int count = -7;
+                    private boolean open = true;
+                    private Boolean flagged;
+                    private LocalDateTime due = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+                    private Priority priority = Priority.HIGH;
+                    private List<Integer> scores = java.util.Arrays.asList(1, null);
+                    private List<Priority> history = List.of(Priority.LOW);
+                    private List<String> tags;
+
+                    public String getName() { return name; }
+                    public int getCount() { return count; }
+                    public boolean isOpen() { return open; }
+                    public Boolean getFlagged() { return flagged; }
+                    public LocalDateTime getDue() { return due; }
+                    public Priority getPriority() { return priority; }
+                    public List<Integer> getScores() { return scores; }
+                    public List<Priority> getHistory() { return history; }
+                    public List<String> getTags() { return tags; }
+                }
+                """);
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(dir, source);
+        assertEquals(List.of(), errors);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.resolve("out").toUri().toURL() },
+                getClass().getClassLoader())) {
+            Class<?> model = loader.loadClass("demo.Ticket");
+            Class<?> writerClass = loader.loadClass("demo.TicketJsonWriter");
+            Method write = writerClass.getMethod("write", model, Utf8ByteWriter.class);
+            Utf8ByteWriter out = new Utf8ByteWriter(64);
+            write.invoke(null, model.getConstructor().newInstance(), out);
+
+            assertEquals("{\"name\":\"a\\\"b\",\"count\":-7,\"open\":true,\"flagged\":null,"
+                    + "\"due\":\"2025-01-02T03:04:05\",\"priority\":\"HIGH\",\"scores\":[1,null],"
+                    + "\"history\":[\"LOW\"],\"tags\":null}", out.toString());
+
+            assertEquals(List.of("name", "count", "open", "flagged", "due", "priority", "scores", "history", "tags"),
+                    writerClass.getField("PROPERTIES").get(null));
+            Method writeProperty = writerClass.getMethod("writeProperty", model, int.class, Utf8ByteWriter.class);
+            out.reset();
+            for (int index : new int[] { 6, 0, 3 }) {
+                writeProperty.invoke(null, model.getConstructor().newInstance(), index, out);
+                out.writeByte(' ');
+            }
+            assertEquals("[1,null] \"a\\\"b\" null ", out.toString());
+        }
+    }
+
+    @Test
+    void reportsUnsupportedModels() throws IOException {
+        Path dir = Files.createTempDirectory("codegen");
+        Path source = write(dir, "demo/Broken.java", """
+                package demo;
+
+                import com.benchmark.perf.codegen.GenerateJsonWriter;
+                import java.util.List;
+                import java.util.Map;
+
+                @GenerateJsonWriter
+                public class Broken {
+                    private Map<String, String> labels;
+                    private List<List<String>> nested;
+                    private String hidden;
+
+                    public Map<String, String> getLabels() { return labels; }
+                    public List<List<String>> getNested() { return nested; }
+                    String getHidden() { return hidden; }
+                }
+                """);
+        String messages = compile(dir, source).stream()
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.joining("\n"));
+
+        assertTrue(messages.contains("Unsupported type java.util.Map<java.lang.String,java.lang.String>"
+                + " for property 'labels'"), messages);
+        assertTrue(messages.contains("for property 'nested'"), messages);
+        assertTrue(messages.contains("No public no-argument getter for property 'hidden'"), messages);
+        assertFalse(Files.exists(dir.resolve("out/demo/BrokenJsonWriter.class")));
+    }
+
+    private static Path write(Path dir, String name, String content) throws IOException {
+        Path file = dir.resolve("src").resolve(name);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+
+    /**
+     * @return the error diagnostics
+     */
+    private static List<Diagnostic<? extends JavaFileObject>> compile(Path dir, Path source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path out = Files.createDirectories(dir.resolve("out"));
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    List.of("-d", out.toString(), "-s", out.toString(), "-proc:full",
+                            "-cp", System.getProperty("java.class.path")),
+                    null, files.getJavaFileObjects(source));
+            task.setProcessors(List.of(new JsonWriterProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.benchmark.perf.model;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.serializer.ColumnarEventSerializer;
+import com.benchmark.perf.serializer.SerializerRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conversion and encoding tests for the columnar batch.
+ */
+class CalendarEventBatchTest {
+
+    @Test
+    void roundTripsGeneratedEvents() throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(300);
+        CalendarEventBatch batch = CalendarEventBatch.from(events);
+        String expected = SerializerRegistry.getByName("Utf8Bytes").serialize(events);
+
+        assertEquals(300, batch.size());
+        assertEquals(16, batch.locationDictionary().length, "locations should be dictionary-encoded");
+        assertEquals(expected, SerializerRegistry.getByName("Utf8Bytes").serialize(batch.toEvents()));
+        assertEquals(expected, ColumnarEventSerializer.INSTANCE.serialize(batch));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarEventSerializer.INSTANCE.serializeTo(batch, out);
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void keepsIrregularIdsNullsAndFractions() {
+        CalendarEvent odd = new CalendarEvent("NOT-A-UUID", null, "d\n\"", LocalDateTime.of(-5, 2, 28, 1, 2, 3, 450),
+                null, null, Arrays.asList("a@x.com", null, "a@x.com"), null, new ArrayList<>(List.of(-1, 0)),
+                null, null, null);
+        CalendarEvent upper = new CalendarEvent("123E4567-E89B-12D3-A456-426614174000", "t",
+                null, LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 1), "Room",
+                null, CalendarEvent.RecurrenceRule.DAILY, null, "UTC", "o@x.com", EventStatus.CANCELLED);
+        CalendarEventBatch batch = CalendarEventBatch.from(List.of(odd, upper));
+
+        assertFalse(batch.hasUuidId(0));
+        assertFalse(batch.hasUuidId(1), "non-canonical UUID text must be kept verbatim");
+        List<CalendarEvent> restored = batch.toEvents();
+        CalendarEvent first = restored.get(0);
+        assertEquals("NOT-A-UUID", first.getId());
+        assertNull(first.getTitle());
+        assertEquals(odd.getStartTime(), first.getStartTime());
+        assertNull(first.getEndTime());
+        assertEquals(Arrays.asList("a@x.com", null, "a@x.com"), new ArrayList<>(first.getAttendees()));
+        assertEquals(List.of(-1, 0), new ArrayList<>(first.getReminders()));
+        assertNull(first.getRecurrenceRule());
+        assertNull(first.getStatus());
+
+        CalendarEvent second = restored.get(1);
+        assertEquals(upper.getId(), second.getId());
+        assertTrue(second.getAttendees().isEmpty(), "null lists come back empty");
+        assertEquals(EventStatus.CANCELLED, second.getStatus());
+        assertEquals("Room", second.getLocation());
+    }
+
+    @Test
+    void rejectsNullReminders() {
+        CalendarEvent event = EventDataGenerator.generateEvents(1).get(0);
+        event.setReminders(Arrays.asList(5, null));
+        assertThrows(IllegalArgumentException.class, () -> CalendarEventBatch.from(List.of(event)));
+    }
+}
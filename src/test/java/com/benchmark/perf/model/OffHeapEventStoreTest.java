@@ -0,0 +1,86 @@
+package com.benchmark.perf.model;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.serializer.OffHeapEventSerializer;
+import com.benchmark.perf.serializer.SerializerRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Storage, flyweight and encoding tests for the off-heap event store.
+ */
+class OffHeapEventStoreTest {
+
+    @Test
+    void serializesLikeTheObjectModel() throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(200);
+        events.get(0).setTitle("Café ✓ 📅 \u0001 \"q\" \\ \n\t");
+        // Tiny initial capacities force both buffers to grow.
+        OffHeapEventStore store = new OffHeapEventStore(1, 16);
+        events.forEach(store::append);
+        String expected = SerializerRegistry.getByName("Utf8Bytes").serialize(events);
+
+        assertEquals(expected, OffHeapEventSerializer.INSTANCE.serialize(store));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OffHeapEventSerializer.INSTANCE.serializeTo(store, out);
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+        assertEquals(expected, SerializerRegistry.getByName("Utf8Bytes").serialize(store.toEvents()));
+    }
+
+    @Test
+    void cursorReadsFieldsAndNulls() {
+        CalendarEvent event = new CalendarEvent("evt-1", null, "d", LocalDateTime.of(2025, 5, 6, 7, 8, 9, 10),
+                null, "Room", Arrays.asList("a@x.com", null), null, new ArrayList<>(List.of(15, -5)), "UTC",
+                null, CalendarEvent.EventStatus.CONFIRMED);
+        OffHeapEventStore store = OffHeapEventStore.of(List.of(event, event));
+        OffHeapEventStore.Cursor cursor = store.cursor().at(1);
+
+        assertEquals("evt-1", cursor.getString(OffHeapEventStore.StringField.ID));
+        assertNull(cursor.getString(OffHeapEventStore.StringField.TITLE));
+        assertEquals(event.getStartTime(), cursor.getStartTime());
+        assertNull(cursor.getEndTime());
+        assertEquals(2, cursor.attendeeCount());
+        assertEquals("a@x.com", cursor.getAttendee(0));
+        assertNull(cursor.getAttendee(1));
+        assertEquals(-5, cursor.getReminder(1));
+        assertNull(cursor.getRecurrenceRule());
+        assertEquals(CalendarEvent.EventStatus.CONFIRMED, cursor.getStatus());
+        assertThrows(IndexOutOfBoundsException.class, () -> cursor.at(2));
+        assertTrue(store.usedBytes() >= 2 * OffHeapEventStore.RECORD_SIZE);
+    }
+
+    @Test
+    void rejectsInvalidEventWithoutWritingIt() {
+        OffHeapEventStore store = new OffHeapEventStore(4, 64);
+        CalendarEvent valid = EventDataGenerator.generateEvents(1).get(0);
+        store.append(valid);
+        long usedBytes = store.usedBytes();
+        CalendarEvent invalid = new CalendarEvent("evt-2", "t", "d", null, null, "Room", List.of("a@x.com"), null,
+                Arrays.asList(5, null), "UTC", null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> store.append(invalid));
+        assertEquals(1, store.size());
+        assertEquals(usedBytes, store.usedBytes());
+    }
+
+    @Test
+    void sealedStoreRejectsAppends() {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(3);
+        OffHeapEventStore store = OffHeapEventStore.of(events);
+
+        assertTrue(store.isSealed());
+        assertThrows(IllegalStateException.class, () -> store.append(events.get(0)));
+        assertEquals(events.get(2).getId(), store.cursor().at(2).getString(OffHeapEventStore.StringField.ID));
+        store.seal();
+        assertEquals(3, store.size());
+    }
+}
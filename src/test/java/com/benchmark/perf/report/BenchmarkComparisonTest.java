@@ -0,0 +1,137 @@
+package com.benchmark.perf.report;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BenchmarkComparisonTest {
+
+    private static final String BENCHMARK = "com.benchmark.perf.benchmark.CalendarEventBenchmark.benchmarkGson";
+
+    @Test
+    void identicalRunsAreUnchanged() {
+        JSONArray run = results(result("thrpt", "1000", 100, 101, 99, 100, 102, 98));
+        BenchmarkComparison.Result result = BenchmarkComparison.compare(run, run, 5, 0.05);
+        assertEquals(1, result.comparisons.size());
+        BenchmarkComparison.Comparison comparison = result.comparisons.get(0);
+        assertEquals(BenchmarkComparison.Verdict.UNCHANGED, comparison.verdict);
+        assertEquals(0, comparison.deltaPercent, 1e-9);
+        assertEquals(1, comparison.pValue, 1e-9);
+    }
+
+    @Test
+    void significantThroughputDropIsRegression() {
+        JSONArray baseline = results(result("thrpt", "1000", 100, 101, 99, 100, 102, 98));
+        JSONArray candidate = results(result("thrpt", "1000", 80, 81, 79, 80, 82, 78));
+        BenchmarkComparison.Comparison comparison = BenchmarkComparison.compare(baseline, candidate, 5, 0.05)
+                .comparisons.get(0);
+        assertEquals(BenchmarkComparison.Verdict.REGRESSION, comparison.verdict);
+        assertEquals(-20, comparison.deltaPercent, 1e-9);
+        assertTrue(comparison.pValue < 1e-6);
+        assertTrue(comparison.lowPercent < -20 && comparison.highPercent > -20);
+        assertTrue(comparison.highPercent < 0);
+    }
+
+    @Test
+    void directionFollowsMode() {
+        // Lower average time is better, so the same drop is an improvement.
+        JSONArray baseline = results(result("avgt", "1000", 100, 101, 99, 100, 102, 98));
+        JSONArray candidate = results(result("avgt", "1000", 80, 81, 79, 80, 82, 78));
+        assertEquals(BenchmarkComparison.Verdict.IMPROVEMENT,
+                BenchmarkComparison.compare(baseline, candidate, 5, 0.05).comparisons.get(0).verdict);
+    }
+
+    @Test
+    void noisyDifferenceIsNotSignificant() {
+        JSONArray baseline = results(result("thrpt", "1000", 100, 60, 140, 90, 120, 70));
+        JSONArray candidate = results(result("thrpt", "1000", 90, 50, 130, 80, 110, 60));
+        BenchmarkComparison.Comparison comparison = BenchmarkComparison.compare(baseline, candidate, 5, 0.05)
+                .comparisons.get(0);
+        assertEquals(BenchmarkComparison.Verdict.UNCHANGED, comparison.verdict);
+        assertTrue(comparison.pValue > 0.05);
+    }
+
+    @Test
+    void significantChangeBelowThresholdIsUnchanged() {
+        JSONArray baseline = results(result("thrpt", "1000", 100.0, 100.1, 99.9, 100.0));
+        JSONArray candidate = results(result("thrpt", "1000", 98.0, 98.1, 97.9, 98.0));
+        BenchmarkComparison.Comparison comparison = BenchmarkComparison.compare(baseline, candidate, 5, 0.05)
+                .comparisons.get(0);
+        assertTrue(comparison.pValue < 0.05);
+        assertEquals(BenchmarkComparison.Verdict.UNCHANGED, comparison.verdict);
+    }
+
+    @Test
+    void matchesOnParamsAndListsUnmatchedResults() {
+        JSONArray baseline = results(result("thrpt", "100", 1, 1), result("thrpt", "1000", 1, 1));
+        JSONArray candidate = results(result("thrpt", "1000", 1, 1), result("thrpt", "10000", 1, 1));
+        BenchmarkComparison.Result result = BenchmarkComparison.compare(baseline, candidate, 5, 0.05);
+        assertEquals(1, result.comparisons.size());
+        assertEquals(BENCHMARK + " [thrpt, eventCount=1000]", result.comparisons.get(0).key);
+        assertEquals(1, result.onlyInBaseline.size());
+        assertTrue(result.onlyInBaseline.get(0).contains("eventCount=100]"));
+        assertEquals(1, result.onlyInCandidate.size());
+        assertTrue(result.onlyInCandidate.get(0).contains("eventCount=10000]"));
+    }
+
+    @Test
+    void usesHistogramMeansForSampleTime() {
+        JSONObject metric = new JSONObject()
+                .put("score", 2.0)
+                .put("scoreError", 0.1)
+                .put("scoreUnit", "ms/op")
+                .put("rawDataHistogram", new JSONArray("[[[[1.0, 3], [5.0, 1]], [[2.0, 4]]]]"));
+        BenchmarkComparison.Sample sample = BenchmarkComparison.Sample.of(metric);
+        assertEquals(2, sample.n);
+        assertEquals(2.0, sample.mean, 1e-9);
+        assertTrue(sample.exact);
+    }
+
+    @Test
+    void fallsBackToScoreErrorWithoutRawData() {
+        JSONObject metric = new JSONObject()
+                .put("score", 10.0)
+                .put("scoreError", 3.29)
+                .put("scoreUnit", "ops/ms");
+        BenchmarkComparison.Sample sample = BenchmarkComparison.Sample.of(metric);
+        assertFalse(sample.exact);
+        assertEquals(10.0, sample.mean, 1e-9);
+        assertEquals(1.0, Math.sqrt(sample.meanVariance()), 1e-3);
+    }
+
+    @Test
+    void rejectsDuplicateResults() {
+        JSONArray run = results(result("thrpt", "1000", 1, 1), result("thrpt", "1000", 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkComparison.compare(run, run, 5, 0.05));
+    }
+
+    private static JSONArray results(JSONObject... results) {
+        JSONArray array = new JSONArray();
+        for (JSONObject result : results) {
+            array.put(result);
+        }
+        return array;
+    }
+
+    private static JSONObject result(String mode, String eventCount, double... iterations) {
+        double sum = 0;
+        JSONArray fork = new JSONArray();
+        for (double value : iterations) {
+            sum += value;
+            fork.put(value);
+        }
+        JSONObject metric = new JSONObject()
+                .put("score", sum / iterations.length)
+                .put("scoreError", 0.0)
+                .put("scoreUnit", mode.equals("thrpt") ? "ops/ms" : "ms/op")
+                .put("rawData", new JSONArray().put(fork));
+        return new JSONObject()
+                .put("benchmark", BENCHMARK)
+                .put("mode", mode)
+                .put("threads", 1)
+                .put("params", new JSONObject().put("eventCount", eventCount))
+                .put("primaryMetric", metric);
+    }
+}
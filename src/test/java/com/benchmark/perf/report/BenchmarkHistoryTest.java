@@ -0,0 +1,146 @@
+package com.benchmark.perf.report;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BenchmarkHistoryTest {
+
+    @Test
+    void appendsRunsAndReadsThemBack() throws IOException {
+        Path directory = Files.createTempDirectory("history");
+        try {
+            BenchmarkHistory history = new BenchmarkHistory(directory);
+            history.append(results(100.0, 512.0), metadata("abcdef0123456789"));
+            history.append(results(120.0, 256.0), metadata("fedcba9876543210"));
+
+            List<BenchmarkHistory.Run> runs = history.runs();
+            assertEquals(2, runs.size());
+            assertEquals(1, runs.get(0).id);
+            assertEquals(2, runs.get(1).id);
+            assertEquals("fedcba98", runs.get(1).shortCommit());
+            assertEquals("21.0.1", runs.get(0).jdk);
+            assertEquals("-Xmx8g -Xms8g", runs.get(0).jvmArgs);
+            assertEquals("Test CPU x 8", runs.get(0).cpu);
+            assertEquals("2026-01-02", runs.get(0).date());
+
+            List<JSONArray> results = history.results(List.of(runs.get(1)));
+            JSONObject stored = results.get(0).getJSONObject(0);
+            assertEquals(120.0, stored.getJSONObject("primaryMetric").getDouble("score"));
+            assertEquals(0.0, stored.getJSONObject("primaryMetric").getDouble("scoreError"));
+            assertEquals(256.0, stored.getJSONObject("secondaryMetrics").getJSONObject("gc.alloc.rate.norm")
+                    .getDouble("score"));
+            assertEquals(10.0, stored.getJSONObject("secondaryMetrics").getJSONObject("rawBytes").getDouble("score"));
+            assertEquals(2.5, stored.getJSONObject("secondaryMetrics").getJSONObject("wireBytes").getDouble("score"));
+            assertFalse(stored.getJSONObject("secondaryMetrics").has("gc.count"));
+            assertFalse(stored.getJSONObject("primaryMetric").has("rawData"));
+            assertFalse(stored.has("jvmArgs"));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void unreferencedTailFromInterruptedIngestIsIgnored() throws IOException {
+        Path directory = Files.createTempDirectory("history");
+        try {
+            BenchmarkHistory history = new BenchmarkHistory(directory);
+            history.append(results(100.0, 512.0), metadata("a"));
+            Files.writeString(directory.resolve(BenchmarkHistory.RESULTS_FILE), "[{\"partial",
+                    StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            history.append(results(90.0, 512.0), metadata("b"));
+
+            List<BenchmarkHistory.Run> runs = history.runs();
+            assertEquals(2, runs.size());
+            List<JSONArray> results = history.results(runs);
+            assertEquals(90.0, results.get(1).getJSONObject(0).getJSONObject("primaryMetric").getDouble("score"));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void trendSectionChartsStoredRuns() throws IOException {
+        Path directory = Files.createTempDirectory("history");
+        try {
+            BenchmarkHistory history = new BenchmarkHistory(directory);
+            assertEquals("", HtmlReportGenerator.generateTrendSection(history));
+            history.append(results(100.0, 512.0), metadata("abcdef0123456789"));
+            history.append(results(120.0, 256.0), metadata("fedcba9876543210"));
+
+            String html = HtmlReportGenerator.generateTrendSection(history);
+            assertTrue(html.contains("Trends Across Runs"));
+            assertTrue(html.contains("'2026-01-02 abcdef01', '2026-01-02 fedcba98'"));
+            assertTrue(html.contains("label: 'Gson', data: [100.0, 120.0]"));
+            assertTrue(html.contains("label: 'Gson', data: [512.0, 256.0]"));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void samplingKeepsFirstAndLatestRuns() {
+        List<BenchmarkHistory.Run> runs = new ArrayList<>();
+        for (int i = 1; i <= 5_000; i++) {
+            runs.add(new BenchmarkHistory.Run(new JSONObject().put("id", i).put("offset", 0).put("length", 0)));
+        }
+        List<BenchmarkHistory.Run> sampled = BenchmarkHistory.sample(runs, HtmlReportGenerator.MAX_TREND_RUNS);
+        assertEquals(HtmlReportGenerator.MAX_TREND_RUNS, sampled.size());
+        assertEquals(1, sampled.get(0).id);
+        assertEquals(5_000, sampled.get(sampled.size() - 1).id);
+        for (int i = 1; i < sampled.size(); i++) {
+            assertTrue(sampled.get(i).id > sampled.get(i - 1).id);
+        }
+        assertSame(runs, BenchmarkHistory.sample(runs, 10_000));
+    }
+
+    private static JSONObject metadata(String commit) {
+        return new JSONObject()
+                .put("timestamp", "2026-01-02T03:04:05Z")
+                .put("commit", commit)
+                .put("cpu", "Test CPU x 8");
+    }
+
+    private static JSONArray results(double score, double allocBytes) {
+        JSONObject result = new JSONObject()
+                .put("benchmark", "com.benchmark.perf.benchmark.CalendarEventBenchmark.benchmarkGson")
+                .put("mode", "thrpt")
+                .put("threads", 1)
+                .put("jdkVersion", "21.0.1")
+                .put("vmName", "OpenJDK 64-Bit Server VM")
+                .put("vmVersion", "21.0.1+12")
+                .put("jvmArgs", new JSONArray().put("-Xmx8g").put("-Xms8g"))
+                .put("params", new JSONObject().put("eventCount", "1000"))
+                .put("primaryMetric", new JSONObject()
+                        .put("score", score)
+                        .put("scoreError", "NaN")
+                        .put("scoreUnit", "ops/ms")
+                        .put("rawData", new JSONArray().put(new JSONArray().put(score))))
+                .put("secondaryMetrics", new JSONObject()
+                        .put("gc.alloc.rate.norm", new JSONObject().put("score", allocBytes).put("scoreUnit", "B/op"))
+                        .put("gc.count", new JSONObject().put("score", 3).put("scoreUnit", "counts"))
+                        .put("wireBytes", new JSONObject().put("score", 2.5).put("scoreUnit", "#/ms"))
+                        .put("rawBytes", new JSONObject().put("score", 10.0).put("scoreUnit", "#/ms")));
+        return new JSONArray().put(result);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.model.CalendarEvent.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tape indexing, lazy field decoding and verbatim re-emission.
+ */
+class CalendarEventViewTest {
+
+    @Test
+    void decodesLikeTheFullParser() {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(200);
+        events.get(0).setTitle("Café ✓ 📅 \u0001 \"q\" \\ \n\t");
+        byte[] json = StringBuilderEventSerializer.INSTANCE.serialize(events).getBytes(StandardCharsets.UTF_8);
+        EventTape tape = EventTape.index(json);
+        CalendarEventView view = tape.view();
+
+        assertEquals(events.size(), tape.size());
+        List<CalendarEvent> viewed = new ArrayList<>();
+        for (int i = 0; i < tape.size(); i++) {
+            viewed.add(view.at(i).toEvent());
+        }
+        String expected = SerializerRegistry.getByName("Utf8Bytes")
+                .serialize(Utf8ByteEventDeserializer.INSTANCE.deserialize(json));
+        assertEquals(expected, SerializerRegistry.getByName("Utf8Bytes").serialize(viewed));
+
+        view.at(7);
+        assertEquals(events.get(7).getId(), view.getId());
+        assertEquals(events.get(7).getStartTime(), view.getStartTime());
+        assertEquals(events.get(7).getStatus(), view.getStatus());
+        assertEquals(7, view.index());
+    }
+
+    @Test
+    void reEmitsOriginalBytes() throws IOException {
+        String first = "{ \"id\" : \"a\", \"extra\": {\"nested\": [1, 2.5e3, true, null]}, \"title\": \"x\\u00e9\" }";
+        String second = "{\"status\":\"CANCELLED\"}";
+        EventTape tape = EventTape.index(" [" + first + ",\n" + second + "] ");
+        CalendarEventView view = tape.view();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        view.at(0).writeTo(out);
+        assertEquals(first, out.toString(StandardCharsets.UTF_8));
+        assertEquals(first.length(), view.rawLength());
+        assertEquals("xé", view.getTitle());
+
+        out.reset();
+        view.at(1).writeTo(out);
+        assertEquals(second, out.toString(StandardCharsets.UTF_8));
+        assertEquals(EventStatus.CANCELLED, view.getStatus());
+    }
+
+    @Test
+    void readsMissingAndNullFieldsAsNull() {
+        EventTape tape = EventTape.index("[{\"id\":\"evt-1\",\"title\":null,\"startTime\":\"2025-05-06T07:08:09\","
+                + "\"endTime\":null,\"attendees\":[\"a@x.com\",null],\"recurrenceRule\":\"DAILY\","
+                + "\"reminders\":[15,-5],\"status\":null}]");
+        CalendarEventView view = tape.view().at(0);
+
+        assertEquals(LocalDateTime.of(2025, 5, 6, 7, 8, 9), view.getStartTime());
+        assertNull(view.getTitle());
+        assertNull(view.getEndTime());
+        assertNull(view.getStatus());
+        assertEquals(Arrays.asList("a@x.com", null), view.getAttendees());
+        assertEquals(List.of(15, -5), view.getReminders());
+        assertEquals(RecurrenceRule.DAILY, view.getRecurrenceRule());
+
+        CalendarEventView sparse = EventTape.index("[{\"id\":\"b\",\"id\":\"c\"}]").view().at(0);
+        assertEquals("c", sparse.getId());
+        assertNull(sparse.getLocation());
+        assertNull(sparse.getAttendees());
+    }
+
+    @Test
+    void rejectsMalformedStructureWhenIndexing() {
+        assertEquals(0, EventTape.index("[]").size());
+        assertThrows(IllegalArgumentException.class, () -> EventTape.index("[{\"id\":\"a\"}"));
+        assertThrows(IllegalArgumentException.class, () -> EventTape.index("[{\"id\":\"a\\q\"}]"));
+        assertThrows(IllegalArgumentException.class, () -> EventTape.index("[{\"id\":\"a\"}] x"));
+        assertThrows(IllegalArgumentException.class, () -> EventTape.index("{\"id\":\"a\"}"));
+    }
+
+    @Test
+    void rejectsMistypedValuesOnAccess() {
+        CalendarEventView view = EventTape.index("[{\"id\":1,\"status\":\"LATE\",\"title\":\"ok\"}]").view();
+        assertThrows(IllegalStateException.class, view::getTitle);
+        view.at(0);
+        assertEquals("ok", view.getTitle());
+        assertThrows(IllegalArgumentException.class, view::getId);
+        assertThrows(IllegalArgumentException.class, view::getStatus);
+        assertThrows(IndexOutOfBoundsException.class, () -> view.at(1));
+    }
+}
@@ -0,0 +1,109 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import com.benchmark.perf.model.CalendarEvent.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static com.benchmark.perf.EventAssertions.assertEventsEqual;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Wire compatibility for the compact format. The golden file was written by
+ * version 1 of the encoder; any change to its bytes is a format change and
+ * needs a new version, not an updated golden file.
+ */
+class CompactBinaryEventSerializerTest {
+
+    private static final String GOLDEN = "/golden/compact-events-v1.bin";
+
+    static List<CalendarEvent> goldenEvents() {
+        CalendarEvent full = new CalendarEvent("123e4567-e89b-12d3-a456-426614174000", "Standup ✓",
+                "Daily \"sync\" 📅", LocalDateTime.of(2025, 3, 1, 9, 30),
+                LocalDateTime.of(2025, 3, 1, 9, 45, 30, 500_000_000), "Room 1",
+                new ArrayList<>(List.of("a@x.com", "b@x.com")), RecurrenceRule.WEEKLY,
+                new ArrayList<>(List.of(5, 15, -10)), "UTC", "a@x.com", EventStatus.CONFIRMED);
+        CalendarEvent sparse = new CalendarEvent("evt-2", null, "", LocalDateTime.of(1969, 12, 31, 23, 0), null,
+                "Room 1", Arrays.asList("b@x.com", null, "c@x.com"), null, new ArrayList<>(),
+                "Europe/Zürich", null, EventStatus.TENTATIVE);
+        CalendarEvent empty = new CalendarEvent(null, null, null, null, null, null, null, null, null, null, null,
+                null);
+        return List.of(full, sparse, empty);
+    }
+
+    @Test
+    void encodesGoldenBytes() throws IOException {
+        assertEquals(HexFormat.of().formatHex(readGolden()),
+                HexFormat.of().formatHex(CompactBinaryEventSerializer.INSTANCE.serialize(goldenEvents())));
+    }
+
+    @Test
+    void decodesGoldenBytes() throws IOException {
+        assertEventsEqual(goldenEvents(), CompactBinaryEventSerializer.INSTANCE.deserialize(readGolden()), "golden");
+    }
+
+    @Test
+    void goldenLayoutMatchesSpec() throws IOException {
+        byte[] golden = readGolden();
+        // Magic, version 1, three events, then the first event's presence
+        // varint (all twelve bits: 0xFF 0x1F) and UUID id kind 0.
+        assertEquals("4345564201" + "03" + "ff1f" + "00" + "123e4567e89b12d3" + "a456426614174000",
+                HexFormat.of().formatHex(golden, 0, 25));
+        // The empty event is a single zero presence byte at the very end.
+        assertEquals(0, golden[golden.length - 1]);
+    }
+
+    @Test
+    void stringTableShrinksRepeatedEmails() {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(500);
+        int compact = CompactBinaryEventSerializer.INSTANCE.serialize(events).length;
+        int json = SerializerRegistry.getByName("Utf8Bytes").serialize(events).getBytes(StandardCharsets.UTF_8).length;
+        assertTrue(compact * 2 < json, "compact " + compact + " vs JSON " + json);
+    }
+
+    @Test
+    void rejectsMalformedPayloads() {
+        for (String hex : Arrays.asList(
+                "", // empty
+                "43455642", // no version
+                "4345564202", // unknown version
+                "434556420101", // count of one, no event
+                "43455642010200", // count of two, one event
+                "434556420101ff3f", // unknown presence bit
+                "434556420101080100", // start time flags a zero nano
+                "434556420101400102", // attendee refers past the string table
+                "434556420101800109", // recurrence ordinal out of range
+                "43455642010180020903", // reminders run past the end
+                "434556420101010200", // id kind 2
+                "43455642010102ffffffffffffffffff01", // title length has bit 63 set
+                "43455642010140ffffffffffffffffff01", // attendee count has bit 63 set
+                "4345564201014001ffffffffffffffffff01")) { // attendee ref has bit 63 set
+            assertThrows(IllegalArgumentException.class,
+                    () -> CompactBinaryEventSerializer.INSTANCE.deserialize(HexFormat.of().parseHex(hex)), hex);
+        }
+    }
+
+    @Test
+    void rejectsNullReminder() {
+        CalendarEvent event = goldenEvents().get(0);
+        event.setReminders(Arrays.asList(5, null));
+        assertThrows(IllegalArgumentException.class, () -> CompactBinaryEventSerializer.INSTANCE.serialize(List.of(event)));
+    }
+
+    private static byte[] readGolden() throws IOException {
+        try (InputStream in = CompactBinaryEventSerializerTest.class.getResourceAsStream(GOLDEN)) {
+            assertNotNull(in, GOLDEN + " missing");
+            return in.readAllBytes();
+        }
+    }
+}
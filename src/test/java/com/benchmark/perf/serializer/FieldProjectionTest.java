@@ -0,0 +1,116 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.serializer.FieldProjection.Field;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Projection plans and projected output of the serializers that support
+ * them.
+ */
+class FieldProjectionTest {
+
+    private static final List<CalendarEventSerializer> PROJECTING = SerializerRegistry.PROJECTING_SERIALIZERS;
+
+    @Test
+    void compilesToCanonicalOrder() {
+        FieldProjection projection = FieldProjection.parse(" startTime, id ,title,id");
+
+        assertEquals("id,title,startTime", projection.toString());
+        assertEquals(List.of("id", "title", "startTime"), projection.jsonNames());
+        assertEquals(FieldProjection.of(Field.TITLE, Field.START_TIME, Field.ID), projection);
+        assertTrue(projection.includes(Field.START_TIME));
+        assertFalse(projection.includes(Field.DESCRIPTION));
+        assertFalse(projection.isAll());
+        assertSame(FieldProjection.ALL, FieldProjection.of(Field.values()));
+    }
+
+    @Test
+    void rejectsUnknownAndEmptyFieldLists() {
+        assertThrows(IllegalArgumentException.class, () -> FieldProjection.parse("id,colour"));
+        assertThrows(IllegalArgumentException.class, () -> FieldProjection.parse(" , "));
+        assertThrows(IllegalArgumentException.class, FieldProjection::of);
+    }
+
+    @Test
+    void writesOnlySelectedFields() throws IOException {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(50);
+        events.get(0).setTitle("Café ✓ 📅 \u0001 \"q\" \\ \n\t");
+        for (String fields : List.of("id", "id,title,startTime", "id,title,startTime,endTime,location,status",
+                "attendees,reminders,recurrenceRule,organizerEmail,timezone,description")) {
+            FieldProjection projection = FieldProjection.parse(fields);
+            for (CalendarEventSerializer serializer : PROJECTING) {
+                assertTrue(serializer.supportsProjection());
+                String projected = serializer.serialize(events, projection);
+                assertTrue(project(serializer.serialize(events), projection).similar(new JSONArray(projected)),
+                        serializer.getName() + " " + fields);
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                serializer.serializeTo(events, projection, out);
+                assertEquals(projected, out.toString(StandardCharsets.UTF_8), serializer.getName() + " " + fields);
+            }
+            String expected = Utf8ByteEventSerializer.INSTANCE.serialize(events, projection);
+            for (CalendarEventSerializer serializer : List.of(StringBuilderEventSerializer.INSTANCE,
+                    ParallelChunkedEventSerializer.INSTANCE, FragmentCachingEventSerializer.INSTANCE,
+                    ColumnarEventSerializer.INSTANCE, GeneratedEventSerializer.INSTANCE)) {
+                assertEquals(expected, serializer.serialize(events, projection), serializer.getName());
+            }
+        }
+    }
+
+    @Test
+    void allTakesTheFullPath() {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(5);
+        for (CalendarEventSerializer serializer : PROJECTING) {
+            assertEquals(serializer.serialize(events), serializer.serialize(events, FieldProjection.ALL));
+        }
+    }
+
+    @Test
+    void parallelChunkedProjectsEveryRange() {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(1_000);
+        FieldProjection projection = FieldProjection.parse("id,attendees,status");
+        ParallelChunkedEventSerializer parallel = new ParallelChunkedEventSerializer(Runnable::run, 4, 100);
+
+        assertEquals(StringBuilderEventSerializer.INSTANCE.serialize(events, projection),
+                parallel.serialize(events, projection));
+    }
+
+    @Test
+    void otherSerializersOnlyAcceptAll() {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(5);
+        for (CalendarEventSerializer serializer : SerializerRegistry.ALL_SERIALIZERS) {
+            if (PROJECTING.contains(serializer)) {
+                continue;
+            }
+            assertFalse(serializer.supportsProjection(), serializer.getName());
+            assertEquals(serializer.serialize(events), serializer.serialize(events, FieldProjection.ALL));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> serializer.serialize(events, FieldProjection.parse("id")));
+        }
+    }
+
+    private static JSONArray project(String json, FieldProjection projection) {
+        JSONArray full = new JSONArray(json);
+        JSONArray projected = new JSONArray();
+        for (int i = 0; i < full.length(); i++) {
+            JSONObject event = full.getJSONObject(i);
+            JSONObject kept = new JSONObject();
+            for (String name : projection.jsonNames()) {
+                kept.put(name, event.opt(name));
+            }
+            projected.put(kept);
+        }
+        return projected;
+    }
+}
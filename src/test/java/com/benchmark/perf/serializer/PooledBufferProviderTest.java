@@ -0,0 +1,151 @@
+package com.benchmark.perf.serializer;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.model.CalendarEvent;
+import com.benchmark.perf.util.Utf8ByteWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledBufferProviderTest {
+
+    @Test
+    void releasedBufferIsReusedEmpty() {
+        PooledBufferProvider pool = new PooledBufferProvider(1, 2, 1 << 20);
+        StringBuilder first = pool.acquire(BufferType.STRING_BUILDER);
+        first.append("leftover");
+        pool.release(BufferType.STRING_BUILDER, first);
+        assertEquals(1, pool.idleCount(BufferType.STRING_BUILDER));
+
+        StringBuilder second = pool.acquire(BufferType.STRING_BUILDER);
+        assertSame(first, second);
+        assertEquals(0, second.length());
+        assertEquals(0, pool.idleCount(BufferType.STRING_BUILDER));
+    }
+
+    @Test
+    void oversizedBufferIsShrunkToTheCapOnRelease() {
+        PooledBufferProvider pool = new PooledBufferProvider(1, 2, 64 * 1024);
+        Utf8ByteWriter writer = pool.acquire(BufferType.UTF8_WRITER);
+        writer.writeBytes(new byte[100_000]);
+        pool.release(BufferType.UTF8_WRITER, writer);
+        assertEquals(1, pool.idleCount(BufferType.UTF8_WRITER));
+
+        Utf8ByteWriter shrunk = pool.acquire(BufferType.UTF8_WRITER);
+        assertNotSame(writer, shrunk);
+        assertEquals(64 * 1024, shrunk.capacity());
+        assertEquals(0, shrunk.size());
+
+        StringBuilder builder = pool.acquire(BufferType.STRING_BUILDER);
+        builder.append("x".repeat(100_000));
+        pool.release(BufferType.STRING_BUILDER, builder);
+        assertEquals(64 * 1024, pool.acquire(BufferType.STRING_BUILDER).capacity());
+    }
+
+    @Test
+    void deflatersCountTowardsRetainedSizeAndAreEndedWhenDropped() throws IOException {
+        PooledBufferProvider pool = new PooledBufferProvider(1, 1, 1 << 20);
+        DeflatingOutputStream stream = pool.acquire(BufferType.DEFLATING_STREAM);
+        for (int level : new int[] { 1, 6, 9 }) {
+            compress(stream, level);
+        }
+        assertTrue(BufferType.DEFLATING_STREAM.retainedSize(stream) > 3 * DeflatingOutputStream.DEFLATER_NATIVE_BYTES);
+        pool.release(BufferType.DEFLATING_STREAM, stream);
+        assertEquals(1, pool.idleCount(BufferType.DEFLATING_STREAM));
+
+        DeflatingOutputStream pooled = pool.acquire(BufferType.DEFLATING_STREAM);
+        assertSame(stream, pooled);
+        compress(pooled, 3);
+        compress(pooled, 0);
+        pool.release(BufferType.DEFLATING_STREAM, pooled);
+        assertEquals(0, pool.idleCount(BufferType.DEFLATING_STREAM));
+        assertEquals(BufferType.DEFLATING_STREAM.retainedSize(new DeflatingOutputStream()),
+                BufferType.DEFLATING_STREAM.retainedSize(pooled));
+
+        DeflatingOutputStream first = pool.acquire(BufferType.DEFLATING_STREAM);
+        DeflatingOutputStream second = pool.acquire(BufferType.DEFLATING_STREAM);
+        compress(first, 6);
+        compress(second, 6);
+        pool.release(BufferType.DEFLATING_STREAM, first);
+        pool.release(BufferType.DEFLATING_STREAM, second);
+        assertEquals(1, pool.idleCount(BufferType.DEFLATING_STREAM));
+        assertEquals(BufferType.DEFLATING_STREAM.retainedSize(new DeflatingOutputStream()),
+                BufferType.DEFLATING_STREAM.retainedSize(second));
+    }
+
+    @Test
+    void idleBuffersAreBoundedAcrossManyThreads() throws Exception {
+        PooledBufferProvider pool = new PooledBufferProvider(4, 2, 1 << 20);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                byte[] chunk = pool.acquire(BufferType.ENCODE_CHUNK);
+                Thread.yield();
+                pool.release(BufferType.ENCODE_CHUNK, chunk);
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(8, pool.capacityPerType());
+        assertTrue(pool.idleCount(BufferType.ENCODE_CHUNK) <= 8);
+        assertTrue(pool.idleCount(BufferType.ENCODE_CHUNK) > 0);
+    }
+
+    @Test
+    void threadLocalProviderHandsOutDistinctBuffersWhenNested() {
+        BufferProvider provider = ThreadLocalBufferProvider.INSTANCE;
+        StringBuilder outer = provider.acquire(BufferType.STRING_BUILDER);
+        StringBuilder inner = provider.acquire(BufferType.STRING_BUILDER);
+        assertNotSame(outer, inner);
+        provider.release(BufferType.STRING_BUILDER, inner);
+        provider.release(BufferType.STRING_BUILDER, outer);
+        assertSame(outer, provider.acquire(BufferType.STRING_BUILDER));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledBufferProvider(0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new PooledBufferProvider(1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> BufferProviders.getByName("Unknown"));
+        assertSame(ThreadLocalBufferProvider.INSTANCE, BufferProviders.getByName("threadlocal"));
+    }
+
+    @Test
+    void concurrentSerializationOnVirtualThreadsMatchesSequentialOutput() throws Exception {
+        List<CalendarEvent> events = EventDataGenerator.generateEvents(50);
+        for (BufferProvider provider : BufferProviders.ALL_PROVIDERS) {
+            BufferProvider previous = BufferProviders.get();
+            BufferProviders.set(provider);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (CalendarEventSerializer serializer : SerializerRegistry.ALL_SERIALIZERS) {
+                    String expected = serializer.serialize(events);
+                    List<Future<String>> results = new ArrayList<>();
+                    for (int i = 0; i < 64; i++) {
+                        results.add(executor.submit(() -> serializer.serialize(events)));
+                    }
+                    for (Future<String> result : results) {
+                        assertEquals(expected, result.get(), provider.getName() + " " + serializer.getName());
+                    }
+                }
+            } finally {
+                BufferProviders.set(previous);
+            }
+        }
+    }
+
+    private static void compress(DeflatingOutputStream stream, int level) throws IOException {
+        stream.start(new ByteArrayOutputStream(), CompressedEventSerializer.Format.GZIP, level);
+        stream.write(new byte[] { 'j', 's', 'o', 'n' });
+        stream.finish();
+        stream.release();
+    }
+}
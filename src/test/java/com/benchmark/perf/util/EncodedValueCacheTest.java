@@ -0,0 +1,64 @@
+package com.benchmark.perf.util;
+
+import com.benchmark.perf.model.CalendarEvent.EventStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bounded pre-encoded value dictionary.
+ */
+class EncodedValueCacheTest {
+
+    @Test
+    void cachedEncodingMatchesInlineEncoding() {
+        EncodedValueCache cache = new EncodedValueCache(16, 64);
+        for (String value : new String[] { "Conference Room A", "Café \"Zoë\"", "Tab\there", "" }) {
+            for (int i = 0; i < 2; i++) {
+                Utf8ByteWriter cached = new Utf8ByteWriter(8);
+                cache.writeQuoted(value, cached);
+                Utf8ByteWriter inline = new Utf8ByteWriter(8);
+                inline.writeQuotedString(value);
+                assertEquals(inline.toString(), cached.toString());
+            }
+        }
+        EncodedValueCache.Stats stats = cache.stats();
+        assertEquals(4, stats.misses());
+        assertEquals(4, stats.hits());
+        assertEquals(0.5, stats.hitRatio(), 1e-9);
+        assertTrue(stats.footprintBytes() > 0);
+    }
+
+    @Test
+    void enumsAndNullsAreEncodedDirectly() {
+        Utf8ByteWriter out = new Utf8ByteWriter(8);
+        EncodedValueCache.writeQuoted(EventStatus.TENTATIVE, out);
+        out.writeByte(',');
+        new EncodedValueCache(4, 64).writeQuoted((String) null, out);
+        assertEquals("\"TENTATIVE\",null", out.toString());
+    }
+
+    @Test
+    void longValuesBypassTheCache() {
+        EncodedValueCache cache = new EncodedValueCache(16, 8);
+        cache.writeQuoted("this value is too long to cache", new Utf8ByteWriter(64));
+        assertEquals(1, cache.stats().bypasses());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void evictionKeepsSizeBoundedAndFavoursReferencedEntries() {
+        EncodedValueCache cache = new EncodedValueCache(100, 64);
+        Utf8ByteWriter out = new Utf8ByteWriter(64);
+        cache.writeQuoted("hot", out);
+        for (int i = 0; i < 1_000; i++) {
+            cache.writeQuoted("hot", out);
+            cache.writeQuoted("value-" + i, out);
+            out.reset();
+        }
+        EncodedValueCache.Stats stats = cache.stats();
+        assertTrue(stats.size() <= 100, "size should stay bounded: " + stats.size());
+        assertTrue(stats.evictions() > 0);
+        assertEquals(1, stats.misses() - 1_000, "hot value should never be evicted");
+    }
+}
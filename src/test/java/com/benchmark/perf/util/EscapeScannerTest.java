@@ -0,0 +1,89 @@
+package com.benchmark.perf.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the vector kernels against the scalar reference loops, and the
+ * writer's vector path against plain escaping.
+ */
+class EscapeScannerTest {
+
+    private static final String[] SPECIALS = { "\"", "\\", "\n", "\t", "\u0000", "\u001f", "é", "€", "📅" };
+
+    @Test
+    void vectorKernelsMatchScalarAtEveryOffset() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            String text = randomText(random, random.nextInt(300), random.nextInt(4) * 0.02);
+            char[] chars = text.toCharArray();
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            for (int from = 0; from <= Math.min(chars.length, 70); from++) {
+                assertEquals(EscapeScanner.scalarIndexOfEscapeOrNonAscii(chars, from, chars.length),
+                        VectorEscapeKernels.indexOfEscapeOrNonAscii(chars, from, chars.length), text);
+                assertEquals(EscapeScanner.scalarIndexOfEscapeOrNonAscii(chars, from, chars.length),
+                        EscapeScanner.indexOfEscapeOrNonAscii(chars, from, chars.length), text);
+                assertEquals(EscapeScanner.scalarIndexOfEscapeOrNonAscii(chars, from, chars.length),
+                        EscapeScanner.indexOfEscapeOrNonAscii(text, from, chars.length), text);
+            }
+            for (int from = 0; from <= Math.min(bytes.length, 70); from++) {
+                assertEquals(EscapeScanner.scalarIndexOfEscapeOrNonAscii(bytes, from, bytes.length),
+                        VectorEscapeKernels.indexOfEscapeOrNonAscii(bytes, from, bytes.length), text);
+            }
+        }
+    }
+
+    @Test
+    void everySpecialIsFoundInEveryLane() {
+        for (String special : SPECIALS) {
+            for (int position = 0; position < 100; position++) {
+                char[] chars = ("a".repeat(position) + special + "a".repeat(100)).toCharArray();
+                assertEquals(position, VectorEscapeKernels.indexOfEscapeOrNonAscii(chars, 0, chars.length));
+
+                byte[] bytes = new String(chars).getBytes(StandardCharsets.UTF_8);
+                assertEquals(position, VectorEscapeKernels.indexOfEscapeOrNonAscii(bytes, 0, bytes.length));
+            }
+        }
+        // DEL is ASCII and needs no escaping.
+        char[] clean = " ~azAZ09!#[]{}/\u007f".repeat(10).toCharArray();
+        assertEquals(clean.length, VectorEscapeKernels.indexOfEscapeOrNonAscii(clean, 0, clean.length));
+        assertEquals(12, VectorEscapeKernels.indexOfEscapeOrNonAscii(clean, 3, 12));
+    }
+
+    @Test
+    void writerMatchesScalarEscaping() {
+        Random random = new Random(7);
+        Utf8ByteWriter writer = new Utf8ByteWriter(16);
+        for (int round = 0; round < 500; round++) {
+            String text = randomText(random, random.nextInt(2_000), random.nextInt(4) * 0.02);
+            writer.reset();
+            writer.writeEscaped(text);
+            assertEquals(JsonUtils.escapeJson(text), writer.toString());
+            // Not a String, so always the scalar path with a char-by-char copy.
+            writer.reset();
+            writer.writeEscaped(new StringBuilder(text));
+            assertEquals(JsonUtils.escapeJson(text), writer.toString());
+        }
+        // A surrogate pair straddling the writer's 512-char chunk boundary.
+        String straddle = "x".repeat(511) + "📅" + "y".repeat(600);
+        writer.reset();
+        writer.writeEscaped(straddle);
+        assertArrayEquals(straddle.getBytes(StandardCharsets.UTF_8), writer.toByteArray());
+    }
+
+    private static String randomText(Random random, int length, double specialDensity) {
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            if (random.nextDouble() < specialDensity) {
+                text.append(SPECIALS[random.nextInt(SPECIALS.length)]);
+            } else {
+                text.append((char) (' ' + random.nextInt(95)));
+            }
+        }
+        return text.toString();
+    }
+}
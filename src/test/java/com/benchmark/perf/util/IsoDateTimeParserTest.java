@@ -0,0 +1,57 @@
+package com.benchmark.perf.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Equivalence tests for IsoDateTimeParser against LocalDateTime.parse.
+ */
+class IsoDateTimeParserTest {
+
+    @Test
+    void parsesEveryDayAndFractionShape() {
+        for (LocalDate date = LocalDate.of(1999, 1, 1); date.getYear() <= 2029; date = date.plusDays(1)) {
+            assertRoundTrips(date.atTime(23, 59, 7));
+        }
+        for (int nano : new int[] { 0, 100_000_000, 120_000_000, 123_456_000, 1, 999_999_999 }) {
+            assertRoundTrips(LocalDateTime.of(2025, 6, 30, 0, 0, 0, nano));
+        }
+        assertRoundTrips(LocalDateTime.of(-44, 3, 15, 12, 0));
+        assertRoundTrips(LocalDateTime.of(12345, 1, 1, 0, 0, 1));
+    }
+
+    @Test
+    void acceptsOptionalSecondsLikeTheFormatter() {
+        assertEquals(LocalDateTime.of(2025, 1, 2, 3, 4), parseBytes("2025-01-02T03:04"));
+        assertEquals(LocalDateTime.of(2025, 1, 2, 3, 4, 5), parseBytes("2025-01-02T03:04:05"));
+    }
+
+    @Test
+    void rejectsWhatTheFormatterRejects() {
+        for (String text : new String[] { "2025-02-29T00:00", "2024-13-01T00:00", "2025-01-01T24:00",
+                "2025-01-01 00:00", "2025-1-01T00:00:00", "2025-01-01T00:00:0x" }) {
+            assertThrows(DateTimeParseException.class, () -> parseBytes(text), text);
+            assertThrows(DateTimeParseException.class, () -> IsoDateTimeParser.parse(text.toCharArray(), 0,
+                    text.length()), text);
+        }
+    }
+
+    private static void assertRoundTrips(LocalDateTime value) {
+        String text = IsoDateTimeWriter.format(value);
+        assertEquals(value, parseBytes(text), text);
+        assertEquals(value, IsoDateTimeParser.parse(text), text);
+        char[] padded = ("  " + text).toCharArray();
+        assertEquals(value, IsoDateTimeParser.parse(padded, 2, text.length()), text);
+    }
+
+    private static LocalDateTime parseBytes(String text) {
+        byte[] padded = ("xx" + text + "yy").getBytes(StandardCharsets.UTF_8);
+        return IsoDateTimeParser.parse(padded, 2, text.length());
+    }
+}
@@ -0,0 +1,91 @@
+package com.benchmark.perf.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Equivalence tests for IsoDateTimeWriter against the JDK
+ * ISO_LOCAL_DATE_TIME formatter.
+ */
+class IsoDateTimeWriterTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    @Test
+    void matchesFormatterForEveryDayAcrossYearBoundaries() {
+        LocalTime time = LocalTime.of(9, 30);
+        for (LocalDate date = LocalDate.of(-1, 1, 1); date.getYear() <= 2101; date = date.plusDays(1)) {
+            assertMatches(LocalDateTime.of(date, time));
+        }
+        for (LocalDate date = LocalDate.of(9998, 1, 1); date.getYear() <= 10001; date = date.plusDays(1)) {
+            assertMatches(LocalDateTime.of(date, time));
+        }
+    }
+
+    @Test
+    void matchesFormatterForEverySecondOfADay() {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        for (int second = 0; second < 24 * 60 * 60; second++) {
+            assertMatches(LocalDateTime.of(date, LocalTime.ofSecondOfDay(second)));
+        }
+    }
+
+    @Test
+    void matchesFormatterForFractionalSeconds() {
+        LocalDateTime base = LocalDateTime.of(2025, 6, 15, 12, 0, 0);
+        for (int position = 1; position <= 100_000_000; position *= 10) {
+            for (int digit = 1; digit <= 9; digit++) {
+                assertMatches(base.withNano(digit * position));
+            }
+        }
+        assertMatches(base.withNano(999_999_999));
+        assertMatches(base.withNano(100_000_001));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            assertMatches(base.withNano(random.nextInt(1_000_000_000)));
+        }
+    }
+
+    @Test
+    void matchesFormatterForExtremeYears() {
+        int[] years = { -999_999_999, -10_000, -9999, -1000, -999, -1, 0, 1, 999, 1000, 9999, 10_000,
+                123_456, 999_999_999 };
+        for (int year : years) {
+            assertMatches(LocalDateTime.of(year, 12, 31, 23, 59, 59, 999_999_999));
+            assertMatches(LocalDateTime.of(year, 1, 1, 0, 0));
+        }
+        assertMatches(LocalDateTime.MIN);
+        assertMatches(LocalDateTime.MAX);
+        assertEquals(IsoDateTimeWriter.MAX_LENGTH, IsoDateTimeWriter.format(LocalDateTime.MAX).length());
+    }
+
+    private static void assertMatches(LocalDateTime value) {
+        String expected = value.format(FORMATTER);
+        assertEquals(expected, IsoDateTimeWriter.format(value));
+
+        byte[] bytes = new byte[IsoDateTimeWriter.MAX_LENGTH + 2];
+        int end = IsoDateTimeWriter.write(value, bytes, 2);
+        assertEquals(expected, new String(bytes, 2, end - 2, StandardCharsets.US_ASCII));
+
+        end = IsoDateTimeWriter.write(value.toEpochSecond(ZoneOffset.UTC), value.getNano(), bytes, 2);
+        assertEquals(expected, new String(bytes, 2, end - 2, StandardCharsets.US_ASCII));
+
+        char[] chars = new char[IsoDateTimeWriter.MAX_LENGTH + 1];
+        end = IsoDateTimeWriter.write(value, chars, 1);
+        assertEquals(expected, new String(chars, 1, end - 1));
+
+        StringBuilder sb = new StringBuilder("x");
+        IsoDateTimeWriter.write(value, sb);
+        assertEquals("x" + expected, sb.toString());
+    }
+}
@@ -0,0 +1,163 @@
+package com.benchmark.perf.util;
+
+import com.benchmark.perf.generator.EventDataGenerator;
+import com.benchmark.perf.serializer.CalendarEventSerializer;
+import com.benchmark.perf.serializer.SerializerRegistry;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonScannerTest {
+
+    private static final String[] VALID = {
+            "[]",
+            " { } ",
+            "0",
+            "-0.5e+10",
+            "1E3",
+            "\"caf\u00e9 \\u00e9 \\\" \\\\ \\/ \\b\\f\\n\\r\\t\"",
+            "true",
+            "null",
+            "[1, [2, [3]], {\"a\": {\"b\": [false]}}]",
+            "{\"emoji\": \"\ud83d\udcc5\"}",
+            "\t\r\n[ 1 ,\n2 ]\n",
+    };
+
+    private static final String[] INVALID = {
+            "",
+            "   ",
+            "[1,]", // trailing comma
+            "[1 2]",
+            "{\"a\" 1}",
+            "{a: 1}", // unquoted key, accepted by org.json
+            "{'a': 1}", // single quotes, accepted by org.json
+            "[1] x", // trailing content, ignored by org.json
+            "01",
+            "1.",
+            "-",
+            "1e",
+            ".5",
+            "tru",
+            "nul",
+            "\"unterminated",
+            "\"tab\tinside\"", // raw control char
+            "\"\\x\"",
+            "\"\\u12g4\"",
+            "\"\\u\uff11\uff12\uff13\uff14\"", // fullwidth digits are not hex
+            "[1}",
+            "{\"a\": 1]",
+            "NaN",
+            "\u00a0[]", // non-breaking space is not JSON whitespace
+    };
+
+    @Test
+    void acceptsValidDocumentsFromEverySource() {
+        for (String json : VALID) {
+            assertTrue(JsonScanner.isValid(json), json);
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            assertTrue(JsonScanner.isValid(bytes), json);
+            assertTrue(JsonScanner.isValid(ByteBuffer.wrap(bytes)), json);
+            assertTrue(JsonScanner.isValid(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()), json);
+        }
+    }
+
+    @Test
+    void rejectsMalformedDocumentsFromEverySource() {
+        for (String json : INVALID) {
+            assertFalse(JsonScanner.isValid(json), json);
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            assertFalse(JsonScanner.isValid(bytes), json);
+            assertFalse(JsonScanner.isValid(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()), json);
+        }
+    }
+
+    @Test
+    void rejectsMalformedUtf8() {
+        String[] hex = {
+                "22c32022", // truncated two-byte sequence
+                "22c0af22", // overlong '/'
+                "22e08080 22", // overlong three-byte
+                "22eda08022", // UTF-16 surrogate
+                "22f490808022", // above U+10FFFF
+                "2280 22", // stray continuation byte
+                "efbbbf5b5d", // byte order mark
+        };
+        for (String h : hex) {
+            assertFalse(JsonScanner.isValid(bytes(h.replace(" ", ""))), h);
+        }
+        assertTrue(JsonScanner.isValid(bytes("22f09f93a522")));
+    }
+
+    @Test
+    void limitsNestingDepth() {
+        String ok = "[".repeat(JsonScanner.MAX_DEPTH) + "]".repeat(JsonScanner.MAX_DEPTH);
+        String tooDeep = "[".repeat(JsonScanner.MAX_DEPTH + 1) + "]".repeat(JsonScanner.MAX_DEPTH + 1);
+        assertTrue(JsonScanner.isValid(ok));
+        assertFalse(JsonScanner.isValid(tooDeep));
+        assertFalse(JsonScanner.isValid("[".repeat(100_000)));
+    }
+
+    @Test
+    void reportsTopLevelElementOffsets() {
+        String json = " [1, \"two\" ,{\"three\": [3]}, [] ]";
+        int[] starts = new int[4];
+        int[] ends = new int[4];
+        assertEquals(4, JsonScanner.elementOffsets(json, starts, ends));
+        String[] elements = new String[4];
+        for (int i = 0; i < 4; i++) {
+            elements[i] = json.substring(starts[i], ends[i]);
+        }
+        assertArrayEquals(new String[] { "1", "\"two\"", "{\"three\": [3]}", "[]" }, elements);
+
+        // Offsets are relative to the buffer, not its backing array.
+        byte[] padded = ("xx" + json).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer slice = ByteBuffer.wrap(padded, 2, json.length()).slice();
+        int[] sliceStarts = new int[2];
+        int[] sliceEnds = new int[2];
+        assertEquals(4, JsonScanner.elementOffsets(slice, sliceStarts, sliceEnds));
+        assertArrayEquals(new int[] { starts[0], starts[1] }, sliceStarts);
+        assertArrayEquals(new int[] { ends[0], ends[1] }, sliceEnds);
+        assertEquals(0, slice.position());
+    }
+
+    @Test
+    void countElementsRejectsNonArrays() {
+        assertEquals(0, JsonScanner.countElements("[ ]"));
+        assertThrows(IllegalArgumentException.class, () -> JsonScanner.countElements("{}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonScanner.countElements("[1,]".getBytes()));
+        assertThrows(IllegalArgumentException.class, () -> JsonScanner.elementOffsets("[]", new int[1], null));
+        assertThrows(JSONException.class, () -> JsonUtils.getArrayLength("[1"));
+        assertFalse(JsonUtils.validateJson(null));
+    }
+
+    @Test
+    void agreesWithOrgJsonOnSerializerOutput() {
+        var events = EventDataGenerator.generateEvents(200);
+        for (CalendarEventSerializer serializer : SerializerRegistry.ALL_SERIALIZERS) {
+            String json = serializer.serialize(events);
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            assertTrue(JsonScanner.isValid(bytes), serializer.getName());
+            assertEquals(new JSONArray(json).length(), JsonScanner.countElements(bytes), serializer.getName());
+
+            int[] starts = new int[200];
+            int[] ends = new int[200];
+            JsonScanner.elementOffsets(bytes, starts, ends);
+            assertEquals(new JSONArray(json).getJSONObject(199).getString("id"),
+                    new JSONArray("[" + new String(bytes, starts[199], ends[199] - starts[199],
+                            StandardCharsets.UTF_8) + "]").getJSONObject(0).getString("id"));
+        }
+    }
+
+    private static byte[] bytes(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,48 @@
+package com.benchmark.perf.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Escaping tests covering every buffer flavour of the JsonUtils escape API.
+ */
+class JsonUtilsTest {
+
+    private static final String SPECIAL = "a\"b\\c\bd\fe\nf\rg\th\u0000i\u001fj\u007f caf\u00e9";
+    private static final String SPECIAL_ESCAPED = "a\\\"b\\\\c\\bd\\fe\\nf\\rg\\th\\u0000i\\u001fj\u007f caf\u00e9";
+
+    @Test
+    void escapeJsonReturnsCleanInputUnchanged() {
+        String clean = "user42@company.com";
+        assertSame(clean, JsonUtils.escapeJson(clean));
+        assertEquals("null", JsonUtils.escapeJson(null));
+    }
+
+    @Test
+    void escapeJsonVariantsAgree() throws IOException {
+        assertEquals(SPECIAL_ESCAPED, JsonUtils.escapeJson(SPECIAL));
+
+        StringBuilder builder = new StringBuilder("prefix:");
+        JsonUtils.escapeJson(SPECIAL, builder);
+        assertEquals("prefix:" + SPECIAL_ESCAPED, builder.toString());
+
+        StringWriter writer = new StringWriter();
+        JsonUtils.escapeJson(SPECIAL, writer);
+        assertEquals(SPECIAL_ESCAPED, writer.toString());
+
+        Utf8ByteWriter bytes = new Utf8ByteWriter(4);
+        JsonUtils.escapeJson(SPECIAL, bytes);
+        assertEquals(SPECIAL_ESCAPED, bytes.toString());
+    }
+
+    @Test
+    void indexOfFirstEscapeSkipsCleanPrefix() {
+        assertEquals(5, JsonUtils.indexOfFirstEscape("clean\"tail", 0));
+        assertEquals(10, JsonUtils.indexOfFirstEscape("clean\"tail", 6));
+        assertEquals(0, JsonUtils.indexOfFirstEscape("", 0));
+    }
+}